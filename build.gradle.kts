@@ -17,10 +17,12 @@ allprojects {
     }
 }
 
+// Modules that are built and tested but never published to Maven Central.
+val unpublishedProjects = setOf("sanitizer-benchmarks")
+
 subprojects {
     apply(plugin = "java-library")
     apply(plugin = "io.spring.dependency-management")
-    apply(plugin = "com.vanniktech.maven.publish")
     apply(plugin = "jacoco")
     apply(plugin = "net.ltgt.errorprone")
 
@@ -54,33 +56,37 @@ subprojects {
         "api"("org.jspecify:jspecify:1.0.0")
     }
 
-    mavenPublishing {
-        publishToMavenCentral(com.vanniktech.maven.publish.SonatypeHost.CENTRAL_PORTAL)
-        signAllPublications()
-        
-        coordinates(group.toString(), project.name, version.toString())
-
-        pom {
-            name.set(project.name)
-            description.set("Sanitizer Library")
-            url.set("https://github.com/rabinarayanpatra/sanitizer-lib")
-            licenses {
-                license {
-                    name.set("MIT License")
-                    url.set("https://opensource.org/licenses/MIT")
+    if (project.name !in unpublishedProjects) {
+        apply(plugin = "com.vanniktech.maven.publish")
+
+        mavenPublishing {
+            publishToMavenCentral(com.vanniktech.maven.publish.SonatypeHost.CENTRAL_PORTAL)
+            signAllPublications()
+
+            coordinates(group.toString(), project.name, version.toString())
+
+            pom {
+                name.set(project.name)
+                description.set("Sanitizer Library")
+                url.set("https://github.com/rabinarayanpatra/sanitizer-lib")
+                licenses {
+                    license {
+                        name.set("MIT License")
+                        url.set("https://opensource.org/licenses/MIT")
+                    }
                 }
-            }
-            developers {
-                developer {
-                    id.set("rabinarayanpatra")
-                    name.set("Rabinarayan Patra")
-                    email.set("rabinarayanpatra1999@gmail.com")
+                developers {
+                    developer {
+                        id.set("rabinarayanpatra")
+                        name.set("Rabinarayan Patra")
+                        email.set("rabinarayanpatra1999@gmail.com")
+                    }
+                }
+                scm {
+                    connection.set("scm:git:git://github.com/rabinarayanpatra/sanitizer-lib.git")
+                    developerConnection.set("scm:git:ssh://github.com/rabinarayanpatra/sanitizer-lib.git")
+                    url.set("https://github.com/rabinarayanpatra/sanitizer-lib")
                 }
-            }
-            scm {
-                connection.set("scm:git:git://github.com/rabinarayanpatra/sanitizer-lib.git")
-                developerConnection.set("scm:git:ssh://github.com/rabinarayanpatra/sanitizer-lib.git")
-                url.set("https://github.com/rabinarayanpatra/sanitizer-lib")
             }
         }
     }
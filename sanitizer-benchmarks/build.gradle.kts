@@ -0,0 +1,114 @@
+import groovy.json.JsonSlurper
+import net.ltgt.gradle.errorprone.errorprone
+
+plugins {
+    id("me.champeau.jmh") version "0.7.2"
+}
+
+dependencies {
+    jmhImplementation(project(":sanitizer-core"))
+    jmhImplementation(project(":sanitizer-spring"))
+    jmhImplementation(project(":sanitizer-jpa"))
+    jmhImplementation("com.fasterxml.jackson.core:jackson-databind")
+    jmhImplementation("org.hibernate.orm:hibernate-core")
+    jmhRuntimeOnly("com.h2database:h2")
+}
+
+val jmhResults = layout.buildDirectory.file("results/jmh/results.json")
+val baselineFile = layout.projectDirectory.file("baseline/jmh-baseline.json")
+
+// Results to compare against instead of the committed baseline, e.g. those of a run of the base branch on the same
+// machine: ./gradlew :sanitizer-benchmarks:jmhCompare -Pjmh.baseline=/path/to/results.json
+val comparedBaseline = (findProperty("jmh.baseline") as String?)?.let { file(it) } ?: baselineFile.asFile
+
+// Allowed slowdown (or extra allocation) relative to the baseline before jmhCompare fails,
+// e.g. ./gradlew :sanitizer-benchmarks:jmhCompare -Pjmh.threshold=0.15
+val regressionThreshold = (findProperty("jmh.threshold") as String?)?.toDouble() ?: 0.10
+
+jmh {
+    jmhVersion.set("1.37")
+    fork.set(1)
+    warmupIterations.set(3)
+    warmup.set("1s")
+    iterations.set(5)
+    timeOnIteration.set("1s")
+    profilers.add("gc")
+    resultFormat.set("JSON")
+    resultsFile.set(jmhResults)
+    // Run a subset with e.g. -Pjmh.includes=BuiltinSanitizerBenchmark
+    (findProperty("jmh.includes") as String?)?.let { includes.set(listOf(it)) }
+}
+
+// JMH-generated sources are not ours to lint
+tasks.named<JavaCompile>("jmhCompileGeneratedClasses") {
+    options.errorprone.enabled.set(false)
+}
+
+tasks.register<Copy>("jmhUpdateBaseline") {
+    group = "benchmark"
+    description = "Replaces baseline/jmh-baseline.json with the results of the last jmh run."
+    from(jmhResults)
+    into(baselineFile.asFile.parentFile)
+    rename { baselineFile.asFile.name }
+}
+
+tasks.register("jmhCompare") {
+    group = "benchmark"
+    description = "Fails when a benchmark in the last jmh run regressed against the baseline results."
+    val results = jmhResults.map { it.asFile }
+    val baseline = comparedBaseline
+    val threshold = regressionThreshold
+    inputs.file(results)
+    inputs.file(baseline)
+    doLast {
+        fun load(file: File): Map<String, Map<*, *>> {
+            @Suppress("UNCHECKED_CAST")
+            val runs = JsonSlurper().parse(file) as List<Map<*, *>>
+            return runs.associateBy { run ->
+                val params = (run["params"] as Map<*, *>?)?.entries
+                    ?.sortedBy { it.key.toString() }
+                    ?.joinToString(",", "(", ")") { "${it.key}=${it.value}" } ?: ""
+                "${run["benchmark"]}$params [${run["mode"]}]"
+            }
+        }
+
+        fun score(metric: Any?): Double = ((metric as Map<*, *>)["score"] as Number).toDouble()
+
+        // gc.alloc.rate.norm was reported as "·gc.alloc.rate.norm" before JMH 1.36
+        fun allocation(run: Map<*, *>): Double? = (run["secondaryMetrics"] as Map<*, *>?)
+            ?.entries?.firstOrNull { it.key.toString().endsWith("gc.alloc.rate.norm") }
+            ?.let { score(it.value) }
+
+        val current = load(results.get())
+        val reference = load(baseline)
+        // An empty baseline would skip every benchmark and pass without comparing anything
+        if (reference.isEmpty()) {
+            throw GradleException("${baseline.name} has no results; record one with jmh and jmhUpdateBaseline")
+        }
+        val failures = mutableListOf<String>()
+        for ((key, run) in current) {
+            val base = reference[key]
+            if (base == null) {
+                logger.lifecycle("No baseline for $key, skipping")
+                continue
+            }
+            val now = score(run["primaryMetric"])
+            val then = score(base["primaryMetric"])
+            // Throughput is better when higher, every other JMH mode reports time per operation
+            val slowdown = if (run["mode"] == "thrpt") (then - now) / then else (now - then) / then
+            if (slowdown > threshold) {
+                failures += "$key: %.3f -> %.3f (%.1f%% slower)".format(then, now, slowdown * 100)
+            }
+            val allocNow = allocation(run)
+            val allocThen = allocation(base)
+            // 8 bytes/op of slack keeps zero-allocation baselines from failing on profiler noise
+            if (allocNow != null && allocThen != null && allocNow > allocThen * (1 + threshold) + 8) {
+                failures += "$key: %.1f -> %.1f B/op allocated".format(allocThen, allocNow)
+            }
+        }
+        if (failures.isNotEmpty()) {
+            throw GradleException("Benchmarks regressed beyond ${threshold * 100}%:\n" + failures.joinToString("\n"))
+        }
+        logger.lifecycle("${current.size} benchmark results within ${threshold * 100}% of baseline")
+    }
+}
@@ -0,0 +1,83 @@
+package io.github.rabinarayanpatra.sanitizer.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.jspecify.annotations.Nullable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import io.github.rabinarayanpatra.sanitizer.core.FieldSanitizer;
+import io.github.rabinarayanpatra.sanitizer.core.TextSanitizer;
+
+/**
+ * Compares the scalar and the Vector API scan of the built-ins that look for
+ * characters to change. Both benchmarks run the same code; the vector fork
+ * adds {@code jdk.incubator.vector}, which switches the built-ins to the vector
+ * kernel. The input is clean ASCII repeated to {@code length} characters, so
+ * each call is one scan over the whole value.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+public class AsciiScanBenchmark {
+
+	@Param({"LOWER_CASE", "UPPER_CASE", "REMOVE_NON_PRINTABLE", "HTML_ESCAPE", "TRIM"})
+	public Builtin sanitizer;
+
+	@Param({"16", "256", "4096"})
+	public int length;
+
+	private FieldSanitizer<String> target;
+
+	private TextSanitizer text;
+
+	private String value;
+
+	private char[] chars;
+
+	private final StringBuilder out = new StringBuilder();
+
+	@Setup
+	public void setUp() {
+		target = sanitizer.create();
+		text = (TextSanitizer) target;
+		final String clean = sanitizer.input(Builtin.InputKind.CLEAN);
+		value = clean.repeat(length / clean.length() + 1).substring(0, length);
+		chars = value.toCharArray();
+	}
+
+	@Benchmark
+	@Fork(1)
+	public @Nullable String scalar() {
+		return target.sanitize(value);
+	}
+
+	@Benchmark
+	@Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+	public @Nullable String vector() {
+		return target.sanitize(value);
+	}
+
+	@Benchmark
+	@Fork(1)
+	public int scalarText() {
+		out.setLength(0);
+		text.sanitize(chars, 0, chars.length, out);
+		return out.length();
+	}
+
+	@Benchmark
+	@Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+	public int vectorText() {
+		out.setLength(0);
+		text.sanitize(chars, 0, chars.length, out);
+		return out.length();
+	}
+}
@@ -0,0 +1,65 @@
+package io.github.rabinarayanpatra.sanitizer.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import io.github.rabinarayanpatra.sanitizer.benchmarks.Beans.LargeBean;
+import io.github.rabinarayanpatra.sanitizer.core.SanitizationUtils;
+
+/**
+ * Compares sanitizing a batch of dirty {@link LargeBean}s one by one with
+ * {@link SanitizationUtils#apply(Object)} against the column-wise
+ * {@link SanitizationUtils#applyAll} on one thread and on the common pool. A
+ * fresh batch is created before each invocation and is not part of the
+ * measurement.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+public class BatchBenchmark {
+
+	@Param({"1000", "100000"})
+	public int size;
+
+	private List<LargeBean> beans;
+
+	@Setup(Level.Invocation)
+	public void createBatch() {
+		beans = new ArrayList<>(size);
+		for (int i = 0; i < size; i++) {
+			beans.add(LargeBean.dirty());
+		}
+	}
+
+	@Benchmark
+	public Object applyEach() {
+		for (final LargeBean bean : beans) {
+			SanitizationUtils.apply(bean);
+		}
+		return beans;
+	}
+
+	@Benchmark
+	public Object applyAll() {
+		SanitizationUtils.applyAll(beans);
+		return beans;
+	}
+
+	@Benchmark
+	public Object applyAllParallel() {
+		SanitizationUtils.applyAll(beans, ForkJoinPool.commonPool());
+		return beans;
+	}
+}
@@ -0,0 +1,184 @@
+package io.github.rabinarayanpatra.sanitizer.benchmarks;
+
+import org.jspecify.annotations.Nullable;
+
+import io.github.rabinarayanpatra.sanitizer.annotation.Sanitize;
+import io.github.rabinarayanpatra.sanitizer.builtin.CollapseWhitespaceSanitizer;
+import io.github.rabinarayanpatra.sanitizer.builtin.CreditCardMaskSanitizer;
+import io.github.rabinarayanpatra.sanitizer.builtin.EmailAliasStripSanitizer;
+import io.github.rabinarayanpatra.sanitizer.builtin.HtmlEscapeSanitizer;
+import io.github.rabinarayanpatra.sanitizer.builtin.IBANMaskSanitizer;
+import io.github.rabinarayanpatra.sanitizer.builtin.LowerCaseSanitizer;
+import io.github.rabinarayanpatra.sanitizer.builtin.NullIfBlankSanitizer;
+import io.github.rabinarayanpatra.sanitizer.builtin.PhoneE164Sanitizer;
+import io.github.rabinarayanpatra.sanitizer.builtin.RemoveNonPrintableSanitizer;
+import io.github.rabinarayanpatra.sanitizer.builtin.SSNMaskSanitizer;
+import io.github.rabinarayanpatra.sanitizer.builtin.SafeFilenameSanitizer;
+import io.github.rabinarayanpatra.sanitizer.builtin.SlugifySanitizer;
+import io.github.rabinarayanpatra.sanitizer.builtin.TitleCaseSanitizer;
+import io.github.rabinarayanpatra.sanitizer.builtin.TrimSanitizer;
+import io.github.rabinarayanpatra.sanitizer.builtin.TruncateSanitizer;
+import io.github.rabinarayanpatra.sanitizer.builtin.UpperCaseSanitizer;
+import io.github.rabinarayanpatra.sanitizer.builtin.UuidNormalizeSanitizer;
+import io.github.rabinarayanpatra.sanitizer.core.SanitizationUtils;
+
+/**
+ * Annotated beans shared by the benchmarks.
+ */
+final class Beans {
+
+	private Beans() {
+	}
+
+	/**
+	 * A typical request DTO with two sanitized fields.
+	 */
+	static final class SmallBean {
+
+		@Sanitize(using = {TrimSanitizer.class, CollapseWhitespaceSanitizer.class})
+		@Nullable
+		String name;
+
+		@Sanitize(using = {TrimSanitizer.class, LowerCaseSanitizer.class})
+		@Nullable
+		String email;
+
+		static SmallBean dirty() {
+			final SmallBean bean = new SmallBean();
+			bean.name = "  Jane \t  Mary\n\nDoe  ";
+			bean.email = "  Jane.DOE@Example.COM ";
+			return bean;
+		}
+
+		static SmallBean clean() {
+			final SmallBean bean = new SmallBean();
+			bean.name = "Jane Mary Doe";
+			bean.email = "jane.doe@example.com";
+			return bean;
+		}
+	}
+
+	/**
+	 * A wide customer record with twenty sanitized fields, half of them inherited.
+	 */
+	static class LargeBeanBase {
+
+		@Sanitize(using = {TrimSanitizer.class, TitleCaseSanitizer.class})
+		@Nullable
+		String firstName;
+
+		@Sanitize(using = {TrimSanitizer.class, TitleCaseSanitizer.class})
+		@Nullable
+		String lastName;
+
+		@Sanitize(using = EmailAliasStripSanitizer.class)
+		@Nullable
+		String email;
+
+		@Sanitize(using = PhoneE164Sanitizer.class)
+		@Nullable
+		String phone;
+
+		@Sanitize(using = PhoneE164Sanitizer.class)
+		@Nullable
+		String mobile;
+
+		@Sanitize(using = CreditCardMaskSanitizer.class)
+		@Nullable
+		String cardNumber;
+
+		@Sanitize(using = IBANMaskSanitizer.class)
+		@Nullable
+		String iban;
+
+		@Sanitize(using = SSNMaskSanitizer.class)
+		@Nullable
+		String ssn;
+
+		@Sanitize(using = UuidNormalizeSanitizer.class)
+		@Nullable
+		String externalId;
+
+		@Sanitize(using = {TrimSanitizer.class, UpperCaseSanitizer.class})
+		@Nullable
+		String countryCode;
+	}
+
+	static final class LargeBean extends LargeBeanBase {
+
+		@Sanitize(using = {TrimSanitizer.class, CollapseWhitespaceSanitizer.class})
+		@Nullable
+		String street;
+
+		@Sanitize(using = {TrimSanitizer.class, CollapseWhitespaceSanitizer.class})
+		@Nullable
+		String city;
+
+		@Sanitize(using = {TrimSanitizer.class, UpperCaseSanitizer.class})
+		@Nullable
+		String postalCode;
+
+		@Sanitize(using = NullIfBlankSanitizer.class)
+		@Nullable
+		String company;
+
+		@Sanitize(using = {RemoveNonPrintableSanitizer.class, CollapseWhitespaceSanitizer.class})
+		@Nullable
+		String notes;
+
+		@Sanitize(using = HtmlEscapeSanitizer.class)
+		@Nullable
+		String bio;
+
+		@Sanitize(using = SlugifySanitizer.class)
+		@Nullable
+		String handle;
+
+		@Sanitize(using = SafeFilenameSanitizer.class)
+		@Nullable
+		String avatarFile;
+
+		@Sanitize(using = TruncateSanitizer.class, params = "maxLength=64,suffix=...")
+		@Nullable
+		String headline;
+
+		@Sanitize(using = {TrimSanitizer.class, LowerCaseSanitizer.class})
+		@Nullable
+		String website;
+
+		static LargeBean dirty() {
+			final LargeBean bean = new LargeBean();
+			bean.firstName = "  jANE ";
+			bean.lastName = " dOE";
+			bean.email = "  Jane.Doe+news@Example.com ";
+			bean.phone = "(202) 555-0198";
+			bean.mobile = "+1 202 555 0100";
+			bean.cardNumber = "4111-1111-1111-1234";
+			bean.iban = "DE89 3704 0044 0532 0130 00";
+			bean.ssn = "123-45-6789";
+			bean.externalId = "{123E4567-E89B-12D3-A456-426614174000}";
+			bean.countryCode = " us ";
+			bean.street = "  1600   Pennsylvania\tAvenue  NW ";
+			bean.city = " Washington  ";
+			bean.postalCode = " dc 20500 ";
+			bean.company = "   ";
+			bean.notes = "VIP\u0007  customer,\tcall  before noon ";
+			bean.bio = "Likes <i>jazz</i> & 'blues'";
+			bean.handle = "  Jane Doe!  ";
+			bean.avatarFile = " avatars/jane:doe?.png ";
+			bean.headline = "Principal engineer working on distributed systems, databases and developer tooling";
+			bean.website = "  HTTPS://Example.COM/Jane ";
+			return bean;
+		}
+
+		static LargeBean clean() {
+			final LargeBean bean = dirty();
+			SanitizationUtils.apply(bean);
+			// Neither masking the card mask again nor escaping escaped HTML is a no-op, so
+			// those two fields get values that are stable under their sanitizers
+			bean.cardNumber = "****";
+			bean.bio = "Likes jazz and blues";
+			return bean;
+		}
+	}
+}
@@ -0,0 +1,130 @@
+package io.github.rabinarayanpatra.sanitizer.benchmarks;
+
+import java.util.function.Supplier;
+
+import io.github.rabinarayanpatra.sanitizer.builtin.CollapseWhitespaceSanitizer;
+import io.github.rabinarayanpatra.sanitizer.builtin.CreditCardMaskSanitizer;
+import io.github.rabinarayanpatra.sanitizer.builtin.EmailAliasStripSanitizer;
+import io.github.rabinarayanpatra.sanitizer.builtin.HtmlEscapeSanitizer;
+import io.github.rabinarayanpatra.sanitizer.builtin.IBANMaskSanitizer;
+import io.github.rabinarayanpatra.sanitizer.builtin.LowerCaseSanitizer;
+import io.github.rabinarayanpatra.sanitizer.builtin.NullIfBlankSanitizer;
+import io.github.rabinarayanpatra.sanitizer.builtin.PhoneE164Sanitizer;
+import io.github.rabinarayanpatra.sanitizer.builtin.RemoveNonPrintableSanitizer;
+import io.github.rabinarayanpatra.sanitizer.builtin.SSNMaskSanitizer;
+import io.github.rabinarayanpatra.sanitizer.builtin.SafeFilenameSanitizer;
+import io.github.rabinarayanpatra.sanitizer.builtin.SentenceCaseSanitizer;
+import io.github.rabinarayanpatra.sanitizer.builtin.SlugifySanitizer;
+import io.github.rabinarayanpatra.sanitizer.builtin.TitleCaseSanitizer;
+import io.github.rabinarayanpatra.sanitizer.builtin.TrimSanitizer;
+import io.github.rabinarayanpatra.sanitizer.builtin.TruncateSanitizer;
+import io.github.rabinarayanpatra.sanitizer.builtin.UpperCaseSanitizer;
+import io.github.rabinarayanpatra.sanitizer.builtin.UuidNormalizeSanitizer;
+import io.github.rabinarayanpatra.sanitizer.core.FieldSanitizer;
+
+/**
+ * Every built-in sanitizer together with realistic inputs for it: a value that
+ * is already clean, a typical dirty value, and one with non-ASCII text. The
+ * long input repeats the dirty value to a few kilobytes.
+ */
+public enum Builtin {
+
+	COLLAPSE_WHITESPACE(CollapseWhitespaceSanitizer::new, "Jane Mary Doe", "  Jane \t  Mary\n\nDoe  ",
+			"  Zoë   Ångström  "),
+
+	CREDIT_CARD_MASK(CreditCardMaskSanitizer::new, "****", "4111-1111-1111-1234", "４１１１ 1111 1111 1234"),
+
+	EMAIL_ALIAS_STRIP(EmailAliasStripSanitizer::new, "john.doe@example.com", "  John.Doe+marketing@Example.com ",
+			"zoë+news@exämple.com"),
+
+	HTML_ESCAPE(HtmlEscapeSanitizer::new, "Plain comment text", "<script>alert('x')</script> & \"q\"",
+			"Café <b>crème</b> & brûlée"),
+
+	IBAN_MASK(IBANMaskSanitizer::new, "******************0130", "DE89 3704 0044 0532 0130 00",
+			"DE89 3704 0044 0532"),
+
+	LOWER_CASE(LowerCaseSanitizer::new, "jane.doe@example.com", "Jane.DOE@Example.COM", "ZOË.ÅNGSTRÖM@EXAMPLE.COM"),
+
+	NULL_IF_BLANK(NullIfBlankSanitizer::new, "value", "   \t ", "　"),
+
+	PHONE_E164(PhoneE164Sanitizer::new, "+12025550198", "(202) 555-0198", "+49 (0) 30 123 456 ７８"),
+
+	REMOVE_NON_PRINTABLE(RemoveNonPrintableSanitizer::new, "Hello World\r\n", "Hello\u0000World\u0007\u001B[0m",
+			"Grüße\u0000aus\u0007Köln"),
+
+	SAFE_FILENAME(SafeFilenameSanitizer::new, "report_2025.pdf", " user:data/report|2025?.pdf ",
+			"Übersicht:2025/Q1.pdf"),
+
+	SENTENCE_CASE(SentenceCaseSanitizer::new, "Hello world.", "  hELLO WORLD. ", "élan vital est là."),
+
+	SLUGIFY(SlugifySanitizer::new, "cafe-con-leches", "  Café Con Leches!  ", "Crème Brûlée — Ñandú"),
+
+	SSN_MASK(SSNMaskSanitizer::new, "***-**-6789", "123-45-6789", "１２３-45-6789"),
+
+	TITLE_CASE(TitleCaseSanitizer::new, "Jane Mary Doe", "  jANE mARY dOE ", "zoë ångström"),
+
+	TRIM(TrimSanitizer::new, "Jane Doe", "  \tJane Doe \n", "  Zoë Ångström  "),
+
+	TRUNCATE(TruncateSanitizer::new, "short value", "x".repeat(300), "ü".repeat(300)),
+
+	UPPER_CASE(UpperCaseSanitizer::new, "GB29NWBK60161331926819", "gb29nwbk60161331926819", "straße"),
+
+	UUID_NORMALIZE(UuidNormalizeSanitizer::new, "123e4567-e89b-12d3-a456-426614174000",
+			"{123E4567-E89B-12D3-A456-426614174000}", "not-a-üuid");
+
+	private static final int LONG_LENGTH = 4096;
+
+	private final Supplier<FieldSanitizer<String>> factory;
+
+	private final String clean;
+
+	private final String dirty;
+
+	private final String unicode;
+
+	Builtin(final Supplier<FieldSanitizer<String>> factory, final String clean, final String dirty,
+			final String unicode) {
+		this.factory = factory;
+		this.clean = clean;
+		this.dirty = dirty;
+		this.unicode = unicode;
+	}
+
+	/**
+	 * Creates a new instance of the sanitizer with its default configuration.
+	 *
+	 * @return the sanitizer
+	 */
+	public FieldSanitizer<String> create() {
+		return factory.get();
+	}
+
+	/**
+	 * Returns the input of the given kind for this sanitizer.
+	 *
+	 * @param kind
+	 *            which flavour of input to return
+	 * @return the input value
+	 */
+	public String input(final InputKind kind) {
+		return switch (kind) {
+			case CLEAN -> clean;
+			case DIRTY -> dirty;
+			case UNICODE -> unicode;
+			case LONG -> {
+				final StringBuilder sb = new StringBuilder(LONG_LENGTH + dirty.length());
+				while (sb.length() < LONG_LENGTH) {
+					sb.append(dirty).append(' ');
+				}
+				yield sb.toString();
+			}
+		};
+	}
+
+	/**
+	 * The flavours of input every built-in is measured with.
+	 */
+	public enum InputKind {
+		CLEAN, DIRTY, LONG, UNICODE
+	}
+}
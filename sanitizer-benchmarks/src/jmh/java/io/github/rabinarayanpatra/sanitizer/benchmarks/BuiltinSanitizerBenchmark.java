@@ -0,0 +1,47 @@
+package io.github.rabinarayanpatra.sanitizer.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.jspecify.annotations.Nullable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import io.github.rabinarayanpatra.sanitizer.core.FieldSanitizer;
+
+/**
+ * Measures each built-in sanitizer on clean, dirty, long and non-ASCII input.
+ * Run with the {@code gc} profiler (the build default) to see how many bytes
+ * each call allocates; clean input should allocate nothing.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+public class BuiltinSanitizerBenchmark {
+
+	@Param
+	public Builtin sanitizer;
+
+	@Param
+	public Builtin.InputKind input;
+
+	private FieldSanitizer<String> target;
+
+	private String value;
+
+	@Setup
+	public void setUp() {
+		target = sanitizer.create();
+		value = sanitizer.input(input);
+	}
+
+	@Benchmark
+	public @Nullable String sanitize() {
+		return target.sanitize(value);
+	}
+}
@@ -0,0 +1,42 @@
+package io.github.rabinarayanpatra.sanitizer.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.github.rabinarayanpatra.sanitizer.benchmarks.Beans.LargeBean;
+import io.github.rabinarayanpatra.sanitizer.benchmarks.Beans.SmallBean;
+import io.github.rabinarayanpatra.sanitizer.core.SanitizationUtils;
+
+/**
+ * Measures the first {@link SanitizationUtils#apply(Object)} call for a class,
+ * which inspects it and builds its plan. Each fork is a fresh JVM, so the single
+ * measured call always misses the plan cache.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(20)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+public class ColdPlanBenchmark {
+
+	@Benchmark
+	public Object smallCold() {
+		final SmallBean bean = SmallBean.dirty();
+		SanitizationUtils.apply(bean);
+		return bean;
+	}
+
+	@Benchmark
+	public Object largeCold() {
+		final LargeBean bean = LargeBean.dirty();
+		SanitizationUtils.apply(bean);
+		return bean;
+	}
+}
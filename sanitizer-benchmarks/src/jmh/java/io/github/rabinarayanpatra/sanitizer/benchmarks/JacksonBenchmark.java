@@ -0,0 +1,100 @@
+package io.github.rabinarayanpatra.sanitizer.benchmarks;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.jspecify.annotations.Nullable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import io.github.rabinarayanpatra.sanitizer.annotation.Sanitize;
+import io.github.rabinarayanpatra.sanitizer.builtin.CollapseWhitespaceSanitizer;
+import io.github.rabinarayanpatra.sanitizer.builtin.EmailAliasStripSanitizer;
+import io.github.rabinarayanpatra.sanitizer.builtin.HtmlEscapeSanitizer;
+import io.github.rabinarayanpatra.sanitizer.builtin.PhoneE164Sanitizer;
+import io.github.rabinarayanpatra.sanitizer.builtin.TrimSanitizer;
+import io.github.rabinarayanpatra.sanitizer.spring.jackson.SanitizerModule;
+
+/**
+ * Compares deserializing a large JSON array with plain Jackson against the same
+ * mapper with {@link SanitizerModule} registered, in both the default and the
+ * streaming mode. The difference to plain Jackson is the cost of sanitization
+ * during deserialization.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class JacksonBenchmark {
+
+	private static final TypeReference<List<Customer>> CUSTOMERS = new TypeReference<>() {
+	};
+
+	@Param({"100", "10000"})
+	public int size;
+
+	private byte[] payload;
+
+	private ObjectReader plain;
+
+	private ObjectReader sanitizing;
+
+	private ObjectReader streaming;
+
+	@Setup
+	public void setUp() {
+		final StringBuilder json = new StringBuilder("[");
+		for (int i = 0; i < size; i++) {
+			json.append(i == 0 ? "" : ",").append("{\"name\":\"  Jane \\t Doe ").append(i)
+					.append("  \",\"email\":\" Jane.Doe+").append(i)
+					.append("@Example.com \",\"phone\":\"(202) 555-0198\",")
+					.append("\"comment\":\"<b>Great</b> product & \\\"fast\\\" shipping\"}");
+		}
+		payload = json.append(']').toString().getBytes(StandardCharsets.UTF_8);
+		plain = new ObjectMapper().readerFor(CUSTOMERS);
+		sanitizing = new ObjectMapper().registerModule(new SanitizerModule()).readerFor(CUSTOMERS);
+		streaming = new ObjectMapper().registerModule(new SanitizerModule(SanitizerModule.Mode.STREAMING))
+				.readerFor(CUSTOMERS);
+	}
+
+	@Benchmark
+	public List<Customer> plainJackson() throws IOException {
+		return plain.readValue(payload);
+	}
+
+	@Benchmark
+	public List<Customer> sanitizerModule() throws IOException {
+		return sanitizing.readValue(payload);
+	}
+
+	@Benchmark
+	public List<Customer> streamingSanitizerModule() throws IOException {
+		return streaming.readValue(payload);
+	}
+
+	public static class Customer {
+
+		@Sanitize(using = {TrimSanitizer.class, CollapseWhitespaceSanitizer.class})
+		public @Nullable String name;
+
+		@Sanitize(using = EmailAliasStripSanitizer.class)
+		public @Nullable String email;
+
+		@Sanitize(using = PhoneE164Sanitizer.class)
+		public @Nullable String phone;
+
+		@Sanitize(using = HtmlEscapeSanitizer.class)
+		public @Nullable String comment;
+	}
+}
@@ -0,0 +1,151 @@
+package io.github.rabinarayanpatra.sanitizer.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.jspecify.annotations.Nullable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import io.github.rabinarayanpatra.sanitizer.annotation.Sanitize;
+import io.github.rabinarayanpatra.sanitizer.builtin.CollapseWhitespaceSanitizer;
+import io.github.rabinarayanpatra.sanitizer.builtin.CreditCardMaskSanitizer;
+import io.github.rabinarayanpatra.sanitizer.builtin.EmailAliasStripSanitizer;
+import io.github.rabinarayanpatra.sanitizer.builtin.TrimSanitizer;
+import io.github.rabinarayanpatra.sanitizer.jpa.SanitizationEntityListener;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+
+/**
+ * Measures batch inserts into an in-memory H2 database through Hibernate, with
+ * and without {@link SanitizationEntityListener} on the entity. Both entities
+ * have the same columns; only the sanitized one carries {@code @Sanitize} and
+ * the listener.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class JpaBenchmark {
+
+	private static final int JDBC_BATCH_SIZE = 50;
+
+	@Param({"100", "1000"})
+	public int batchSize;
+
+	private SessionFactory sessionFactory;
+
+	@Setup
+	public void setUp() {
+		sessionFactory = new Configuration().addAnnotatedClass(SanitizedCustomer.class)
+				.addAnnotatedClass(PlainCustomer.class)
+				.setProperty(AvailableSettings.JAKARTA_JDBC_URL, "jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1")
+				.setProperty(AvailableSettings.JAKARTA_JDBC_USER, "sa")
+				.setProperty(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+				.setProperty(AvailableSettings.STATEMENT_BATCH_SIZE, String.valueOf(JDBC_BATCH_SIZE))
+				.setProperty(AvailableSettings.ORDER_INSERTS, "true").buildSessionFactory();
+	}
+
+	@TearDown(Level.Iteration)
+	public void deleteRows() {
+		sessionFactory.inTransaction(session -> {
+			session.createMutationQuery("delete from SanitizedCustomer").executeUpdate();
+			session.createMutationQuery("delete from PlainCustomer").executeUpdate();
+		});
+	}
+
+	@TearDown
+	public void tearDown() {
+		sessionFactory.close();
+	}
+
+	@Benchmark
+	public void plainInsert() {
+		insert(PlainCustomer::dirty);
+	}
+
+	@Benchmark
+	public void sanitizedInsert() {
+		insert(SanitizedCustomer::dirty);
+	}
+
+	private void insert(final IntFunction<Object> entities) {
+		sessionFactory.inTransaction(session -> {
+			for (int i = 0; i < batchSize; i++) {
+				session.persist(entities.apply(i));
+				if ((i + 1) % JDBC_BATCH_SIZE == 0) {
+					session.flush();
+					session.clear();
+				}
+			}
+		});
+	}
+
+	@Entity(name = "SanitizedCustomer")
+	@EntityListeners(SanitizationEntityListener.class)
+	public static class SanitizedCustomer {
+
+		@Id
+		@GeneratedValue
+		@Nullable
+		Long id;
+
+		@Sanitize(using = {TrimSanitizer.class, CollapseWhitespaceSanitizer.class})
+		@Nullable
+		String name;
+
+		@Sanitize(using = EmailAliasStripSanitizer.class)
+		@Nullable
+		String email;
+
+		@Sanitize(using = CreditCardMaskSanitizer.class)
+		@Nullable
+		String cardNumber;
+
+		static SanitizedCustomer dirty(final int i) {
+			final SanitizedCustomer customer = new SanitizedCustomer();
+			customer.name = "  Jane \t Doe " + i + "  ";
+			customer.email = " Jane.Doe+" + i + "@Example.com ";
+			customer.cardNumber = "4111-1111-1111-1234";
+			return customer;
+		}
+	}
+
+	@Entity(name = "PlainCustomer")
+	public static class PlainCustomer {
+
+		@Id
+		@GeneratedValue
+		@Nullable
+		Long id;
+
+		@Nullable
+		String name;
+
+		@Nullable
+		String email;
+
+		@Nullable
+		String cardNumber;
+
+		static PlainCustomer dirty(final int i) {
+			final PlainCustomer customer = new PlainCustomer();
+			customer.name = "  Jane \t Doe " + i + "  ";
+			customer.email = " Jane.Doe+" + i + "@Example.com ";
+			customer.cardNumber = "4111-1111-1111-1234";
+			return customer;
+		}
+	}
+}
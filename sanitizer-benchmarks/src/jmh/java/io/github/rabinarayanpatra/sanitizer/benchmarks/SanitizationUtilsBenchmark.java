@@ -0,0 +1,65 @@
+package io.github.rabinarayanpatra.sanitizer.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import io.github.rabinarayanpatra.sanitizer.benchmarks.Beans.LargeBean;
+import io.github.rabinarayanpatra.sanitizer.benchmarks.Beans.SmallBean;
+import io.github.rabinarayanpatra.sanitizer.core.SanitizationUtils;
+
+/**
+ * Measures {@link SanitizationUtils#apply(Object)} with a warm plan cache on a
+ * small and a large bean. The {@code dirty} benchmarks include creating the
+ * bean so that every call has real work to do; the {@code clean} benchmarks
+ * re-apply to an already sanitized bean, which should allocate nothing.
+ *
+ * @see ColdPlanBenchmark
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+public class SanitizationUtilsBenchmark {
+
+	private SmallBean cleanSmall;
+
+	private LargeBean cleanLarge;
+
+	@Setup
+	public void setUp() {
+		cleanSmall = SmallBean.clean();
+		cleanLarge = LargeBean.clean();
+	}
+
+	@Benchmark
+	public Object smallDirty() {
+		final SmallBean bean = SmallBean.dirty();
+		SanitizationUtils.apply(bean);
+		return bean;
+	}
+
+	@Benchmark
+	public Object smallClean() {
+		SanitizationUtils.apply(cleanSmall);
+		return cleanSmall;
+	}
+
+	@Benchmark
+	public Object largeDirty() {
+		final LargeBean bean = LargeBean.dirty();
+		SanitizationUtils.apply(bean);
+		return bean;
+	}
+
+	@Benchmark
+	public Object largeClean() {
+		SanitizationUtils.apply(cleanLarge);
+		return cleanLarge;
+	}
+}
@@ -0,0 +1,8 @@
+/**
+ * JMH benchmarks for the built-in sanitizers, {@code SanitizationUtils} and the
+ * Jackson and JPA integrations.
+ */
+@NullMarked
+package io.github.rabinarayanpatra.sanitizer.benchmarks;
+
+import org.jspecify.annotations.NullMarked;
@@ -1,3 +1,40 @@
 dependencies {
     testImplementation("org.junit.jupiter:junit-jupiter")
 }
+
+// VectorAsciiKernel uses the incubating Vector API. It lives in a source set of its own so that only this class is
+// compiled with the module; the rest of the library, its javadoc and its consumers never need the flag. The classes
+// are packaged into the main jar, and AsciiScan loads the kernel by name when the application adds the module.
+val vectorModule = listOf("--add-modules", "jdk.incubator.vector")
+
+val vector: SourceSet by sourceSets.creating {
+    compileClasspath += sourceSets.main.get().output + sourceSets.main.get().compileClasspath
+}
+
+tasks.named<JavaCompile>(vector.compileJavaTaskName) {
+    // "using incubating module(s)" has no lint category of its own; -Xlint:none is the only way to silence it
+    options.compilerArgs.addAll(vectorModule + "-Xlint:none")
+}
+
+sourceSets.test {
+    compileClasspath += vector.output
+    runtimeClasspath += vector.output
+}
+
+tasks.jar {
+    from(vector.output)
+}
+
+// the publishing plugin registers sourcesJar late
+tasks.withType<Jar>().matching { it.name == "sourcesJar" }.configureEach {
+    from(vector.allSource)
+}
+
+tasks.jacocoTestReport {
+    sourceSets(vector)
+}
+
+tasks.withType<Test>().configureEach {
+    // the tests cover both kernels
+    jvmArgs(vectorModule)
+}
@@ -0,0 +1,44 @@
+package io.github.rabinarayanpatra.sanitizer.annotation;
+
+/**
+ * Which way data must be flowing for a {@link Sanitize} annotation to apply.
+ * <p>
+ * {@link #INBOUND} sanitizers clean data coming into the application: they run
+ * in {@link io.github.rabinarayanpatra.sanitizer.core.SanitizationUtils#apply(Object)},
+ * the JPA entity listener and during JSON deserialization. {@link #OUTBOUND}
+ * sanitizers only run while a value is written out, for example by the Jackson
+ * {@code SanitizerModule} when serializing a response, and never change the
+ * object itself. This makes them suitable for masking values that are stored in
+ * full but must not leave the application.
+ *
+ * @since 1.2.0
+ */
+public enum Direction {
+
+	/**
+	 * Sanitize incoming data. This is the default.
+	 */
+	INBOUND,
+
+	/**
+	 * Sanitize data only while it is written out.
+	 */
+	OUTBOUND,
+
+	/**
+	 * Sanitize in both directions.
+	 */
+	BOTH;
+
+	/**
+	 * Returns whether an annotation with this direction applies when data flows in
+	 * {@code flow}.
+	 *
+	 * @param flow
+	 *            {@link #INBOUND} or {@link #OUTBOUND}
+	 * @return {@code true} if this is {@code flow} or {@link #BOTH}
+	 */
+	public boolean appliesTo(final Direction flow) {
+		return this == BOTH || this == flow;
+	}
+}
@@ -61,4 +61,15 @@ public @interface Sanitize {
 	 * @since 1.1.0
 	 */
 	String params() default "";
+
+	/**
+	 * When these sanitizers run. {@link Direction#OUTBOUND} sanitizers are
+	 * skipped by {@link io.github.rabinarayanpatra.sanitizer.core.SanitizationUtils}
+	 * and only applied while the value is serialized, e.g. to mask a card number in
+	 * an API response without changing the stored value.
+	 *
+	 * @return the direction, {@link Direction#INBOUND} by default
+	 * @since 1.2.0
+	 */
+	Direction direction() default Direction.INBOUND;
 }
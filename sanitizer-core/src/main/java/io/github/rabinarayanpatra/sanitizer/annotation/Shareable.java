@@ -0,0 +1,36 @@
+package io.github.rabinarayanpatra.sanitizer.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares that one instance of the annotated
+ * {@link io.github.rabinarayanpatra.sanitizer.core.FieldSanitizer} may be used
+ * for every field that declares it with the same {@code params}, from any
+ * number of threads.
+ * <p>
+ * {@code SanitizationUtils} normally creates one sanitizer instance per
+ * annotated field. Sanitizers without instance fields are shared automatically;
+ * this annotation extends sharing to sanitizers whose fields do not change after
+ * {@code configure} (such as precomputed parameters) or are otherwise
+ * thread-safe. It is not inherited: a subclass is only shared if it is
+ * annotated itself or has no instance fields.
+ *
+ * <pre>
+ * {@code
+ * @Shareable
+ * public class MaskSanitizer extends ConfigurableFieldSanitizer<String> {
+ *     private int reveal = 4; // only written in onConfigure()
+ *     ...
+ * }
+ * }
+ * </pre>
+ *
+ * @since 1.2.0
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface Shareable {
+}
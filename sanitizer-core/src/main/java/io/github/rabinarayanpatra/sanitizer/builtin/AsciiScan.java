@@ -0,0 +1,223 @@
+package io.github.rabinarayanpatra.sanitizer.builtin;
+
+/**
+ * Finds the first character a built-in sanitizer has to change, so the common
+ * case of text that needs no change is decided by one scan.
+ * <p>
+ * When the {@code jdk.incubator.vector} module is present, for example because
+ * the application was started with {@code --add-modules jdk.incubator.vector},
+ * ranges are scanned with {@code VectorAsciiKernel}, which tests 8 to 32
+ * characters per instruction depending on the CPU. It is compiled on its own,
+ * from {@code src/vector}, so that nothing else needs the incubating module,
+ * and is loaded by name. Otherwise, and for the tail of a range shorter than
+ * one vector, the scalar predicates of {@link Match} are used. Both give the
+ * same result.
+ */
+final class AsciiScan {
+
+	/**
+	 * Strings shorter than this are scanned in place instead of being copied
+	 * into a character array for the vector kernel.
+	 */
+	static final int MIN_VECTOR_LENGTH = 64;
+
+	private static final int CHUNK = 512;
+
+	private static final Kernel KERNEL = loadKernel();
+
+	// strings are copied here chunk by chunk; only used with the vector kernel, and
+	// not by virtual threads, which would each keep an array for their lifetime
+	private static final ThreadLocal<char[]> SCRATCH = ThreadLocal.withInitial(() -> new char[CHUNK]);
+
+	private AsciiScan() {
+	}
+
+	/**
+	 * The characters a scan looks for.
+	 */
+	enum Match {
+
+		/** Characters outside ASCII, {@code >= 0x80}. */
+		NON_ASCII {
+			@Override
+			boolean test(final char c) {
+				return c >= 0x80;
+			}
+		},
+
+		/** {@code A-Z}, or characters outside ASCII whose case may change. */
+		UPPER_OR_NON_ASCII {
+			@Override
+			boolean test(final char c) {
+				return (c >= 'A' && c <= 'Z') || c >= 0x80;
+			}
+		},
+
+		/** {@code a-z}, or characters outside ASCII whose case may change. */
+		LOWER_OR_NON_ASCII {
+			@Override
+			boolean test(final char c) {
+				return (c >= 'a' && c <= 'z') || c >= 0x80;
+			}
+		},
+
+		/** See {@link Chars#isNonPrintable(char)}. */
+		NON_PRINTABLE {
+			@Override
+			boolean test(final char c) {
+				return Chars.isNonPrintable(c);
+			}
+		},
+
+		/** The characters {@code HtmlEscapeSanitizer} replaces: {@code & < > " '}. */
+		HTML_SPECIAL {
+			@Override
+			boolean test(final char c) {
+				return c == '&' || c == '<' || c == '>' || c == '"' || c == '\'';
+			}
+		};
+
+		/**
+		 * Returns whether {@code c} belongs to this class.
+		 *
+		 * @param c
+		 *            the character to test
+		 * @return whether a scan for this class stops at {@code c}
+		 */
+		abstract boolean test(char c);
+	}
+
+	/**
+	 * Scans a range of a character array for a {@link Match}.
+	 */
+	interface Kernel {
+
+		/**
+		 * Returns the index of the first character in {@code buf[from, to)}
+		 * matching {@code match}, or {@code to} if there is none.
+		 *
+		 * @param match
+		 *            the characters to look for
+		 * @param buf
+		 *            the characters
+		 * @param from
+		 *            the first index, inclusive
+		 * @param to
+		 *            the last index, exclusive
+		 * @return the index of the first match, or {@code to}
+		 */
+		int indexOf(Match match, char[] buf, int from, int to);
+	}
+
+	/**
+	 * Returns whether the vector kernel is in use.
+	 *
+	 * @return {@code false} if ranges are scanned one character at a time
+	 */
+	static boolean isVectorized() {
+		return KERNEL != ScalarKernel.INSTANCE;
+	}
+
+	/**
+	 * Returns the index of the first character in {@code buf[from, to)} matching
+	 * {@code match}, or {@code to} if there is none.
+	 *
+	 * @param match
+	 *            the characters to look for
+	 * @param buf
+	 *            the characters
+	 * @param from
+	 *            the first index, inclusive
+	 * @param to
+	 *            the last index, exclusive
+	 * @return the index of the first match, or {@code to}
+	 */
+	static int indexOf(final Match match, final char[] buf, final int from, final int to) {
+		return KERNEL.indexOf(match, buf, from, to);
+	}
+
+	/**
+	 * Returns the index of the first character of {@code s} matching
+	 * {@code match}, or {@code s.length()} if there is none.
+	 *
+	 * @param match
+	 *            the characters to look for
+	 * @param s
+	 *            the string to scan
+	 * @return the index of the first match, or {@code s.length()}
+	 */
+	static int indexOf(final Match match, final String s) {
+		final int length = s.length();
+		if (length < MIN_VECTOR_LENGTH || KERNEL == ScalarKernel.INSTANCE) {
+			for (int i = 0; i < length; i++) {
+				if (match.test(s.charAt(i))) {
+					return i;
+				}
+			}
+			return length;
+		}
+		final char[] chunk = Thread.currentThread().isVirtual() ? new char[Math.min(CHUNK, length)] : SCRATCH.get();
+		for (int i = 0; i < length; i += chunk.length) {
+			final int n = Math.min(chunk.length, length - i);
+			s.getChars(i, i + n, chunk, 0);
+			final int hit = KERNEL.indexOf(match, chunk, 0, n);
+			if (hit < n) {
+				return i + hit;
+			}
+		}
+		return length;
+	}
+
+	/**
+	 * Scans one character at a time; also finishes the ranges the vector kernel
+	 * leaves over.
+	 *
+	 * @param match
+	 *            the characters to look for
+	 * @param buf
+	 *            the characters
+	 * @param from
+	 *            the first index, inclusive
+	 * @param to
+	 *            the last index, exclusive
+	 * @return the index of the first match, or {@code to}
+	 */
+	static int scalarIndexOf(final Match match, final char[] buf, final int from, final int to) {
+		for (int i = from; i < to; i++) {
+			if (match.test(buf[i])) {
+				return i;
+			}
+		}
+		return to;
+	}
+
+	private static Kernel loadKernel() {
+		if (ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty()) {
+			return ScalarKernel.INSTANCE;
+		}
+		try {
+			return Class.forName(AsciiScan.class.getPackageName() + ".VectorAsciiKernel").asSubclass(Kernel.class)
+					.getDeclaredConstructor().newInstance();
+		} catch (final ReflectiveOperationException | LinkageError e) {
+			// left out of a repackaged jar, or the module is present but not readable,
+			// e.g. on a custom module layer
+			return ScalarKernel.INSTANCE;
+		}
+	}
+
+	/**
+	 * The fallback used without the Vector API.
+	 */
+	static final class ScalarKernel implements Kernel {
+
+		static final ScalarKernel INSTANCE = new ScalarKernel();
+
+		private ScalarKernel() {
+		}
+
+		@Override
+		public int indexOf(final Match match, final char[] buf, final int from, final int to) {
+			return scalarIndexOf(match, buf, from, to);
+		}
+	}
+}
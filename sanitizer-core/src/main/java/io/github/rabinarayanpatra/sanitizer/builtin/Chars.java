@@ -0,0 +1,298 @@
+package io.github.rabinarayanpatra.sanitizer.builtin;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Character classes shared by the built-in sanitizers' single-pass loops.
+ * <p>
+ * Each predicate matches exactly the character class of the regular expression
+ * the sanitizers used before, so behavior is unchanged.
+ * <p>
+ * The predicates that fused chains in the {@code core} package apply on behalf
+ * of the built-ins are public, so both paths share one definition. This class
+ * is not part of the supported API.
+ */
+public final class Chars {
+
+	private Chars() {
+	}
+
+	/**
+	 * Matches the regex class {@code \s}: space, tab, line feed, vertical tab,
+	 * form feed and carriage return.
+	 *
+	 * @param c
+	 *            the character to test
+	 * @return whether {@code c} is regex whitespace
+	 */
+	public static boolean isWhitespace(final char c) {
+		return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+	}
+
+	/**
+	 * Matches the regex class {@code \d}: the ASCII digits {@code 0-9}.
+	 *
+	 * @param c
+	 *            the character to test
+	 * @return whether {@code c} is an ASCII digit
+	 */
+	static boolean isDigit(final char c) {
+		return c >= '0' && c <= '9';
+	}
+
+	/**
+	 * Matches the regex class {@code [\p{Cntrl}&&[^\t\r\n]]}: ASCII control
+	 * characters and DEL, except tab, carriage return and line feed.
+	 *
+	 * @param c
+	 *            the character to test
+	 * @return whether {@code c} is a non-printable control character
+	 */
+	public static boolean isNonPrintable(final char c) {
+		return (c < 0x20 && c != '\t' && c != '\r' && c != '\n') || c == 0x7F;
+	}
+
+	/**
+	 * Matches the characters reserved in filenames: {@code \ / : * ? " < > |}.
+	 *
+	 * @param c
+	 *            the character to test
+	 * @return whether {@code c} is reserved in filenames
+	 */
+	public static boolean isFilenameReserved(final char c) {
+		return switch (c) {
+			case '\\', '/', ':', '*', '?', '"', '<', '>', '|' -> true;
+			default -> false;
+		};
+	}
+
+	/**
+	 * Matches the Unicode block {@code \p{InCombiningDiacriticalMarks}}
+	 * ({@code U+0300..U+036F}).
+	 *
+	 * @param c
+	 *            the character to test
+	 * @return whether {@code c} is a combining diacritical mark
+	 */
+	static boolean isCombiningDiacritical(final char c) {
+		return c >= '\u0300' && c <= '\u036F';
+	}
+
+	/**
+	 * Counts the ASCII digits in {@code s}.
+	 *
+	 * @param s
+	 *            the string to scan
+	 * @return the number of characters matching {@code \d}
+	 */
+	static int countDigits(final String s) {
+		int count = 0;
+		for (int i = 0; i < s.length(); i++) {
+			if (isDigit(s.charAt(i))) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * Returns the last {@code n} ASCII digits of {@code s}, in order. The caller
+	 * must ensure {@code s} contains at least {@code n} digits.
+	 *
+	 * @param s
+	 *            the string to scan
+	 * @param n
+	 *            the number of trailing digits to collect
+	 * @return the trailing digits
+	 */
+	static String lastDigits(final String s, final int n) {
+		final char[] out = new char[n];
+		int pos = n;
+		for (int i = s.length() - 1; i >= 0 && pos > 0; i--) {
+			final char c = s.charAt(i);
+			if (isDigit(c)) {
+				out[--pos] = c;
+			}
+		}
+		return new String(out);
+	}
+
+	/**
+	 * Returns the index of the first character in {@code buf[from, to)} that
+	 * {@link String#trim()} keeps, or {@code to} if there is none.
+	 *
+	 * @param buf
+	 *            the characters
+	 * @param from
+	 *            the first index, inclusive
+	 * @param to
+	 *            the last index, exclusive
+	 * @return the start of the trimmed range
+	 */
+	static int trimStart(final char[] buf, final int from, final int to) {
+		int start = from;
+		while (start < to && buf[start] <= ' ') {
+			start++;
+		}
+		return start;
+	}
+
+	/**
+	 * Returns the end of the range {@code buf[from, to)} without the trailing
+	 * characters {@link String#trim()} removes.
+	 *
+	 * @param buf
+	 *            the characters
+	 * @param from
+	 *            the first index, inclusive
+	 * @param to
+	 *            the last index, exclusive
+	 * @return the end of the trimmed range, exclusive
+	 */
+	static int trimEnd(final char[] buf, final int from, final int to) {
+		int end = to;
+		while (end > from && buf[end - 1] <= ' ') {
+			end--;
+		}
+		return end;
+	}
+
+	/**
+	 * Returns whether {@code buf[from, to)} contains only ASCII characters.
+	 *
+	 * @param buf
+	 *            the characters
+	 * @param from
+	 *            the first index, inclusive
+	 * @param to
+	 *            the last index, exclusive
+	 * @return whether no character is {@code >= 0x80}
+	 */
+	public static boolean isAscii(final char[] buf, final int from, final int to) {
+		return AsciiScan.indexOf(AsciiScan.Match.NON_ASCII, buf, from, to) == to;
+	}
+
+	/**
+	 * Returns whether {@code s} contains only ASCII characters.
+	 *
+	 * @param s
+	 *            the string to scan
+	 * @return whether no character is {@code >= 0x80}
+	 */
+	public static boolean isAscii(final String s) {
+		return AsciiScan.indexOf(AsciiScan.Match.NON_ASCII, s) == s.length();
+	}
+
+	/**
+	 * Returns whether {@code buf[from, to)} is empty or contains only
+	 * {@link Character#isWhitespace(char) whitespace}, like
+	 * {@link String#isBlank()}.
+	 *
+	 * @param buf
+	 *            the characters
+	 * @param from
+	 *            the first index, inclusive
+	 * @param to
+	 *            the last index, exclusive
+	 * @return whether the range is blank
+	 */
+	static boolean isBlank(final char[] buf, final int from, final int to) {
+		for (int i = from; i < to; i++) {
+			if (!Character.isWhitespace(buf[i])) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Counts the characters in {@code buf[from, to)} matching {@code \s}.
+	 *
+	 * @param buf
+	 *            the characters
+	 * @param from
+	 *            the first index, inclusive
+	 * @param to
+	 *            the last index, exclusive
+	 * @return the number of regex whitespace characters
+	 */
+	static int countWhitespace(final char[] buf, final int from, final int to) {
+		int count = 0;
+		for (int i = from; i < to; i++) {
+			if (isWhitespace(buf[i])) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * Counts the ASCII digits in {@code buf[from, to)}.
+	 *
+	 * @param buf
+	 *            the characters
+	 * @param from
+	 *            the first index, inclusive
+	 * @param to
+	 *            the last index, exclusive
+	 * @return the number of characters matching {@code \d}
+	 */
+	static int countDigits(final char[] buf, final int from, final int to) {
+		int count = 0;
+		for (int i = from; i < to; i++) {
+			if (isDigit(buf[i])) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * Appends the last {@code n} ASCII digits of {@code buf[from, to)}, in order.
+	 * The caller must ensure the range contains at least {@code n} digits.
+	 *
+	 * @param buf
+	 *            the characters
+	 * @param from
+	 *            the first index, inclusive
+	 * @param to
+	 *            the last index, exclusive
+	 * @param n
+	 *            the number of trailing digits to append
+	 * @param out
+	 *            where the digits are appended
+	 */
+	static void appendLastDigits(final char[] buf, final int from, final int to, final int n,
+			final StringBuilder out) {
+		int start = to;
+		int found = 0;
+		while (found < n) {
+			if (isDigit(buf[--start])) {
+				found++;
+			}
+		}
+		for (int i = start; i < to; i++) {
+			if (isDigit(buf[i])) {
+				out.append(buf[i]);
+			}
+		}
+	}
+
+	/**
+	 * Appends the result of a {@code String} sanitizer, for the inputs a
+	 * character-array path hands over to it.
+	 *
+	 * @param result
+	 *            the sanitized value, possibly {@code null}
+	 * @param out
+	 *            where a non-null result is appended
+	 * @return {@code false} if {@code result} is {@code null}
+	 */
+	static boolean append(final @Nullable String result, final StringBuilder out) {
+		if (result == null) {
+			return false;
+		}
+		out.append(result);
+		return true;
+	}
+}
@@ -3,6 +3,7 @@ package io.github.rabinarayanpatra.sanitizer.builtin;
 import org.jspecify.annotations.Nullable;
 
 import io.github.rabinarayanpatra.sanitizer.core.FieldSanitizer;
+import io.github.rabinarayanpatra.sanitizer.core.TextSanitizer;
 
 /**
  * Sanitizer that trims leading and trailing whitespace and collapses internal
@@ -21,7 +22,7 @@ import io.github.rabinarayanpatra.sanitizer.core.FieldSanitizer;
  * @see TrimSanitizer
  * @since 1.0.0
  */
-public class CollapseWhitespaceSanitizer implements FieldSanitizer<String> {
+public class CollapseWhitespaceSanitizer implements FieldSanitizer<String>, TextSanitizer {
 
 	/**
 	 * Default constructor.
@@ -41,6 +42,69 @@ public class CollapseWhitespaceSanitizer implements FieldSanitizer<String> {
 		if (in == null) {
 			return null;
 		}
-		return in.trim().replaceAll("\\s+", " ");
+		final String trimmed = in.trim();
+		if (isCollapsed(trimmed)) {
+			return trimmed;
+		}
+		final StringBuilder sb = new StringBuilder(trimmed.length());
+		boolean inRun = false;
+		for (int i = 0; i < trimmed.length(); i++) {
+			final char c = trimmed.charAt(i);
+			if (Chars.isWhitespace(c)) {
+				if (!inRun) {
+					sb.append(' ');
+					inRun = true;
+				}
+			} else {
+				sb.append(c);
+				inRun = false;
+			}
+		}
+		return sb.toString();
+	}
+
+	/**
+	 * Appends the trimmed input with runs of whitespace replaced by a single space.
+	 *
+	 * @param buf
+	 *            the array holding the input
+	 * @param off
+	 *            the index of the first input character
+	 * @param len
+	 *            the number of input characters
+	 * @param out
+	 *            where the sanitized text is appended
+	 * @return {@code true}; the result is never {@code null}
+	 */
+	@Override
+	public boolean sanitize(final char[] buf, final int off, final int len, final StringBuilder out) {
+		final int end = Chars.trimEnd(buf, off, off + len);
+		boolean inRun = false;
+		for (int i = Chars.trimStart(buf, off, end); i < end; i++) {
+			final char c = buf[i];
+			if (Chars.isWhitespace(c)) {
+				if (!inRun) {
+					out.append(' ');
+					inRun = true;
+				}
+			} else {
+				out.append(c);
+				inRun = false;
+			}
+		}
+		return true;
+	}
+
+	private static boolean isCollapsed(final String s) {
+		boolean prevWhitespace = false;
+		for (int i = 0; i < s.length(); i++) {
+			final char c = s.charAt(i);
+			final boolean whitespace = Chars.isWhitespace(c);
+			if (whitespace && (c != ' ' || prevWhitespace)) {
+				return false;
+			}
+			prevWhitespace = whitespace;
+		}
+		return true;
 	}
 }
@@ -3,6 +3,7 @@ package io.github.rabinarayanpatra.sanitizer.builtin;
 import org.jspecify.annotations.Nullable;
 
 import io.github.rabinarayanpatra.sanitizer.core.FieldSanitizer;
+import io.github.rabinarayanpatra.sanitizer.core.TextSanitizer;
 
 /**
  * Sanitizer that masks a credit card number by retaining only the last four
@@ -22,7 +23,7 @@ import io.github.rabinarayanpatra.sanitizer.core.FieldSanitizer;
  * @see FieldSanitizer
  * @since 1.0.0
  */
-public class CreditCardMaskSanitizer implements FieldSanitizer<String> {
+public class CreditCardMaskSanitizer implements FieldSanitizer<String>, TextSanitizer {
 
 	/**
 	 * Default constructor.
@@ -44,12 +45,34 @@ public class CreditCardMaskSanitizer implements FieldSanitizer<String> {
 			return null;
 		}
 
-		final String digits = input.replaceAll("\\D", "");
-		if (digits.length() <= 4) {
+		if (Chars.countDigits(input) <= 4) {
 			return "****";
 		}
 
-		final String last4 = digits.substring(digits.length() - 4);
-		return "**** **** **** " + last4;
+		return "**** **** **** " + Chars.lastDigits(input, 4);
+	}
+
+	/**
+	 * Appends the masked card number read from {@code buf[off, off + len)}.
+	 *
+	 * @param buf
+	 *            the array holding the input
+	 * @param off
+	 *            the index of the first input character
+	 * @param len
+	 *            the number of input characters
+	 * @param out
+	 *            where the sanitized text is appended
+	 * @return {@code true}; the result is never {@code null}
+	 */
+	@Override
+	public boolean sanitize(final char[] buf, final int off, final int len, final StringBuilder out) {
+		final int end = off + len;
+		if (Chars.countDigits(buf, off, end) <= 4) {
+			out.append("****");
+		} else {
+			Chars.appendLastDigits(buf, off, end, 4, out.append("**** **** **** "));
+		}
+		return true;
 	}
 }
@@ -3,6 +3,7 @@ package io.github.rabinarayanpatra.sanitizer.builtin;
 import org.jspecify.annotations.Nullable;
 
 import io.github.rabinarayanpatra.sanitizer.core.FieldSanitizer;
+import io.github.rabinarayanpatra.sanitizer.core.TextSanitizer;
 
 /**
  * Sanitizer that removes aliasing from email addresses by stripping the
@@ -22,7 +23,7 @@ import io.github.rabinarayanpatra.sanitizer.core.FieldSanitizer;
  * @see FieldSanitizer
  * @since 1.0.0
  */
-public class EmailAliasStripSanitizer implements FieldSanitizer<String> {
+public class EmailAliasStripSanitizer implements FieldSanitizer<String>, TextSanitizer {
 
 	/**
 	 * Default constructor.
@@ -45,6 +46,67 @@ public class EmailAliasStripSanitizer implements FieldSanitizer<String> {
 			return null;
 		}
 		final String lower = in.trim().toLowerCase(java.util.Locale.ROOT);
-		return lower.replaceFirst("\\+[^@]+(?=@)", "");
+		// Remove the first "+alias" that is followed by at least one non-'@'
+		// character and then an '@'
+		for (int plus = lower.indexOf('+'); plus >= 0; plus = lower.indexOf('+', plus + 1)) {
+			final int at = lower.indexOf('@', plus + 1);
+			if (at < 0) {
+				break;
+			}
+			if (at > plus + 1) {
+				return lower.substring(0, plus) + lower.substring(at);
+			}
+		}
+		return lower;
+	}
+
+	/**
+	 * Appends the trimmed, lowercased address without its {@code +alias}. Input
+	 * containing non-ASCII characters is handed to {@link #sanitize(String)}.
+	 *
+	 * @param buf
+	 *            the array holding the input
+	 * @param off
+	 *            the index of the first input character
+	 * @param len
+	 *            the number of input characters
+	 * @param out
+	 *            where the sanitized text is appended
+	 * @return {@code true}; the result is never {@code null}
+	 */
+	@Override
+	public boolean sanitize(final char[] buf, final int off, final int len, final StringBuilder out) {
+		final int end = Chars.trimEnd(buf, off, off + len);
+		final int start = Chars.trimStart(buf, off, end);
+		if (!Chars.isAscii(buf, start, end)) {
+			return Chars.append(sanitize(new String(buf, off, len)), out);
+		}
+		int skipFrom = end;
+		int skipTo = end;
+		for (int plus = start; plus < end; plus++) {
+			if (buf[plus] != '+') {
+				continue;
+			}
+			int at = plus + 1;
+			while (at < end && buf[at] != '@') {
+				at++;
+			}
+			if (at == end) {
+				break;
+			}
+			if (at > plus + 1) {
+				skipFrom = plus;
+				skipTo = at;
+				break;
+			}
+		}
+		for (int i = start; i < end; i++) {
+			if (i == skipFrom) {
+				i = skipTo;
+			}
+			final char c = buf[i];
+			out.append(c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c);
+		}
+		return true;
 	}
 }
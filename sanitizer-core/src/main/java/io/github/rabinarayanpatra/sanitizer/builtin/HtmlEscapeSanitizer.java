@@ -2,7 +2,9 @@ package io.github.rabinarayanpatra.sanitizer.builtin;
 
 import org.jspecify.annotations.Nullable;
 
+import io.github.rabinarayanpatra.sanitizer.builtin.AsciiScan.Match;
 import io.github.rabinarayanpatra.sanitizer.core.FieldSanitizer;
+import io.github.rabinarayanpatra.sanitizer.core.TextSanitizer;
 
 /**
  * Sanitizer that escapes basic HTML special characters in rendered output.
@@ -27,7 +29,7 @@ import io.github.rabinarayanpatra.sanitizer.core.FieldSanitizer;
  * @see FieldSanitizer
  * @since 1.0.0
  */
-public class HtmlEscapeSanitizer implements FieldSanitizer<String> {
+public class HtmlEscapeSanitizer implements FieldSanitizer<String>, TextSanitizer {
 
 	/**
 	 * Default constructor.
@@ -47,7 +49,56 @@ public class HtmlEscapeSanitizer implements FieldSanitizer<String> {
 		if (in == null) {
 			return null;
 		}
-		return in.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;").replace("\"", "&quot;").replace("'",
-				"&#x27;");
+		final int first = AsciiScan.indexOf(Match.HTML_SPECIAL, in);
+		if (first == in.length()) {
+			return in;
+		}
+		final StringBuilder sb = new StringBuilder(in.length() + 16).append(in, 0, first);
+		for (int i = first; i < in.length(); i++) {
+			final char c = in.charAt(i);
+			switch (c) {
+				case '&' -> sb.append("&amp;");
+				case '<' -> sb.append("&lt;");
+				case '>' -> sb.append("&gt;");
+				case '"' -> sb.append("&quot;");
+				case '\'' -> sb.append("&#x27;");
+				default -> sb.append(c);
+			}
+		}
+		return sb.toString();
+	}
+
+	/**
+	 * Appends {@code buf[off, off + len)} with the HTML special characters
+	 * escaped.
+	 *
+	 * @param buf
+	 *            the array holding the input
+	 * @param off
+	 *            the index of the first input character
+	 * @param len
+	 *            the number of input characters
+	 * @param out
+	 *            where the sanitized text is appended
+	 * @return {@code true}; the result is never {@code null}
+	 */
+	@Override
+	public boolean sanitize(final char[] buf, final int off, final int len, final StringBuilder out) {
+		final int end = off + len;
+		int start = off;
+		for (int i = AsciiScan.indexOf(Match.HTML_SPECIAL, buf, off, end); i < end; i = AsciiScan
+				.indexOf(Match.HTML_SPECIAL, buf, start, end)) {
+			out.append(buf, start, i - start);
+			switch (buf[i]) {
+				case '&' -> out.append("&amp;");
+				case '<' -> out.append("&lt;");
+				case '>' -> out.append("&gt;");
+				case '"' -> out.append("&quot;");
+				default -> out.append("&#x27;");
+			}
+			start = i + 1;
+		}
+		out.append(buf, start, end - start);
+		return true;
 	}
 }
@@ -1,8 +1,11 @@
 package io.github.rabinarayanpatra.sanitizer.builtin;
 
+import java.util.Arrays;
+
 import org.jspecify.annotations.Nullable;
 
 import io.github.rabinarayanpatra.sanitizer.core.FieldSanitizer;
+import io.github.rabinarayanpatra.sanitizer.core.TextSanitizer;
 
 /**
  * Sanitizer that masks an International Bank Account Number (IBAN), preserving
@@ -23,7 +26,7 @@ import io.github.rabinarayanpatra.sanitizer.core.FieldSanitizer;
  * @see FieldSanitizer
  * @since 1.0.0
  */
-public class IBANMaskSanitizer implements FieldSanitizer<String> {
+public class IBANMaskSanitizer implements FieldSanitizer<String>, TextSanitizer {
 
 	/**
 	 * Default constructor.
@@ -45,13 +48,66 @@ public class IBANMaskSanitizer implements FieldSanitizer<String> {
 		if (in == null) {
 			return null;
 		}
-		final String plain = in.replaceAll("\\s+", "");
-		if (plain.length() <= 4) {
-			return plain;
+		if (isMasked(in)) {
+			return in;
+		}
+		final char[] plain = new char[in.length()];
+		int len = 0;
+		for (int i = 0; i < in.length(); i++) {
+			final char c = in.charAt(i);
+			if (!Chars.isWhitespace(c)) {
+				plain[len++] = c;
+			}
+		}
+		if (len <= 4) {
+			return new String(plain, 0, len);
 		}
 
 		final int keep = 4;
-		final int len = plain.length();
-		return "*".repeat(len - keep) + plain.substring(len - keep);
+		Arrays.fill(plain, 0, len - keep, '*');
+		return new String(plain, 0, len);
+	}
+
+	/**
+	 * Appends the input without whitespace, with all but its last four characters
+	 * masked.
+	 *
+	 * @param buf
+	 *            the array holding the input
+	 * @param off
+	 *            the index of the first input character
+	 * @param len
+	 *            the number of input characters
+	 * @param out
+	 *            where the sanitized text is appended
+	 * @return {@code true}; the result is never {@code null}
+	 */
+	@Override
+	public boolean sanitize(final char[] buf, final int off, final int len, final StringBuilder out) {
+		final int end = off + len;
+		// characters still to be appended; all but the last four are masked
+		int remaining = len - Chars.countWhitespace(buf, off, end);
+		for (int i = off; i < end; i++) {
+			final char c = buf[i];
+			if (!Chars.isWhitespace(c)) {
+				out.append(remaining > 4 ? '*' : c);
+				remaining--;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Returns {@code true} when {@code s} has no whitespace and every character
+	 * except the last four is already {@code *}.
+	 */
+	private static boolean isMasked(final String s) {
+		for (int i = 0; i < s.length(); i++) {
+			final char c = s.charAt(i);
+			if (Chars.isWhitespace(c) || (i < s.length() - 4 && c != '*')) {
+				return false;
+			}
+		}
+		return true;
 	}
 }
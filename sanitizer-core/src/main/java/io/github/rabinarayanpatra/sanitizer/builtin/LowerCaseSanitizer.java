@@ -2,7 +2,9 @@ package io.github.rabinarayanpatra.sanitizer.builtin;
 
 import org.jspecify.annotations.Nullable;
 
+import io.github.rabinarayanpatra.sanitizer.builtin.AsciiScan.Match;
 import io.github.rabinarayanpatra.sanitizer.core.FieldSanitizer;
+import io.github.rabinarayanpatra.sanitizer.core.TextSanitizer;
 
 /**
  * Sanitizer that converts input text to lowercase using the default locale.
@@ -20,7 +22,7 @@ import io.github.rabinarayanpatra.sanitizer.core.FieldSanitizer;
  * @see FieldSanitizer
  * @since 1.0.0
  */
-public class LowerCaseSanitizer implements FieldSanitizer<String> {
+public class LowerCaseSanitizer implements FieldSanitizer<String>, TextSanitizer {
 
 	/**
 	 * Default constructor.
@@ -37,6 +39,43 @@ public class LowerCaseSanitizer implements FieldSanitizer<String> {
 	 */
 	@Override
 	public @Nullable String sanitize(final @Nullable String input) {
-		return input == null ? null : input.toLowerCase(java.util.Locale.ROOT);
+		if (input == null) {
+			return null;
+		}
+		if (AsciiScan.indexOf(Match.UPPER_OR_NON_ASCII, input) == input.length()) {
+			return input;
+		}
+		return input.toLowerCase(java.util.Locale.ROOT);
+	}
+
+	/**
+	 * Appends {@code buf[off, off + len)} in lowercase. Input containing non-ASCII
+	 * characters is handed to {@link #sanitize(String)}.
+	 *
+	 * @param buf
+	 *            the array holding the input
+	 * @param off
+	 *            the index of the first input character
+	 * @param len
+	 *            the number of input characters
+	 * @param out
+	 *            where the sanitized text is appended
+	 * @return {@code true}; the result is never {@code null}
+	 */
+	@Override
+	public boolean sanitize(final char[] buf, final int off, final int len, final StringBuilder out) {
+		final int end = off + len;
+		if (!Chars.isAscii(buf, off, end)) {
+			return Chars.append(sanitize(new String(buf, off, len)), out);
+		}
+		// letters to convert are rarely far apart, so after the first one the
+		// rest is converted character by character
+		final int first = AsciiScan.indexOf(Match.UPPER_OR_NON_ASCII, buf, off, end);
+		out.append(buf, off, first - off);
+		for (int i = first; i < end; i++) {
+			final char c = buf[i];
+			out.append(c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c);
+		}
+		return true;
 	}
 }
@@ -3,6 +3,7 @@ package io.github.rabinarayanpatra.sanitizer.builtin;
 import org.jspecify.annotations.Nullable;
 
 import io.github.rabinarayanpatra.sanitizer.core.FieldSanitizer;
+import io.github.rabinarayanpatra.sanitizer.core.TextSanitizer;
 
 /**
  * Sanitizer that trims the input string and returns {@code null} if the result
@@ -22,7 +23,7 @@ import io.github.rabinarayanpatra.sanitizer.core.FieldSanitizer;
  * @see FieldSanitizer
  * @since 1.0.0
  */
-public class NullIfBlankSanitizer implements FieldSanitizer<String> {
+public class NullIfBlankSanitizer implements FieldSanitizer<String>, TextSanitizer {
 
 	/**
 	 * Default constructor.
@@ -43,6 +44,34 @@ public class NullIfBlankSanitizer implements FieldSanitizer<String> {
 		if (in == null) {
 			return null;
 		}
-		return in.trim().isEmpty() ? null : in;
+		for (int i = 0; i < in.length(); i++) {
+			// same notion of blank as String.trim(), without allocating a trimmed copy
+			if (in.charAt(i) > ' ') {
+				return in;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Appends {@code buf[off, off + len)} unless it is blank.
+	 *
+	 * @param buf
+	 *            the array holding the input
+	 * @param off
+	 *            the index of the first input character
+	 * @param len
+	 *            the number of input characters
+	 * @param out
+	 *            where the sanitized text is appended
+	 * @return {@code false} if the input is empty or only whitespace
+	 */
+	@Override
+	public boolean sanitize(final char[] buf, final int off, final int len, final StringBuilder out) {
+		if (Chars.trimStart(buf, off, off + len) == off + len) {
+			return false;
+		}
+		out.append(buf, off, len);
+		return true;
 	}
 }
@@ -3,6 +3,7 @@ package io.github.rabinarayanpatra.sanitizer.builtin;
 import org.jspecify.annotations.Nullable;
 
 import io.github.rabinarayanpatra.sanitizer.core.FieldSanitizer;
+import io.github.rabinarayanpatra.sanitizer.core.TextSanitizer;
 
 /**
  * Sanitizer that normalizes a phone number to E.164 format by stripping
@@ -22,7 +23,7 @@ import io.github.rabinarayanpatra.sanitizer.core.FieldSanitizer;
  * @see FieldSanitizer
  * @since 1.0.0
  */
-public class PhoneE164Sanitizer implements FieldSanitizer<String> {
+public class PhoneE164Sanitizer implements FieldSanitizer<String>, TextSanitizer {
 
 	/**
 	 * Default constructor.
@@ -44,7 +45,48 @@ public class PhoneE164Sanitizer implements FieldSanitizer<String> {
 		if (in == null) {
 			return null;
 		}
-		final String digits = in.replaceAll("\\D+", "");
-		return digits.isEmpty() ? null : "+" + digits;
+		if (isE164(in)) {
+			return in;
+		}
+		final StringBuilder sb = new StringBuilder(in.length() + 1).append('+');
+		for (int i = 0; i < in.length(); i++) {
+			final char c = in.charAt(i);
+			if (Chars.isDigit(c)) {
+				sb.append(c);
+			}
+		}
+		return sb.length() == 1 ? null : sb.toString();
+	}
+
+	/**
+	 * Appends the digits of {@code buf[off, off + len)} prefixed with {@code +}.
+	 *
+	 * @param buf
+	 *            the array holding the input
+	 * @param off
+	 *            the index of the first input character
+	 * @param len
+	 *            the number of input characters
+	 * @param out
+	 *            where the sanitized text is appended
+	 * @return {@code false} if the input contains no digits
+	 */
+	@Override
+	public boolean sanitize(final char[] buf, final int off, final int len, final StringBuilder out) {
+		final int end = off + len;
+		if (Chars.countDigits(buf, off, end) == 0) {
+			return false;
+		}
+		out.append('+');
+		for (int i = off; i < end; i++) {
+			if (Chars.isDigit(buf[i])) {
+				out.append(buf[i]);
+			}
+		}
+		return true;
+	}
+
+	private static boolean isE164(final String s) {
+		return s.length() > 1 && s.charAt(0) == '+' && Chars.countDigits(s) == s.length() - 1;
 	}
 }
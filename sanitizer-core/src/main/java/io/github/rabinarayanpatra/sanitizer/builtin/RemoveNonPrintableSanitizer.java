@@ -2,15 +2,17 @@ package io.github.rabinarayanpatra.sanitizer.builtin;
 
 import org.jspecify.annotations.Nullable;
 
+import io.github.rabinarayanpatra.sanitizer.builtin.AsciiScan.Match;
 import io.github.rabinarayanpatra.sanitizer.core.FieldSanitizer;
+import io.github.rabinarayanpatra.sanitizer.core.TextSanitizer;
 
 /**
  * Sanitizer that removes non-printable control characters from the input
  * string.
  * <p>
- * This sanitizer removes all characters in the Unicode "Control" category (Cc,
- * Cf, Cs, Co, Cn), except for the common whitespace characters: Tab (\t), Line
- * Feed (\n), and Carriage Return (\r).
+ * This sanitizer removes the ASCII control characters ({@code U+0000} to
+ * {@code U+001F}) and DEL ({@code U+007F}), except for the common whitespace
+ * characters: Tab (\t), Line Feed (\n), and Carriage Return (\r).
  * </p>
  * <p>
  * Example:
@@ -25,7 +27,7 @@ import io.github.rabinarayanpatra.sanitizer.core.FieldSanitizer;
  * @see FieldSanitizer
  * @since 1.0.0
  */
-public class RemoveNonPrintableSanitizer implements FieldSanitizer<String> {
+public class RemoveNonPrintableSanitizer implements FieldSanitizer<String>, TextSanitizer {
 
 	/**
 	 * Default constructor.
@@ -46,8 +48,47 @@ public class RemoveNonPrintableSanitizer implements FieldSanitizer<String> {
 			return null;
 		}
 
-		// Regex to match control characters but exclude tab, newline, and carriage
+		final int first = AsciiScan.indexOf(Match.NON_PRINTABLE, input);
+		if (first == input.length()) {
+			return input;
+		}
+
+		// Drop ASCII control characters and DEL, but keep tab, newline, and carriage
 		// return
-		return input.replaceAll("[\\p{Cntrl}&&[^\\t\\r\\n]]", "");
+		final StringBuilder sb = new StringBuilder(input.length()).append(input, 0, first);
+		for (int i = first + 1; i < input.length(); i++) {
+			final char c = input.charAt(i);
+			if (!Chars.isNonPrintable(c)) {
+				sb.append(c);
+			}
+		}
+		return sb.toString();
+	}
+
+	/**
+	 * Appends {@code buf[off, off + len)} without control characters other than
+	 * tab, carriage return and line feed.
+	 *
+	 * @param buf
+	 *            the array holding the input
+	 * @param off
+	 *            the index of the first input character
+	 * @param len
+	 *            the number of input characters
+	 * @param out
+	 *            where the sanitized text is appended
+	 * @return {@code true}; the result is never {@code null}
+	 */
+	@Override
+	public boolean sanitize(final char[] buf, final int off, final int len, final StringBuilder out) {
+		final int end = off + len;
+		int start = off;
+		for (int i = AsciiScan.indexOf(Match.NON_PRINTABLE, buf, off, end); i < end; i = AsciiScan
+				.indexOf(Match.NON_PRINTABLE, buf, start, end)) {
+			out.append(buf, start, i - start);
+			start = i + 1;
+		}
+		out.append(buf, start, end - start);
+		return true;
 	}
 }
@@ -3,6 +3,7 @@ package io.github.rabinarayanpatra.sanitizer.builtin;
 import org.jspecify.annotations.Nullable;
 
 import io.github.rabinarayanpatra.sanitizer.core.FieldSanitizer;
+import io.github.rabinarayanpatra.sanitizer.core.TextSanitizer;
 
 /**
  * Sanitizer that masks a U.S. Social Security Number (SSN), revealing only the
@@ -21,7 +22,7 @@ import io.github.rabinarayanpatra.sanitizer.core.FieldSanitizer;
  * @see FieldSanitizer
  * @since 1.0.0
  */
-public class SSNMaskSanitizer implements FieldSanitizer<String> {
+public class SSNMaskSanitizer implements FieldSanitizer<String>, TextSanitizer {
 
 	/**
 	 * Default constructor.
@@ -44,11 +45,35 @@ public class SSNMaskSanitizer implements FieldSanitizer<String> {
 			return null;
 		}
 
-		final String digits = in.replaceAll("\\D+", "");
-		if (digits.length() != 9) {
+		if (Chars.countDigits(in) != 9) {
 			return in;
 		}
 
-		return "***-**-" + digits.substring(5);
+		return "***-**-" + Chars.lastDigits(in, 4);
+	}
+
+	/**
+	 * Appends the masked number, or the input unchanged if it does not hold nine
+	 * digits.
+	 *
+	 * @param buf
+	 *            the array holding the input
+	 * @param off
+	 *            the index of the first input character
+	 * @param len
+	 *            the number of input characters
+	 * @param out
+	 *            where the sanitized text is appended
+	 * @return {@code true}; the result is never {@code null}
+	 */
+	@Override
+	public boolean sanitize(final char[] buf, final int off, final int len, final StringBuilder out) {
+		final int end = off + len;
+		if (Chars.countDigits(buf, off, end) != 9) {
+			out.append(buf, off, len);
+		} else {
+			Chars.appendLastDigits(buf, off, end, 4, out.append("***-**-"));
+		}
+		return true;
 	}
 }
@@ -3,6 +3,7 @@ package io.github.rabinarayanpatra.sanitizer.builtin;
 import org.jspecify.annotations.Nullable;
 
 import io.github.rabinarayanpatra.sanitizer.core.FieldSanitizer;
+import io.github.rabinarayanpatra.sanitizer.core.TextSanitizer;
 
 /**
  * Sanitizer that replaces characters not allowed in most filenames with
@@ -22,7 +23,7 @@ import io.github.rabinarayanpatra.sanitizer.core.FieldSanitizer;
  * @see FieldSanitizer
  * @since 1.0.0
  */
-public class SafeFilenameSanitizer implements FieldSanitizer<String> {
+public class SafeFilenameSanitizer implements FieldSanitizer<String>, TextSanitizer {
 
 	/**
 	 * Default constructor.
@@ -43,6 +44,43 @@ public class SafeFilenameSanitizer implements FieldSanitizer<String> {
 		if (in == null) {
 			return null;
 		}
-		return in.trim().replaceAll("[\\\\/:*?\"<>|]", "_");
+		final String trimmed = in.trim();
+		int first = 0;
+		while (first < trimmed.length() && !Chars.isFilenameReserved(trimmed.charAt(first))) {
+			first++;
+		}
+		if (first == trimmed.length()) {
+			return trimmed;
+		}
+		final char[] chars = trimmed.toCharArray();
+		for (int i = first; i < chars.length; i++) {
+			if (Chars.isFilenameReserved(chars[i])) {
+				chars[i] = '_';
+			}
+		}
+		return new String(chars);
+	}
+
+	/**
+	 * Appends the trimmed input with reserved filename characters replaced by
+	 * {@code _}.
+	 *
+	 * @param buf
+	 *            the array holding the input
+	 * @param off
+	 *            the index of the first input character
+	 * @param len
+	 *            the number of input characters
+	 * @param out
+	 *            where the sanitized text is appended
+	 * @return {@code true}; the result is never {@code null}
+	 */
+	@Override
+	public boolean sanitize(final char[] buf, final int off, final int len, final StringBuilder out) {
+		final int end = Chars.trimEnd(buf, off, off + len);
+		for (int i = Chars.trimStart(buf, off, end); i < end; i++) {
+			out.append(Chars.isFilenameReserved(buf[i]) ? '_' : buf[i]);
+		}
+		return true;
 	}
 }
@@ -3,6 +3,7 @@ package io.github.rabinarayanpatra.sanitizer.builtin;
 import org.jspecify.annotations.Nullable;
 
 import io.github.rabinarayanpatra.sanitizer.core.FieldSanitizer;
+import io.github.rabinarayanpatra.sanitizer.core.TextSanitizer;
 
 /**
  * Sanitizer that converts the input string to sentence case by capitalizing
@@ -22,7 +23,7 @@ import io.github.rabinarayanpatra.sanitizer.core.FieldSanitizer;
  * @see FieldSanitizer
  * @since 1.1.0
  */
-public class SentenceCaseSanitizer implements FieldSanitizer<String> {
+public class SentenceCaseSanitizer implements FieldSanitizer<String>, TextSanitizer {
 
 	/**
 	 * Default constructor.
@@ -45,7 +46,64 @@ public class SentenceCaseSanitizer implements FieldSanitizer<String> {
 			return input;
 		}
 
+		if (isSentenceCase(input)) {
+			return input;
+		}
+
 		final String trimmed = input.trim().toLowerCase(java.util.Locale.ROOT);
 		return Character.toUpperCase(trimmed.charAt(0)) + trimmed.substring(1);
 	}
+
+	/**
+	 * Appends the sentence-cased input. Input containing non-ASCII characters is
+	 * handed to {@link #sanitize(String)}.
+	 *
+	 * @param buf
+	 *            the array holding the input
+	 * @param off
+	 *            the index of the first input character
+	 * @param len
+	 *            the number of input characters
+	 * @param out
+	 *            where the sanitized text is appended
+	 * @return {@code true}; the result is never {@code null}
+	 */
+	@Override
+	public boolean sanitize(final char[] buf, final int off, final int len, final StringBuilder out) {
+		final int end = off + len;
+		if (Chars.isBlank(buf, off, end)) {
+			out.append(buf, off, len);
+			return true;
+		}
+		final int trimmedEnd = Chars.trimEnd(buf, off, end);
+		final int start = Chars.trimStart(buf, off, trimmedEnd);
+		if (start == trimmedEnd || !Chars.isAscii(buf, start, trimmedEnd)) {
+			return Chars.append(sanitize(new String(buf, off, len)), out);
+		}
+		final char first = buf[start];
+		out.append(first >= 'a' && first <= 'z' ? (char) (first - ('a' - 'A')) : first);
+		for (int i = start + 1; i < trimmedEnd; i++) {
+			final char c = buf[i];
+			out.append(c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c);
+		}
+		return true;
+	}
+
+	/**
+	 * Returns {@code true} for ASCII input that needs no trimming, does not start
+	 * with a lowercase letter and has no uppercase letters after the first
+	 * character. Non-ASCII input always takes the full path.
+	 */
+	private static boolean isSentenceCase(final String s) {
+		if (s.charAt(0) <= ' ' || s.charAt(s.length() - 1) <= ' ') {
+			return false;
+		}
+		for (int i = 0; i < s.length(); i++) {
+			final char c = s.charAt(i);
+			if (c >= 0x80 || (i == 0 ? c >= 'a' && c <= 'z' : c >= 'A' && c <= 'Z')) {
+				return false;
+			}
+		}
+		return true;
+	}
 }
@@ -6,6 +6,7 @@ import java.text.Normalizer.Form;
 import org.jspecify.annotations.Nullable;
 
 import io.github.rabinarayanpatra.sanitizer.core.FieldSanitizer;
+import io.github.rabinarayanpatra.sanitizer.core.TextSanitizer;
 
 /**
  * Sanitizer that converts a string into a lowercase, URL-friendly "slug"
@@ -25,7 +26,7 @@ import io.github.rabinarayanpatra.sanitizer.core.FieldSanitizer;
  * @see FieldSanitizer
  * @since 1.0.0
  */
-public class SlugifySanitizer implements FieldSanitizer<String> {
+public class SlugifySanitizer implements FieldSanitizer<String>, TextSanitizer {
 
 	/**
 	 * Default constructor.
@@ -46,7 +47,101 @@ public class SlugifySanitizer implements FieldSanitizer<String> {
 		if (in == null) {
 			return null;
 		}
-		final String noAccent = Normalizer.normalize(in, Form.NFD).replaceAll("\\p{InCombiningDiacriticalMarks}+", "");
-		return noAccent.toLowerCase(java.util.Locale.ROOT).replaceAll("[^a-z0-9]+", "-").replaceAll("(^-+)|(-+$)", "");
+		if (isSlug(in)) {
+			return in;
+		}
+		final String decomposed = isAscii(in) ? in : Normalizer.normalize(in, Form.NFD);
+		final StringBuilder sb = new StringBuilder(decomposed.length());
+		boolean pendingDash = false;
+		for (int i = 0; i < decomposed.length(); i++) {
+			final char c = decomposed.charAt(i);
+			if (Chars.isCombiningDiacritical(c)) {
+				// accents are dropped without separating the letters around them
+				continue;
+			}
+			final char lower = c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c;
+			if ((lower >= 'a' && lower <= 'z') || Chars.isDigit(lower)) {
+				if (pendingDash && sb.length() > 0) {
+					sb.append('-');
+				}
+				sb.append(lower);
+				pendingDash = false;
+			} else {
+				pendingDash = true;
+			}
+		}
+		return sb.toString();
+	}
+
+	/**
+	 * Appends the slug of {@code buf[off, off + len)}. Input containing non-ASCII
+	 * characters is handed to {@link #sanitize(String)}, which removes accents
+	 * first.
+	 *
+	 * @param buf
+	 *            the array holding the input
+	 * @param off
+	 *            the index of the first input character
+	 * @param len
+	 *            the number of input characters
+	 * @param out
+	 *            where the sanitized text is appended
+	 * @return {@code true}; the result is never {@code null}
+	 */
+	@Override
+	public boolean sanitize(final char[] buf, final int off, final int len, final StringBuilder out) {
+		final int end = off + len;
+		if (!Chars.isAscii(buf, off, end)) {
+			return Chars.append(sanitize(new String(buf, off, len)), out);
+		}
+		final int base = out.length();
+		boolean pendingDash = false;
+		for (int i = off; i < end; i++) {
+			final char c = buf[i];
+			final char lower = c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c;
+			if ((lower >= 'a' && lower <= 'z') || Chars.isDigit(lower)) {
+				if (pendingDash && out.length() > base) {
+					out.append('-');
+				}
+				out.append(lower);
+				pendingDash = false;
+			} else {
+				pendingDash = true;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Returns {@code true} when {@code s} is already a slug: lowercase ASCII
+	 * letters and digits separated by single dashes, with no leading or trailing
+	 * dash.
+	 */
+	private static boolean isSlug(final String s) {
+		for (int i = 0; i < s.length(); i++) {
+			final char c = s.charAt(i);
+			if (c == '-') {
+				if (i == 0 || i == s.length() - 1 || s.charAt(i - 1) == '-') {
+					return false;
+				}
+			} else if (!(c >= 'a' && c <= 'z') && !Chars.isDigit(c)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * NFD leaves ASCII unchanged, so ASCII input skips normalization. After NFD
+	 * every remaining non-ASCII character lowercases to something outside
+	 * {@code [a-z0-9]}, which is why only ASCII letters need case folding above.
+	 */
+	private static boolean isAscii(final String s) {
+		for (int i = 0; i < s.length(); i++) {
+			if (s.charAt(i) >= 0x80) {
+				return false;
+			}
+		}
+		return true;
 	}
 }
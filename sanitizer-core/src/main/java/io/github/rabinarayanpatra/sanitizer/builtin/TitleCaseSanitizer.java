@@ -3,6 +3,7 @@ package io.github.rabinarayanpatra.sanitizer.builtin;
 import org.jspecify.annotations.Nullable;
 
 import io.github.rabinarayanpatra.sanitizer.core.FieldSanitizer;
+import io.github.rabinarayanpatra.sanitizer.core.TextSanitizer;
 
 /**
  * Sanitizer that converts the input string to title case by capitalizing the
@@ -21,7 +22,7 @@ import io.github.rabinarayanpatra.sanitizer.core.FieldSanitizer;
  * @see FieldSanitizer
  * @since 1.0.0
  */
-public class TitleCaseSanitizer implements FieldSanitizer<String> {
+public class TitleCaseSanitizer implements FieldSanitizer<String>, TextSanitizer {
 
 	/**
 	 * Default constructor.
@@ -45,6 +46,9 @@ public class TitleCaseSanitizer implements FieldSanitizer<String> {
 		}
 
 		final String trimmed = input.trim();
+		if (trimmed.length() == input.length() && isTitleCase(input)) {
+			return input;
+		}
 		final StringBuilder sb = new StringBuilder(trimmed.length());
 		boolean capitalizeNext = true;
 
@@ -63,4 +67,59 @@ public class TitleCaseSanitizer implements FieldSanitizer<String> {
 
 		return sb.toString();
 	}
+
+	/**
+	 * Appends the title-cased input; blank input is appended unchanged.
+	 *
+	 * @param buf
+	 *            the array holding the input
+	 * @param off
+	 *            the index of the first input character
+	 * @param len
+	 *            the number of input characters
+	 * @param out
+	 *            where the sanitized text is appended
+	 * @return {@code true}; the result is never {@code null}
+	 */
+	@Override
+	public boolean sanitize(final char[] buf, final int off, final int len, final StringBuilder out) {
+		final int end = off + len;
+		if (Chars.isBlank(buf, off, end)) {
+			out.append(buf, off, len);
+			return true;
+		}
+		final int trimmedEnd = Chars.trimEnd(buf, off, end);
+		boolean capitalizeNext = true;
+		for (int i = Chars.trimStart(buf, off, trimmedEnd); i < trimmedEnd; i++) {
+			final char c = buf[i];
+			if (Character.isWhitespace(c)) {
+				out.append(c);
+				capitalizeNext = true;
+			} else if (capitalizeNext) {
+				out.append(Character.toUpperCase(c));
+				capitalizeNext = false;
+			} else {
+				out.append(Character.toLowerCase(c));
+			}
+		}
+		return true;
+	}
+
+	private static boolean isTitleCase(final String s) {
+		boolean capitalizeNext = true;
+		for (int i = 0; i < s.length(); i++) {
+			final char c = s.charAt(i);
+			if (Character.isWhitespace(c)) {
+				capitalizeNext = true;
+			} else if (capitalizeNext) {
+				if (Character.toUpperCase(c) != c) {
+					return false;
+				}
+				capitalizeNext = false;
+			} else if (Character.toLowerCase(c) != c) {
+				return false;
+			}
+		}
+		return true;
+	}
 }
@@ -3,6 +3,7 @@ package io.github.rabinarayanpatra.sanitizer.builtin;
 import org.jspecify.annotations.Nullable;
 
 import io.github.rabinarayanpatra.sanitizer.core.FieldSanitizer;
+import io.github.rabinarayanpatra.sanitizer.core.TextSanitizer;
 
 /**
  * Sanitizer that trims leading and trailing whitespace from the input string.
@@ -20,7 +21,7 @@ import io.github.rabinarayanpatra.sanitizer.core.FieldSanitizer;
  * @see FieldSanitizer
  * @since 1.0.0
  */
-public class TrimSanitizer implements FieldSanitizer<String> {
+public class TrimSanitizer implements FieldSanitizer<String>, TextSanitizer {
 
 	/**
 	 * Default constructor.
@@ -41,6 +42,28 @@ public class TrimSanitizer implements FieldSanitizer<String> {
 			return null;
 		}
 
+		// String.trim() returns the same instance when there is nothing to trim
 		return input.trim();
 	}
+
+	/**
+	 * Appends {@code buf[off, off + len)} without leading and trailing whitespace.
+	 *
+	 * @param buf
+	 *            the array holding the input
+	 * @param off
+	 *            the index of the first input character
+	 * @param len
+	 *            the number of input characters
+	 * @param out
+	 *            where the sanitized text is appended
+	 * @return {@code true}; the result is never {@code null}
+	 */
+	@Override
+	public boolean sanitize(final char[] buf, final int off, final int len, final StringBuilder out) {
+		final int end = Chars.trimEnd(buf, off, off + len);
+		final int start = Chars.trimStart(buf, off, end);
+		out.append(buf, start, end - start);
+		return true;
+	}
 }
@@ -2,7 +2,9 @@ package io.github.rabinarayanpatra.sanitizer.builtin;
 
 import org.jspecify.annotations.Nullable;
 
+import io.github.rabinarayanpatra.sanitizer.annotation.Shareable;
 import io.github.rabinarayanpatra.sanitizer.core.ConfigurableFieldSanitizer;
+import io.github.rabinarayanpatra.sanitizer.core.TextSanitizer;
 
 /**
  * Configurable sanitizer that truncates strings to a maximum length.
@@ -13,6 +15,8 @@ import io.github.rabinarayanpatra.sanitizer.core.ConfigurableFieldSanitizer;
  * <li>{@code suffix} — appended when truncation occurs (default: empty). The
  * suffix length is included in the maxLength limit.</li>
  * </ul>
+ * A {@code maxLength} that is not a non-negative integer is rejected when the
+ * sanitizer is configured.
  *
  * <pre>
  * &#64;Sanitize(using = TruncateSanitizer.class, params = "maxLength=100,suffix=...")
@@ -22,16 +26,41 @@ import io.github.rabinarayanpatra.sanitizer.core.ConfigurableFieldSanitizer;
  * @see ConfigurableFieldSanitizer
  * @since 1.1.0
  */
-public class TruncateSanitizer extends ConfigurableFieldSanitizer<String> {
+@Shareable
+public class TruncateSanitizer extends ConfigurableFieldSanitizer<String> implements TextSanitizer {
 
 	private static final int DEFAULT_MAX_LENGTH = 255;
 
+	private int maxLength = DEFAULT_MAX_LENGTH;
+
+	private String suffix = "";
+
+	private int contentLength = DEFAULT_MAX_LENGTH;
+
 	/**
 	 * Default constructor.
 	 */
 	public TruncateSanitizer() {
 	}
 
+	/**
+	 * Reads and validates {@code maxLength} and {@code suffix}.
+	 *
+	 * @throws IllegalArgumentException
+	 *             if {@code maxLength} is not a non-negative integer
+	 */
+	@Override
+	protected void onConfigure() {
+		final int configured = parseIntParam("maxLength", DEFAULT_MAX_LENGTH);
+		if (configured < 0) {
+			throw new IllegalArgumentException("TruncateSanitizer parameter 'maxLength' must not be negative but was "
+					+ configured);
+		}
+		maxLength = configured;
+		suffix = getParam("suffix", "");
+		contentLength = Math.max(0, maxLength - suffix.length());
+	}
+
 	/**
 	 * Truncates the input string to the configured maximum length.
 	 *
@@ -45,9 +74,6 @@ public class TruncateSanitizer extends ConfigurableFieldSanitizer<String> {
 			return null;
 		}
 
-		final int maxLength = getIntParam("maxLength", DEFAULT_MAX_LENGTH);
-		final String suffix = getParam("suffix", "");
-
 		if (input.length() <= maxLength) {
 			return input;
 		}
@@ -56,7 +82,32 @@ public class TruncateSanitizer extends ConfigurableFieldSanitizer<String> {
 			return input.substring(0, maxLength);
 		}
 
-		final int contentLength = Math.max(0, maxLength - suffix.length());
 		return input.substring(0, contentLength) + suffix;
 	}
+
+	/**
+	 * Appends at most {@code maxLength} characters of {@code buf[off, off + len)},
+	 * ending with the configured suffix when the input is cut.
+	 *
+	 * @param buf
+	 *            the array holding the input
+	 * @param off
+	 *            the index of the first input character
+	 * @param len
+	 *            the number of input characters
+	 * @param out
+	 *            where the sanitized text is appended
+	 * @return {@code true}; the result is never {@code null}
+	 */
+	@Override
+	public boolean sanitize(final char[] buf, final int off, final int len, final StringBuilder out) {
+		if (len <= maxLength) {
+			out.append(buf, off, len);
+		} else if (suffix.isEmpty()) {
+			out.append(buf, off, maxLength);
+		} else {
+			out.append(buf, off, contentLength).append(suffix);
+		}
+		return true;
+	}
 }
@@ -5,6 +5,7 @@ import java.util.UUID;
 import org.jspecify.annotations.Nullable;
 
 import io.github.rabinarayanpatra.sanitizer.core.FieldSanitizer;
+import io.github.rabinarayanpatra.sanitizer.core.TextSanitizer;
 
 /**
  * Sanitizer that normalizes a UUID string to lowercase and validates its
@@ -25,7 +26,7 @@ import io.github.rabinarayanpatra.sanitizer.core.FieldSanitizer;
  * @see FieldSanitizer
  * @since 1.0.0
  */
-public class UuidNormalizeSanitizer implements FieldSanitizer<String> {
+public class UuidNormalizeSanitizer implements FieldSanitizer<String>, TextSanitizer {
 
 	/**
 	 * Default constructor.
@@ -48,6 +49,10 @@ public class UuidNormalizeSanitizer implements FieldSanitizer<String> {
 			return null;
 		}
 
+		if (isCanonical(in)) {
+			return in;
+		}
+
 		String trimmed = in.trim();
 
 		if (trimmed.startsWith("{") && trimmed.endsWith("}")) {
@@ -61,4 +66,62 @@ public class UuidNormalizeSanitizer implements FieldSanitizer<String> {
 			return trimmed.toLowerCase(java.util.Locale.ROOT);
 		}
 	}
+
+	/**
+	 * Appends the canonical UUID. Input that is not already canonical is handed to
+	 * {@link #sanitize(String)}.
+	 *
+	 * @param buf
+	 *            the array holding the input
+	 * @param off
+	 *            the index of the first input character
+	 * @param len
+	 *            the number of input characters
+	 * @param out
+	 *            where the sanitized text is appended
+	 * @return {@code true}; the result is never {@code null}
+	 */
+	@Override
+	public boolean sanitize(final char[] buf, final int off, final int len, final StringBuilder out) {
+		if (isCanonical(buf, off, len)) {
+			out.append(buf, off, len);
+			return true;
+		}
+		return Chars.append(sanitize(new String(buf, off, len)), out);
+	}
+
+	/**
+	 * Returns {@code true} for the lowercase {@code 8-4-4-4-12} form that
+	 * {@link UUID#toString()} produces.
+	 */
+	private static boolean isCanonical(final String s) {
+		if (s.length() != 36) {
+			return false;
+		}
+		for (int i = 0; i < 36; i++) {
+			if (!isCanonicalAt(i, s.charAt(i))) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static boolean isCanonical(final char[] buf, final int off, final int len) {
+		if (len != 36) {
+			return false;
+		}
+		for (int i = 0; i < 36; i++) {
+			if (!isCanonicalAt(i, buf[off + i])) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static boolean isCanonicalAt(final int i, final char c) {
+		if (i == 8 || i == 13 || i == 18 || i == 23) {
+			return c == '-';
+		}
+		return Chars.isDigit(c) || (c >= 'a' && c <= 'f');
+	}
 }
@@ -0,0 +1,31 @@
+package io.github.rabinarayanpatra.sanitizer.core;
+
+import org.jspecify.annotations.Nullable;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event for one range of same-class beans sanitized by
+ * {@link SanitizationUtils#applyAll}. The parallel overload emits one event per
+ * range. Control it with the {@code enabled} and {@code threshold} settings of
+ * {@code io.github.rabinarayanpatra.sanitizer.BatchSanitization}.
+ */
+@Name("io.github.rabinarayanpatra.sanitizer.BatchSanitization")
+@Label("Batch Sanitization")
+@Description("Column-wise sanitization of a range of beans of one class")
+@Category("Sanitizer")
+@StackTrace(false)
+final class BatchSanitizationEvent extends Event {
+
+	@Label("Bean Class")
+	@Nullable
+	Class<?> beanClass;
+
+	@Label("Bean Count")
+	int beanCount;
+}
@@ -0,0 +1,381 @@
+package io.github.rabinarayanpatra.sanitizer.core;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.lang.ref.Cleaner;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Clob;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.Objects;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Sanitizer chain of a {@link Clob} field, built when every step of the
+ * declared chain can be {@link StreamingSanitizer streamed}.
+ * <p>
+ * The content is not read here. The field is set to a read-only {@code Clob}
+ * that sanitizes the original the first time its content or length is needed,
+ * typically when the JDBC driver binds it. The original is read exactly once,
+ * one window at a time, so CLOBs backed by a stream that cannot be read twice
+ * work as well. The sanitized text stays in memory while it fits in one window
+ * and goes to a temporary file beyond that, so sanitizing a large {@code @Lob}
+ * never holds the whole value in memory. Only a chain that can return
+ * {@code null} reads the original up front, to decide whether the field
+ * becomes {@code null}. A value this chain has already wrapped is returned as
+ * it is, so sanitizing a bean again does not stack views.
+ */
+final class ClobSanitizer implements FieldSanitizer<Clob> {
+
+	private final StreamingSanitizer streaming;
+
+	ClobSanitizer(final StreamingSanitizer streaming) {
+		this.streaming = streaming;
+	}
+
+	StreamingSanitizer streaming() {
+		return streaming;
+	}
+
+	@Override
+	public @Nullable Clob sanitize(final @Nullable Clob input) {
+		if (input == null) {
+			return null;
+		}
+		if (input instanceof final SanitizedClob sanitized && sanitized.streaming == streaming) {
+			// already this chain's output, e.g. when a bean is sanitized again
+			return input;
+		}
+		final SanitizedClob sanitized = new SanitizedClob(input, streaming);
+		if (streaming.canReturnNull()) {
+			try {
+				if (!sanitized.spool().written) {
+					sanitized.spool().delete();
+					return null;
+				}
+			} catch (final SQLException e) {
+				throw unreadable(e);
+			}
+		}
+		return sanitized;
+	}
+
+	@Override
+	public String toString() {
+		return "ClobSanitizer[" + streaming + "]";
+	}
+
+	private static RuntimeException unreadable(final SQLException e) {
+		return e.getCause() instanceof final IOException io
+				? new UncheckedIOException("Cannot read CLOB to sanitize it", io)
+				: new IllegalStateException("Cannot read CLOB to sanitize it", e);
+	}
+
+	/**
+	 * Read-only view of a {@code Clob} with the sanitizer chain applied. The
+	 * original is sanitized into a {@link Spool} on first use, and every read
+	 * after that reads the spool.
+	 */
+	static final class SanitizedClob implements Clob {
+
+		private static final Cleaner CLEANER = Cleaner.create();
+
+		private final Clob source;
+
+		private final StreamingSanitizer streaming;
+
+		private @Nullable Spool spool;
+
+		SanitizedClob(final Clob source, final StreamingSanitizer streaming) {
+			this.source = source;
+			this.streaming = streaming;
+		}
+
+		/**
+		 * Returns the sanitized content, reading the original the first time.
+		 */
+		Spool spool() throws SQLException {
+			final @Nullable Spool current = spool;
+			if (current != null) {
+				return current;
+			}
+			final Spool created = new Spool(streaming.window());
+			// the action holds the spool only, so it runs once this view is unreachable
+			CLEANER.register(this, created::delete);
+			try (created) {
+				created.written = streaming.sanitize(source, created);
+			} catch (final IOException e) {
+				created.delete();
+				throw new SQLException("Cannot read CLOB to sanitize it", e);
+			}
+			spool = created;
+			return created;
+		}
+
+		@Override
+		public long length() throws SQLException {
+			return spool().length;
+		}
+
+		@Override
+		public String getSubString(final long pos, final int length) throws SQLException {
+			if (pos < 1 || length < 0) {
+				throw new SQLException("Invalid position " + pos + " or length " + length);
+			}
+			try (Reader reader = getCharacterStream()) {
+				skipFully(reader, pos - 1);
+				final char[] chars = new char[length];
+				int read = 0;
+				while (read < length) {
+					final int n = reader.read(chars, read, length - read);
+					if (n < 0) {
+						break;
+					}
+					read += n;
+				}
+				return new String(chars, 0, read);
+			} catch (final IOException e) {
+				throw new SQLException("Cannot read CLOB to sanitize it", e);
+			}
+		}
+
+		@Override
+		public Reader getCharacterStream() throws SQLException {
+			try {
+				return spool().reader();
+			} catch (final IOException e) {
+				throw new SQLException("Cannot read sanitized CLOB", e);
+			}
+		}
+
+		@Override
+		public Reader getCharacterStream(final long pos, final long length) throws SQLException {
+			return new StringReader(getSubString(pos, Math.toIntExact(length)));
+		}
+
+		@Override
+		public InputStream getAsciiStream() throws SQLException {
+			throw new SQLFeatureNotSupportedException("Sanitized CLOB content is only available as characters");
+		}
+
+		@Override
+		public long position(final String searchstr, final long start) throws SQLException {
+			throw new SQLFeatureNotSupportedException("Sanitized CLOB does not support searching");
+		}
+
+		@Override
+		public long position(final Clob searchstr, final long start) throws SQLException {
+			throw new SQLFeatureNotSupportedException("Sanitized CLOB does not support searching");
+		}
+
+		@Override
+		public int setString(final long pos, final String str) throws SQLException {
+			throw readOnly();
+		}
+
+		@Override
+		public int setString(final long pos, final String str, final int offset, final int len) throws SQLException {
+			throw readOnly();
+		}
+
+		@Override
+		public OutputStream setAsciiStream(final long pos) throws SQLException {
+			throw readOnly();
+		}
+
+		@Override
+		public Writer setCharacterStream(final long pos) throws SQLException {
+			throw readOnly();
+		}
+
+		@Override
+		public void truncate(final long len) throws SQLException {
+			throw readOnly();
+		}
+
+		@Override
+		public void free() throws SQLException {
+			final @Nullable Spool current = spool;
+			if (current != null) {
+				current.delete();
+			}
+			source.free();
+		}
+
+		private static SQLException readOnly() {
+			return new SQLFeatureNotSupportedException("Sanitized CLOB is read-only");
+		}
+
+		private static void skipFully(final Reader reader, final long n) throws IOException {
+			long remaining = n;
+			while (remaining > 0) {
+				final long skipped = reader.skip(remaining);
+				if (skipped <= 0) {
+					return;
+				}
+				remaining -= skipped;
+			}
+		}
+	}
+
+	/**
+	 * Sanitized content of a CLOB. It is kept in memory while it fits in
+	 * {@code limit} characters and moves to a temporary file, created readable by
+	 * its owner only, once it grows beyond that. The file holds the characters as
+	 * UTF-16 code units, so the content reads back exactly, unpaired surrogates
+	 * included.
+	 */
+	private static final class Spool extends Writer {
+
+		private final int limit;
+
+		private final StringBuilder memory = new StringBuilder();
+
+		private final byte[] bytes = new byte[8192];
+
+		private @Nullable Path file;
+
+		private @Nullable OutputStream out;
+
+		/** Number of characters written. */
+		long length;
+
+		/** Whether the chain produced a result rather than {@code null}. */
+		boolean written;
+
+		Spool(final int limit) {
+			this.limit = limit;
+		}
+
+		@Override
+		public void write(final char[] cbuf, final int off, final int len) throws IOException {
+			length += len;
+			@Nullable
+			OutputStream stream = out;
+			if (stream == null) {
+				if (file == null && memory.length() + len <= limit) {
+					memory.append(cbuf, off, len);
+					return;
+				}
+				stream = open();
+			}
+			encode(stream, cbuf, off, len);
+		}
+
+		private OutputStream open() throws IOException {
+			final Path created = Files.createTempFile("sanitized-clob", ".tmp");
+			file = created;
+			final OutputStream stream = Files.newOutputStream(created);
+			out = stream;
+			final char[] held = new char[memory.length()];
+			memory.getChars(0, held.length, held, 0);
+			memory.setLength(0);
+			memory.trimToSize();
+			encode(stream, held, 0, held.length);
+			return stream;
+		}
+
+		private void encode(final OutputStream stream, final char[] cbuf, final int off, final int len)
+				throws IOException {
+			for (int i = 0; i < len;) {
+				final int n = Math.min(len - i, bytes.length / 2);
+				for (int j = 0; j < n; j++) {
+					final char c = cbuf[off + i + j];
+					bytes[2 * j] = (byte) (c >>> 8);
+					bytes[2 * j + 1] = (byte) c;
+				}
+				stream.write(bytes, 0, 2 * n);
+				i += n;
+			}
+		}
+
+		Reader reader() throws IOException {
+			final @Nullable Path current = file;
+			return current == null ? new StringReader(memory.toString())
+					: new SpoolReader(Files.newInputStream(current), length);
+		}
+
+		/**
+		 * Deletes the temporary file, if any. Safe to call more than once.
+		 */
+		void delete() {
+			final @Nullable Path current = file;
+			if (current == null) {
+				return;
+			}
+			try {
+				close();
+				Files.deleteIfExists(current);
+			} catch (final IOException e) {
+				// left for the temporary directory's own cleanup
+			}
+		}
+
+		@Override
+		public void flush() throws IOException {
+			final @Nullable OutputStream stream = out;
+			if (stream != null) {
+				stream.flush();
+			}
+		}
+
+		@Override
+		public void close() throws IOException {
+			final @Nullable OutputStream stream = out;
+			if (stream != null) {
+				out = null;
+				stream.close();
+			}
+		}
+	}
+
+	/**
+	 * Reads the characters of a spool file.
+	 */
+	private static final class SpoolReader extends Reader {
+
+		private final InputStream in;
+
+		private final byte[] bytes = new byte[8192];
+
+		private long remaining;
+
+		SpoolReader(final InputStream in, final long length) {
+			this.in = in;
+			this.remaining = length;
+		}
+
+		@Override
+		public int read(final char[] cbuf, final int off, final int len) throws IOException {
+			Objects.checkFromIndexSize(off, len, cbuf.length);
+			if (len == 0) {
+				return 0;
+			}
+			if (remaining == 0) {
+				return -1;
+			}
+			final int n = (int) Math.min(Math.min(len, remaining), bytes.length / 2);
+			if (in.readNBytes(bytes, 0, 2 * n) < 2 * n) {
+				throw new EOFException("Sanitized CLOB file ended early");
+			}
+			for (int j = 0; j < n; j++) {
+				cbuf[off + j] = (char) ((bytes[2 * j] & 0xFF) << 8 | (bytes[2 * j + 1] & 0xFF));
+			}
+			remaining -= n;
+			return n;
+		}
+
+		@Override
+		public void close() throws IOException {
+			in.close();
+		}
+	}
+}
@@ -25,6 +25,21 @@ import org.jspecify.annotations.Nullable;
  * private String accountNumber;
  * </pre>
  *
+ * Configuration does not change after {@link #configure(Map)}, so subclasses
+ * should parse it once in {@link #onConfigure()} into plain fields rather than
+ * looking parameters up on every {@code sanitize} call. Use the strict
+ * {@code parse*Param} methods there so that invalid values fail when the
+ * annotated class is first inspected:
+ *
+ * <pre>
+ * private int reveal = 4;
+ *
+ * &#64;Override
+ * protected void onConfigure() {
+ * 	reveal = parseIntParam("reveal", 4);
+ * }
+ * </pre>
+ *
  * @param <T>
  *            the type of the field
  * @since 1.1.0
@@ -48,6 +63,24 @@ public abstract class ConfigurableFieldSanitizer<T> implements FieldSanitizer<T>
 	 */
 	public void configure(final Map<String, String> params) {
 		this.params = Collections.unmodifiableMap(new LinkedHashMap<>(params));
+		onConfigure();
+	}
+
+	/**
+	 * Called once at the end of {@link #configure(Map)}, after the parameters are
+	 * available through the {@code get*Param} and {@code parse*Param} methods.
+	 * Override to validate the parameters and precompute whatever
+	 * {@code sanitize} needs. Throw {@link IllegalArgumentException} for invalid
+	 * values. Not called when the annotation has no parameters, so fields should
+	 * be initialized with their defaults.
+	 * <p>
+	 * The default implementation does nothing.
+	 *
+	 * @throws IllegalArgumentException
+	 *             if a parameter value is invalid
+	 * @since 1.2.0
+	 */
+	protected void onConfigure() {
 	}
 
 	/**
@@ -94,6 +127,34 @@ public abstract class ConfigurableFieldSanitizer<T> implements FieldSanitizer<T>
 		}
 	}
 
+	/**
+	 * Returns a configuration parameter as an integer, or a default if not present.
+	 * Unlike {@link #getIntParam(String, int)}, a value that is not an integer is
+	 * rejected instead of replaced by the default.
+	 *
+	 * @param key
+	 *            the parameter key
+	 * @param defaultValue
+	 *            the default value if the key is absent
+	 * @return the parameter value as int, or the default
+	 * @throws IllegalArgumentException
+	 *             if the value is present but not an integer
+	 * @since 1.2.0
+	 */
+	protected int parseIntParam(final String key, final int defaultValue) {
+		final @Nullable String value = params.get(key);
+		if (value == null) {
+			return defaultValue;
+		}
+		try {
+			return Integer.parseInt(value);
+		} catch (final NumberFormatException e) {
+			throw new IllegalArgumentException(
+					getClass().getSimpleName() + " parameter '" + key + "' must be an integer but was '" + value + "'",
+					e);
+		}
+	}
+
 	/**
 	 * Parses a comma-separated {@code key=value} parameter string into a map.
 	 *
@@ -0,0 +1,213 @@
+package io.github.rabinarayanpatra.sanitizer.core;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.List;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Compiled sanitization step for a single {@link Field}: a getter and setter
+ * {@link MethodHandle} adapted to {@code (Object)Object} and
+ * {@code (Object,Object)void}, plus the ordered chain of sanitizers declared on
+ * the field.
+ * <p>
+ * The field is read once, every sanitizer in the chain runs on the value, and
+ * the result is written back once. This is observably equivalent to running the
+ * sanitizers one by one with a read and write around each step, but avoids the
+ * intermediate reflective round trips.
+ */
+final class FieldPlan {
+
+	private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+	private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+	private final Field field;
+
+	private final MethodHandle getter;
+
+	private final MethodHandle setter;
+
+	private final FieldSanitizer<Object>[] chain;
+
+	private FieldPlan(final Field field, final MethodHandle getter, final MethodHandle setter,
+			final FieldSanitizer<Object>[] chain) {
+		this.field = field;
+		this.getter = getter;
+		this.setter = setter;
+		this.chain = chain;
+	}
+
+	/**
+	 * Compiles accessors for the given field. The field must already have been made
+	 * accessible.
+	 *
+	 * @param field
+	 *            the annotated field
+	 * @param chain
+	 *            the sanitizers to apply, in declaration order
+	 * @return the compiled field plan
+	 * @throws IllegalStateException
+	 *             if the field cannot be read or written
+	 */
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	static FieldPlan compile(final Field field, final List<FieldSanitizer<Object>> chain) {
+		final MethodHandles.Lookup lookup = MethodHandles.lookup();
+		MethodHandle getter;
+		MethodHandle setter;
+		try {
+			getter = lookup.unreflectGetter(field);
+			setter = lookup.unreflectSetter(field);
+		} catch (final IllegalAccessException e) {
+			throw new IllegalStateException("Cannot access field '" + field.getName() + "' on "
+					+ field.getDeclaringClass().getName()
+					+ ". This may occur with Java records, JPMS strongly-encapsulated fields, "
+					+ "or final fields. Ensure the field is mutable and accessible.", e);
+		}
+		if (Modifier.isStatic(field.getModifiers())) {
+			getter = MethodHandles.dropArguments(getter, 0, Object.class);
+			setter = MethodHandles.dropArguments(setter, 0, Object.class);
+		}
+		return new FieldPlan(field, getter.asType(GETTER_TYPE), setter.asType(SETTER_TYPE),
+				chain.toArray(new FieldSanitizer[0]));
+	}
+
+	/**
+	 * Reads the field from {@code bean}, runs the sanitizer chain and writes the
+	 * result back. The write is skipped when the chain returns the same reference
+	 * it was given, which is what the built-in sanitizers do for clean input.
+	 *
+	 * @param bean
+	 *            the instance owning the field
+	 */
+	void apply(final Object bean) {
+		sanitize(bean, get(bean));
+	}
+
+	/**
+	 * Runs the sanitizer chain on {@code raw}, the current value of the field in
+	 * {@code bean}, writes the result back when it differs, and returns it.
+	 *
+	 * @param bean
+	 *            the instance owning the field
+	 * @param raw
+	 *            the value just read from the field
+	 * @return the sanitized value, now stored in the field
+	 */
+	@Nullable
+	Object sanitize(final Object bean, final @Nullable Object raw) {
+		@Nullable
+		Object value = raw;
+		int step = 0;
+		try {
+			final SanitizerCallEvent event = new SanitizerCallEvent();
+			event.begin();
+			for (; step < chain.length; step++) {
+				value = chain[step].sanitize(value);
+			}
+			event.end();
+			if (event.shouldCommit()) {
+				event.commit(field.getDeclaringClass(), field.getName(), raw);
+			}
+			if (value != raw) {
+				setter.invokeExact(bean, value);
+			}
+			return value;
+		} catch (final ClassCastException e) {
+			throw GeneratedSanitizer.typeMismatch(bean, field.getName(), field.getType(),
+					chain[Math.min(step, chain.length - 1)], e);
+		} catch (final RuntimeException | Error e) {
+			throw e;
+		} catch (final Throwable e) {
+			throw new IllegalStateException("Cannot write field '" + field.getName() + "' on "
+					+ bean.getClass().getName(), e);
+		}
+	}
+
+	/**
+	 * Sanitizes this field on {@code beans[from..to)} column-wise: all values are
+	 * read first, then each sanitizer of the chain runs over the whole column
+	 * before the next one starts, and finally the changed values are written back.
+	 * Running one sanitizer in a tight loop keeps its call site monomorphic.
+	 *
+	 * @param beans
+	 *            instances of the class this plan was built for
+	 * @param from
+	 *            the first index, inclusive
+	 * @param to
+	 *            the last index, exclusive
+	 * @param raw
+	 *            scratch space of at least {@code to - from} elements
+	 * @param values
+	 *            scratch space of at least {@code to - from} elements
+	 */
+	void applyAll(final Object[] beans, final int from, final int to, final @Nullable Object[] raw,
+			final @Nullable Object[] values) {
+		final int n = to - from;
+		for (int i = 0; i < n; i++) {
+			raw[i] = get(beans[from + i]);
+		}
+		System.arraycopy(raw, 0, values, 0, n);
+		for (final FieldSanitizer<Object> sanitizer : chain) {
+			int i = 0;
+			try {
+				for (; i < n; i++) {
+					values[i] = sanitizer.sanitize(values[i]);
+				}
+			} catch (final ClassCastException e) {
+				throw GeneratedSanitizer.typeMismatch(beans[from + i], field.getName(), field.getType(), sanitizer,
+						e);
+			}
+		}
+		for (int i = 0; i < n; i++) {
+			if (values[i] != raw[i]) {
+				set(beans[from + i], values[i]);
+			}
+		}
+	}
+
+	private void set(final Object bean, final @Nullable Object value) {
+		try {
+			setter.invokeExact(bean, value);
+		} catch (final ClassCastException e) {
+			throw GeneratedSanitizer.typeMismatch(bean, field.getName(), field.getType(), chain[chain.length - 1], e);
+		} catch (final RuntimeException | Error e) {
+			throw e;
+		} catch (final Throwable e) {
+			throw new IllegalStateException("Cannot write field '" + field.getName() + "' on "
+					+ bean.getClass().getName(), e);
+		}
+	}
+
+	/**
+	 * Reads the field from {@code bean}.
+	 *
+	 * @param bean
+	 *            the instance owning the field
+	 * @return the current value
+	 */
+	@Nullable
+	Object get(final Object bean) {
+		try {
+			return (Object) getter.invokeExact(bean);
+		} catch (final RuntimeException | Error e) {
+			throw e;
+		} catch (final Throwable e) {
+			throw new IllegalStateException("Cannot read field '" + field.getName() + "' on "
+					+ bean.getClass().getName(), e);
+		}
+	}
+
+	/**
+	 * Returns the reflected field this plan operates on.
+	 *
+	 * @return the field
+	 */
+	Field field() {
+		return field;
+	}
+}
@@ -0,0 +1,428 @@
+package io.github.rabinarayanpatra.sanitizer.core;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.jspecify.annotations.Nullable;
+
+import io.github.rabinarayanpatra.sanitizer.builtin.Chars;
+import io.github.rabinarayanpatra.sanitizer.builtin.CollapseWhitespaceSanitizer;
+import io.github.rabinarayanpatra.sanitizer.builtin.HtmlEscapeSanitizer;
+import io.github.rabinarayanpatra.sanitizer.builtin.LowerCaseSanitizer;
+import io.github.rabinarayanpatra.sanitizer.builtin.NullIfBlankSanitizer;
+import io.github.rabinarayanpatra.sanitizer.builtin.RemoveNonPrintableSanitizer;
+import io.github.rabinarayanpatra.sanitizer.builtin.SafeFilenameSanitizer;
+import io.github.rabinarayanpatra.sanitizer.builtin.TrimSanitizer;
+import io.github.rabinarayanpatra.sanitizer.builtin.UpperCaseSanitizer;
+
+/**
+ * Runs a chain of character-level built-in sanitizers as a single pass over
+ * the input.
+ * <p>
+ * Each input character is pushed through the stages in order. Stages that trim
+ * emit trailing whitespace tentatively and remember where it started in the
+ * output, then cut it off when the input ends. The output stays in a
+ * "matches the input so far" mode and only allocates a buffer when the first
+ * differing character is emitted. Clean input is therefore returned as the
+ * same instance without building any intermediate or output string.
+ * <p>
+ * Only exact built-in classes are fused (not subclasses), and only their
+ * {@code String -> String} semantics are reproduced. The case stages are
+ * exact for ASCII; values containing other characters are run through the
+ * original sanitizers one after another, so {@link String#toLowerCase} and
+ * {@link String#toUpperCase} special cases keep working.
+ * <p>
+ * As a {@link TextSanitizer}, the same pass reads from a character array and
+ * writes straight into the caller's buffer; a {@code NullIfBlankSanitizer}
+ * stage that ends up with a {@code null} result rolls the buffer back.
+ */
+final class FusedStringSanitizer implements FieldSanitizer<String>, TextSanitizer {
+
+	/**
+	 * Fusion is only worth it for two or more adjacent stages; state flags are
+	 * packed into a {@code long}, which caps a fused run at 64 stages.
+	 */
+	private static final int MAX_STAGES = 64;
+
+	/**
+	 * The per-character operations a fused chain is made of.
+	 */
+	enum Stage {
+		TRIM, COLLAPSE_WHITESPACE, LOWER_CASE, UPPER_CASE, REMOVE_NON_PRINTABLE, HTML_ESCAPE, SAFE_FILENAME, NULL_IF_BLANK
+	}
+
+	private final Stage[] stages;
+
+	private final FieldSanitizer<String>[] originals;
+
+	private final boolean asciiOnly;
+
+	private FusedStringSanitizer(final Stage[] stages, final FieldSanitizer<String>[] originals) {
+		this.stages = stages;
+		this.originals = originals;
+		boolean hasCase = false;
+		for (final Stage stage : stages) {
+			hasCase |= stage == Stage.LOWER_CASE || stage == Stage.UPPER_CASE;
+		}
+		this.asciiOnly = hasCase;
+	}
+
+	/**
+	 * Replaces every run of two or more fusable built-in sanitizers in
+	 * {@code chain} with a single {@code FusedStringSanitizer}. Other sanitizers
+	 * are kept as separate steps, in their original positions.
+	 *
+	 * @param chain
+	 *            the declared sanitizer chain of a {@code String} field
+	 * @return the chain with fusable runs collapsed
+	 */
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	static List<FieldSanitizer<Object>> fuse(final List<FieldSanitizer<Object>> chain) {
+		final List<FieldSanitizer<Object>> result = new ArrayList<>(chain.size());
+		int i = 0;
+		while (i < chain.size()) {
+			int end = i;
+			while (end < chain.size() && end - i < MAX_STAGES && stageOf(chain.get(end)) != null) {
+				end++;
+			}
+			if (end - i >= 2) {
+				final Stage[] stages = new Stage[end - i];
+				final FieldSanitizer[] originals = new FieldSanitizer[end - i];
+				for (int k = i; k < end; k++) {
+					stages[k - i] = stageOf(chain.get(k));
+					originals[k - i] = chain.get(k);
+				}
+				result.add((FieldSanitizer) new FusedStringSanitizer(stages, originals));
+				i = end;
+			} else {
+				result.add(chain.get(i));
+				i++;
+			}
+		}
+		return result;
+	}
+
+	static @Nullable Stage stageOf(final FieldSanitizer<?> sanitizer) {
+		final Class<?> type = sanitizer.getClass();
+		if (type == TrimSanitizer.class) {
+			return Stage.TRIM;
+		} else if (type == CollapseWhitespaceSanitizer.class) {
+			return Stage.COLLAPSE_WHITESPACE;
+		} else if (type == LowerCaseSanitizer.class) {
+			return Stage.LOWER_CASE;
+		} else if (type == UpperCaseSanitizer.class) {
+			return Stage.UPPER_CASE;
+		} else if (type == RemoveNonPrintableSanitizer.class) {
+			return Stage.REMOVE_NON_PRINTABLE;
+		} else if (type == HtmlEscapeSanitizer.class) {
+			return Stage.HTML_ESCAPE;
+		} else if (type == SafeFilenameSanitizer.class) {
+			return Stage.SAFE_FILENAME;
+		} else if (type == NullIfBlankSanitizer.class) {
+			return Stage.NULL_IF_BLANK;
+		}
+		return null;
+	}
+
+	@Override
+	public @Nullable String sanitize(final @Nullable String input) {
+		if (input == null) {
+			// every fusable built-in maps null to null
+			return null;
+		}
+		if (asciiOnly && !Chars.isAscii(input)) {
+			@Nullable
+			String value = input;
+			for (final FieldSanitizer<String> original : originals) {
+				value = original.sanitize(value);
+			}
+			return value;
+		}
+		final Run run = new Run(input, stages, null);
+		for (int i = 0; i < input.length(); i++) {
+			run.push(0, input.charAt(i));
+		}
+		return run.finish();
+	}
+
+	@Override
+	public boolean sanitize(final char[] buf, final int off, final int len, final StringBuilder out) {
+		if (asciiOnly && !Chars.isAscii(buf, off, off + len)) {
+			final @Nullable String value = sanitize(new String(buf, off, len));
+			if (value == null) {
+				return false;
+			}
+			out.append(value);
+			return true;
+		}
+		final int base = out.length();
+		final Run run = new Run("", stages, out);
+		for (int i = off; i < off + len; i++) {
+			run.push(0, buf[i]);
+		}
+		if (run.close()) {
+			return true;
+		}
+		out.setLength(base);
+		return false;
+	}
+
+	/**
+	 * Returns the stages this sanitizer runs, in order. The array must not be
+	 * modified.
+	 *
+	 * @return the fused stages
+	 */
+	Stage[] stages() {
+		return stages;
+	}
+
+	/**
+	 * Returns the simple class names of the fused sanitizers joined with
+	 * {@code +}.
+	 *
+	 * @return the names of the fused steps
+	 */
+	String stepNames() {
+		final StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < originals.length; i++) {
+			sb.append(i == 0 ? "" : "+").append(originals[i].getClass().getSimpleName());
+		}
+		return sb.toString();
+	}
+
+	@Override
+	public String toString() {
+		final StringBuilder sb = new StringBuilder("FusedStringSanitizer[");
+		for (int i = 0; i < originals.length; i++) {
+			sb.append(i == 0 ? "" : ", ").append(originals[i].getClass().getSimpleName());
+		}
+		return sb.append(']').toString();
+	}
+
+	/**
+	 * State of one {@code sanitize} call: per-stage flags and trailing whitespace
+	 * marks, plus the output. For a {@code String} input the output is
+	 * materialized lazily; for a character array it is the caller's buffer,
+	 * appended to from the start. {@link StreamingSanitizer} also uses a buffer,
+	 * and drains its {@link #settled(int) settled} prefix after every window.
+	 */
+	static final class Run {
+
+		private final String input;
+
+		private final Stage[] stages;
+
+		/** Output offset where each stage's pending trailing whitespace began. */
+		private final int[] marks;
+
+		/** Bit per stage: a non-whitespace character has passed the stage. */
+		private long started;
+
+		/** Bit per stage: the last character emitted was a collapsed space. */
+		private long inRun;
+
+		/** Length of the output prefix that still equals the input. */
+		private int matched;
+
+		private @Nullable StringBuilder out;
+
+		Run(final String input, final Stage[] stages, final @Nullable StringBuilder out) {
+			this.input = input;
+			this.stages = stages;
+			this.out = out;
+			this.marks = new int[stages.length];
+			Arrays.fill(marks, -1);
+		}
+
+		void push(final int k, final char c) {
+			if (k == stages.length) {
+				emit(c);
+				return;
+			}
+			final long bit = 1L << k;
+			switch (stages[k]) {
+				case TRIM -> {
+					if (c <= ' ') {
+						if ((started & bit) != 0) {
+							pending(k);
+							push(k + 1, c);
+						}
+					} else {
+						started |= bit;
+						marks[k] = -1;
+						push(k + 1, c);
+					}
+				}
+				case COLLAPSE_WHITESPACE -> {
+					if (c <= ' ') {
+						if ((started & bit) == 0) {
+							return;
+						}
+						pending(k);
+						if (!Chars.isWhitespace(c)) {
+							inRun &= ~bit;
+							push(k + 1, c);
+						} else if ((inRun & bit) == 0) {
+							inRun |= bit;
+							push(k + 1, ' ');
+						}
+					} else {
+						started |= bit;
+						inRun &= ~bit;
+						marks[k] = -1;
+						push(k + 1, c);
+					}
+				}
+				case SAFE_FILENAME -> {
+					if (c <= ' ') {
+						if ((started & bit) != 0) {
+							pending(k);
+							push(k + 1, c);
+						}
+					} else {
+						started |= bit;
+						marks[k] = -1;
+						push(k + 1, Chars.isFilenameReserved(c) ? '_' : c);
+					}
+				}
+				case LOWER_CASE -> push(k + 1, c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c);
+				case UPPER_CASE -> push(k + 1, c >= 'a' && c <= 'z' ? (char) (c - ('a' - 'A')) : c);
+				case REMOVE_NON_PRINTABLE -> {
+					if (!Chars.isNonPrintable(c)) {
+						push(k + 1, c);
+					}
+				}
+				case HTML_ESCAPE -> {
+					switch (c) {
+						case '&' -> pushAll(k + 1, "&amp;");
+						case '<' -> pushAll(k + 1, "&lt;");
+						case '>' -> pushAll(k + 1, "&gt;");
+						case '"' -> pushAll(k + 1, "&quot;");
+						case '\'' -> pushAll(k + 1, "&#x27;");
+						default -> push(k + 1, c);
+					}
+				}
+				case NULL_IF_BLANK -> {
+					if (c > ' ') {
+						started |= bit;
+					}
+					push(k + 1, c);
+				}
+			}
+		}
+
+		private void pushAll(final int k, final String s) {
+			for (int i = 0; i < s.length(); i++) {
+				push(k, s.charAt(i));
+			}
+		}
+
+		private void pending(final int k) {
+			if (marks[k] < 0) {
+				marks[k] = length();
+			}
+		}
+
+		/**
+		 * Cuts off the trailing whitespace the trimming stages still hold.
+		 *
+		 * @return {@code false} if a {@code NullIfBlankSanitizer} stage saw only
+		 *         blank input, so the result is {@code null}
+		 */
+		boolean close() {
+			for (int k = 0; k < stages.length; k++) {
+				if (stages[k] == Stage.NULL_IF_BLANK) {
+					if ((started & (1L << k)) == 0) {
+						return false;
+					}
+				} else if (marks[k] >= 0) {
+					truncate(marks[k]);
+				}
+			}
+			return true;
+		}
+
+		/**
+		 * Returns the length of the output prefix that no further input can change:
+		 * everything before the first pending trailing whitespace. While a
+		 * {@code NullIfBlankSanitizer} stage has only seen blank input, its output
+		 * is held back too, until there is more than {@code blankLimit} of it; the
+		 * blank output is then settled as if the stage will see non-blank input.
+		 * Only valid when writing to a buffer.
+		 */
+		int settled(final int blankLimit) {
+			int settled = length();
+			for (int k = 0; k < stages.length; k++) {
+				if (stages[k] == Stage.NULL_IF_BLANK) {
+					if ((started & (1L << k)) == 0 && length() <= blankLimit) {
+						return 0;
+					}
+				} else if (marks[k] >= 0) {
+					settled = Math.min(settled, marks[k]);
+				}
+			}
+			return settled;
+		}
+
+		/**
+		 * Removes the first {@code n} characters, at most
+		 * {@link #settled(int)}, from the output buffer after they have been
+		 * written elsewhere.
+		 */
+		void drop(final int n) {
+			final @Nullable StringBuilder sb = out;
+			if (sb == null || n == 0) {
+				return;
+			}
+			sb.delete(0, n);
+			for (int k = 0; k < marks.length; k++) {
+				if (marks[k] >= 0) {
+					marks[k] -= n;
+				}
+			}
+		}
+
+		@Nullable
+		String finish() {
+			if (!close()) {
+				return null;
+			}
+			final @Nullable StringBuilder sb = out;
+			if (sb != null) {
+				return sb.toString();
+			}
+			return matched == input.length() ? input : input.substring(0, matched);
+		}
+
+		private void emit(final char c) {
+			@Nullable
+			StringBuilder sb = out;
+			if (sb == null) {
+				if (matched < input.length() && input.charAt(matched) == c) {
+					matched++;
+					return;
+				}
+				sb = new StringBuilder(input.length() + 16);
+				sb.append(input, 0, matched);
+				out = sb;
+			}
+			sb.append(c);
+		}
+
+		private int length() {
+			final @Nullable StringBuilder sb = out;
+			return sb == null ? matched : sb.length();
+		}
+
+		private void truncate(final int mark) {
+			final @Nullable StringBuilder sb = out;
+			if (sb == null) {
+				matched = Math.min(matched, mark);
+			} else if (mark < sb.length()) {
+				sb.setLength(mark);
+			}
+		}
+	}
+}
@@ -0,0 +1,93 @@
+package io.github.rabinarayanpatra.sanitizer.core;
+
+import java.util.function.Supplier;
+
+/**
+ * Contract implemented by the {@code Foo$$Sanitizer} classes that the
+ * {@code sanitizer-processor} annotation processor generates at build time.
+ * <p>
+ * A generated sanitizer applies the {@code @Sanitize} chains of one concrete
+ * class using direct field or accessor calls, so
+ * {@link SanitizationUtils#apply(Object)} does not have to reflect over the
+ * class at runtime. When no generated class is present,
+ * {@code SanitizationUtils} falls back to its reflective plan. Sanitizer
+ * instances are obtained through {@link #sanitizer(Class, String, Supplier)}, so
+ * an installed {@link SanitizerFactory} applies to generated classes as well.
+ *
+ * <pre>
+ * {@code
+ * // generated for com.example.UserDto
+ * public final class UserDto$$Sanitizer implements GeneratedSanitizer<UserDto> {
+ *     public void apply(UserDto bean) { ... }
+ * }
+ * }
+ * </pre>
+ *
+ * @param <T>
+ *            the bean type the generated class sanitizes
+ * @since 1.2.0
+ */
+public interface GeneratedSanitizer<T> {
+
+	/**
+	 * Suffix appended to the binary name of a bean class to form the name of its
+	 * generated sanitizer.
+	 */
+	String SUFFIX = "$$Sanitizer";
+
+	/**
+	 * Sanitizes every {@code @Sanitize}-annotated field of {@code bean}.
+	 *
+	 * @param bean
+	 *            the bean to sanitize; never {@code null}
+	 */
+	void apply(T bean);
+
+	/**
+	 * Returns the sanitizer a generated class uses for one entry of
+	 * {@code @Sanitize(using = ...)}, resolved the same way as for the reflective
+	 * plan: from the installed {@link SanitizerFactory} if it supplies one, else
+	 * a shared or new instance created by {@code constructor} and configured with
+	 * {@code params}. Generated classes call this from their constructor, which
+	 * runs once per class plan.
+	 *
+	 * @param <S>
+	 *            the sanitizer type
+	 * @param type
+	 *            the sanitizer class named in the annotation
+	 * @param params
+	 *            the {@code params} of the annotation; empty if none
+	 * @param constructor
+	 *            creates a new instance when the factory supplies none
+	 * @return the sanitizer to use
+	 * @throws SanitizerInstantiationException
+	 *             if the new instance rejects {@code params}
+	 */
+	static <S extends FieldSanitizer<?>> FieldSanitizer<Object> sanitizer(final Class<S> type, final String params,
+			final Supplier<S> constructor) {
+		return SanitizationUtils.instantiate(type, params,
+				() -> SanitizationUtils.configured(constructor.get(), params));
+	}
+
+	/**
+	 * Builds the exception reported when a sanitizer's type does not match the
+	 * field it is declared on. Shared by generated code and the reflective plan so
+	 * both paths fail with the same diagnostic.
+	 *
+	 * @param bean
+	 *            the bean being sanitized
+	 * @param fieldName
+	 *            the name of the field
+	 * @param fieldType
+	 *            the declared type of the field
+	 * @param sanitizer
+	 *            the sanitizer that produced or rejected the value
+	 * @param cause
+	 *            the underlying cast failure
+	 * @return the exception to throw
+	 */
+	static IllegalStateException typeMismatch(final Object bean, final String fieldName, final Class<?> fieldType,
+			final FieldSanitizer<?> sanitizer, final ClassCastException cause) {
+		return SanitizerChain.typeMismatch(bean.getClass(), fieldName, fieldType, sanitizer, cause);
+	}
+}
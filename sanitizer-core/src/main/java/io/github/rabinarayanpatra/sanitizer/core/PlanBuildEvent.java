@@ -0,0 +1,36 @@
+package io.github.rabinarayanpatra.sanitizer.core;
+
+import org.jspecify.annotations.Nullable;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event for building the {@link SanitizationPlan} of a class,
+ * which happens once per class until the plan is evicted or the caches are
+ * cleared. Enabled in every recording unless disabled with
+ * {@code io.github.rabinarayanpatra.sanitizer.PlanBuild#enabled=false}.
+ */
+@Name("io.github.rabinarayanpatra.sanitizer.PlanBuild")
+@Label("Sanitization Plan Build")
+@Description("Inspection of a class and instantiation of its @Sanitize sanitizers")
+@Category("Sanitizer")
+@StackTrace(false)
+final class PlanBuildEvent extends Event {
+
+	@Label("Bean Class")
+	@Nullable
+	Class<?> beanClass;
+
+	@Label("Field Count")
+	@Description("Fields with an inbound sanitizer chain; 0 for records and generated sanitizers")
+	int fieldCount;
+
+	@Label("Generated")
+	@Description("Whether a sanitizer generated by sanitizer-processor is used instead of reflection")
+	boolean generated;
+}
@@ -0,0 +1,352 @@
+package io.github.rabinarayanpatra.sanitizer.core;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Per-class cache of values derived from a class, such as its
+ * {@link SanitizationPlan}, that does not keep the class or its class loader
+ * reachable.
+ * <p>
+ * Values live in a {@link ClassValue}, so they are stored with the class itself
+ * and become unreachable together with it when its class loader is discarded,
+ * for example on a hot redeploy. The cache only tracks its entries through weak
+ * references. With a maximum size, entries beyond the bound are evicted in
+ * second-chance order: an entry used since the last sweep is kept and its mark
+ * cleared, so hot classes stay resident while one-off classes are dropped. An
+ * evicted class is rebuilt on its next use.
+ * <p>
+ * Each value is built exactly once per class, and never while a monitor is
+ * held. The {@code ClassValue} only publishes an empty slot; the first thread
+ * to claim the slot runs the loader, and concurrent callers for the same class
+ * wait for its result on a {@link CompletableFuture}, which parks instead of
+ * blocking a monitor and so does not pin virtual threads. Callers for other
+ * classes are never delayed. If the loader fails, every waiting caller gets
+ * the same exception and the slot is discarded, so the next call tries again.
+ *
+ * @param <V>
+ *            the type of the cached values
+ */
+final class PlanCache<V> {
+
+	private final Function<Class<?>, V> loader;
+
+	private final Queue<Reference<Slot<V>>> resident = new ConcurrentLinkedQueue<>();
+
+	private final ReferenceQueue<Slot<V>> unloaded = new ReferenceQueue<>();
+
+	private final AtomicInteger size = new AtomicInteger();
+
+	/** Number of references in {@link #resident}, which is slow to count. */
+	private final AtomicInteger tracked = new AtomicInteger();
+
+	private final LongAdder requests = new LongAdder();
+
+	private final LongAdder misses = new LongAdder();
+
+	private final LongAdder evictions = new LongAdder();
+
+	/**
+	 * Incremented by {@link #clear()}. Slots remember the generation they were
+	 * created in rather than their {@code ClassValue}, which would otherwise stay
+	 * reachable from its own entries, and with it every discarded value.
+	 */
+	private final AtomicInteger generation = new AtomicInteger();
+
+	private volatile ClassValue<Slot<V>> slots = newSlots(0);
+
+	private volatile int maximumSize;
+
+	/**
+	 * Creates an unbounded cache.
+	 *
+	 * @param loader
+	 *            computes the value of a class on a miss; must not return
+	 *            {@code null}
+	 */
+	PlanCache(final Function<Class<?>, V> loader) {
+		this.loader = loader;
+	}
+
+	/**
+	 * Returns the value for {@code type}, computing it on first use or after it
+	 * was evicted.
+	 *
+	 * @param type
+	 *            the class to look up
+	 * @return the cached value
+	 */
+	V get(final Class<?> type) {
+		requests.increment();
+		while (true) {
+			final Slot<V> slot = slots.get(type);
+			@Nullable
+			V value = slot.value;
+			if (value == null) {
+				value = load(slot);
+				if (value == null) {
+					// released by clear() or an eviction since this thread looked it up
+					continue;
+				}
+			}
+			if (!slot.admitted.get() && slot.admitted.compareAndSet(false, true)) {
+				admit(slot);
+			} else if (!slot.referenced && maximumSize > 0) {
+				slot.referenced = true;
+			}
+			return value;
+		}
+	}
+
+	/**
+	 * Builds the value of {@code slot} if this thread is the first to claim it,
+	 * and otherwise waits for the thread that did.
+	 *
+	 * @return the value, or {@code null} if the slot was released
+	 */
+	private @Nullable V load(final Slot<V> slot) {
+		// only built slots are ever released, so an unclaimed one still has its result
+		final @Nullable CompletableFuture<V> result = slot.result;
+		if (result == null) {
+			return null;
+		}
+		if (slot.claimed.compareAndSet(false, true)) {
+			misses.increment();
+			slot.builder = Thread.currentThread();
+			try {
+				final V value = loader.apply(slot.type);
+				slot.value = value;
+				result.complete(value);
+				return value;
+			} catch (final RuntimeException | Error e) {
+				discard(slot);
+				result.completeExceptionally(e);
+				throw e;
+			} finally {
+				slot.builder = null;
+			}
+		}
+		if (slot.builder == Thread.currentThread()) {
+			// the loader asked for its own class; waiting would never end, so build an
+			// uncached value as a plain ClassValue would
+			return loader.apply(slot.type);
+		}
+		return join(result);
+	}
+
+	/**
+	 * Waits for {@code result} and returns its value, rethrowing the exception it
+	 * failed with as is rather than wrapped in a {@link CompletionException}.
+	 *
+	 * @param result
+	 *            a result built by another thread
+	 * @return the value
+	 */
+	static <V> V join(final CompletableFuture<V> result) {
+		try {
+			return result.join();
+		} catch (final CompletionException e) {
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			if (e.getCause() instanceof Error cause) {
+				throw cause;
+			}
+			throw e;
+		}
+	}
+
+	/**
+	 * Bounds the number of cached classes, evicting entries immediately if there
+	 * are more.
+	 *
+	 * @param maximumSize
+	 *            the maximum number of classes, or {@code 0} for no bound
+	 */
+	void setMaximumSize(final int maximumSize) {
+		this.maximumSize = maximumSize;
+		evictOverflow();
+	}
+
+	/**
+	 * Discards every cached value. Statistics are kept.
+	 */
+	void clear() {
+		slots = newSlots(generation.incrementAndGet());
+		Reference<Slot<V>> ref;
+		while ((ref = resident.poll()) != null) {
+			final @Nullable Slot<V> slot = ref.get();
+			if (slot != null) {
+				slot.release();
+			}
+			// a cleared reference is never enqueued, so it cannot be counted twice
+			ref.clear();
+		}
+		while (unloaded.poll() != null) {
+			// drop references that were already enqueued
+		}
+		size.set(0);
+		tracked.set(0);
+	}
+
+	/**
+	 * Adds this cache's counters to {@code stats}.
+	 *
+	 * @param stats
+	 *            the statistics to add to
+	 * @return the combined statistics
+	 */
+	PlanCacheStats addTo(final PlanCacheStats stats) {
+		final long missCount = misses.sum();
+		return stats.plus(
+				new PlanCacheStats(requests.sum() - missCount, missCount, evictions.sum(), Math.max(size.get(), 0)));
+	}
+
+	private ClassValue<Slot<V>> newSlots(final int slotGeneration) {
+		return new ClassValue<>() {
+			@Override
+			protected Slot<V> computeValue(final Class<?> type) {
+				// cheap and side-effect free: racing threads may each create a slot, but
+				// only the published one is ever loaded
+				return new Slot<>(type, slotGeneration);
+			}
+		};
+	}
+
+	/**
+	 * Removes {@code slot} from the current {@code ClassValue}, unless it belongs
+	 * to one already discarded by {@link #clear()}.
+	 */
+	private void discard(final Slot<V> slot) {
+		if (slot.generation == generation.get()) {
+			slots.remove(slot.type);
+		}
+	}
+
+	private void admit(final Slot<V> slot) {
+		drainUnloaded();
+		resident.add(new WeakReference<>(slot, unloaded));
+		tracked.incrementAndGet();
+		size.incrementAndGet();
+		if (slot.generation != generation.get()) {
+			// built while clear() ran, which may have missed it
+			slot.release();
+		}
+		evictOverflow();
+	}
+
+	/**
+	 * Accounts for classes that were unloaded, and drops their tracking
+	 * references once they make up half of the queue.
+	 */
+	private void drainUnloaded() {
+		int cleared = 0;
+		while (unloaded.poll() != null) {
+			cleared++;
+		}
+		if (cleared > 0 && size.addAndGet(-cleared) < tracked.get() / 2) {
+			int removed = 0;
+			for (final Iterator<Reference<Slot<V>>> it = resident.iterator(); it.hasNext();) {
+				if (it.next().get() == null) {
+					it.remove();
+					removed++;
+				}
+			}
+			tracked.addAndGet(-removed);
+		}
+	}
+
+	private void evictOverflow() {
+		final int max = maximumSize;
+		if (max <= 0) {
+			return;
+		}
+		// every tracked entry is visited at most twice: once to clear its mark and
+		// once to evict it
+		int budget = 2 * tracked.get();
+		while (size.get() > max && budget-- > 0) {
+			final Reference<Slot<V>> ref = resident.poll();
+			if (ref == null) {
+				return;
+			}
+			tracked.decrementAndGet();
+			final Slot<V> slot = ref.get();
+			if (slot == null) {
+				continue;
+			}
+			if (slot.generation != generation.get()) {
+				ref.clear();
+				continue;
+			}
+			if (slot.referenced) {
+				slot.referenced = false;
+				resident.add(ref);
+				tracked.incrementAndGet();
+				continue;
+			}
+			ref.clear();
+			discard(slot);
+			slot.release();
+			size.decrementAndGet();
+			evictions.increment();
+		}
+	}
+
+	/**
+	 * The value of one class together with its build and eviction state. Only
+	 * reachable strongly from the class itself, which may hold on to the entries
+	 * of a discarded {@code ClassValue} for a while; a discarded slot is
+	 * therefore released, so it no longer references its value.
+	 */
+	private static final class Slot<V> {
+
+		final Class<?> type;
+
+		/** The {@link PlanCache#generation} of the {@code ClassValue} holding this slot. */
+		final int generation;
+
+		/** Set by the thread that wins the right to build the value. */
+		final AtomicBoolean claimed = new AtomicBoolean();
+
+		/**
+		 * Completed once the value is built, for threads waiting on the builder;
+		 * {@code null} once released.
+		 */
+		volatile @Nullable CompletableFuture<V> result = new CompletableFuture<>();
+
+		/** The built value, read without touching {@link #result}. */
+		volatile @Nullable V value;
+
+		volatile @Nullable Thread builder;
+
+		final AtomicBoolean admitted = new AtomicBoolean();
+
+		volatile boolean referenced;
+
+		Slot(final Class<?> type, final int generation) {
+			this.type = type;
+			this.generation = generation;
+		}
+
+		/**
+		 * Drops the value. Callers still holding this slot see {@code null} and
+		 * look the class up again.
+		 */
+		void release() {
+			value = null;
+			result = null;
+		}
+	}
+}
@@ -0,0 +1,89 @@
+package io.github.rabinarayanpatra.sanitizer.core;
+
+/**
+ * Snapshot of the counters of the caches that hold the per-class plans of
+ * {@link SanitizationUtils}, summed over all of them. Counters start at zero
+ * when the library is loaded and are not reset by
+ * {@link SanitizationUtils#setSanitizerFactory(SanitizerFactory)}.
+ *
+ * @since 1.2.0
+ */
+public final class PlanCacheStats {
+
+	static final PlanCacheStats EMPTY = new PlanCacheStats(0, 0, 0, 0);
+
+	private final long hitCount;
+
+	private final long missCount;
+
+	private final long evictionCount;
+
+	private final int size;
+
+	PlanCacheStats(final long hitCount, final long missCount, final long evictionCount, final int size) {
+		this.hitCount = hitCount;
+		this.missCount = missCount;
+		this.evictionCount = evictionCount;
+		this.size = size;
+	}
+
+	/**
+	 * Returns how many lookups found a cached plan.
+	 *
+	 * @return the number of hits
+	 */
+	public long hitCount() {
+		return hitCount;
+	}
+
+	/**
+	 * Returns how many lookups had to build a plan, either on first use of a
+	 * class or after it was evicted.
+	 *
+	 * @return the number of misses
+	 */
+	public long missCount() {
+		return missCount;
+	}
+
+	/**
+	 * Returns how many plans were evicted to stay within the maximum size.
+	 * Plans of unloaded classes are not counted.
+	 *
+	 * @return the number of evictions
+	 */
+	public long evictionCount() {
+		return evictionCount;
+	}
+
+	/**
+	 * Returns the approximate number of plans currently cached.
+	 *
+	 * @return the number of cached plans
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Returns the share of lookups that were hits, or {@code 1.0} when there were
+	 * none.
+	 *
+	 * @return the hit rate between {@code 0.0} and {@code 1.0}
+	 */
+	public double hitRate() {
+		final long requests = hitCount + missCount;
+		return requests == 0 ? 1.0 : (double) hitCount / requests;
+	}
+
+	PlanCacheStats plus(final PlanCacheStats other) {
+		return new PlanCacheStats(hitCount + other.hitCount, missCount + other.missCount,
+				evictionCount + other.evictionCount, size + other.size);
+	}
+
+	@Override
+	public String toString() {
+		return "PlanCacheStats[hits=" + hitCount + ", misses=" + missCount + ", evictions=" + evictionCount
+				+ ", size=" + size + "]";
+	}
+}
@@ -0,0 +1,66 @@
+package io.github.rabinarayanpatra.sanitizer.core;
+
+import java.util.Objects;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Sanitizer step that times its delegate and reports the outcome to a
+ * {@link SanitizationRecorder.StepTimer}. Only used in plans built while a
+ * {@link SanitizationRecorder} is installed.
+ */
+final class RecordingSanitizer implements FieldSanitizer<Object> {
+
+	private final FieldSanitizer<Object> delegate;
+
+	private final SanitizationRecorder.StepTimer timer;
+
+	RecordingSanitizer(final FieldSanitizer<Object> delegate, final SanitizationRecorder.StepTimer timer) {
+		this.delegate = delegate;
+		this.timer = timer;
+	}
+
+	/**
+	 * Returns the name reported for {@code sanitizer}: its simple class name, or
+	 * the names of the fused built-ins joined with {@code +}.
+	 *
+	 * @param sanitizer
+	 *            a step of a sanitizer chain
+	 * @return the name to report
+	 */
+	static String nameOf(final FieldSanitizer<?> sanitizer) {
+		return sanitizer instanceof FusedStringSanitizer fused ? fused.stepNames()
+				: sanitizer.getClass().getSimpleName();
+	}
+
+	/**
+	 * Returns the sanitizer this step times.
+	 *
+	 * @return the wrapped sanitizer
+	 */
+	FieldSanitizer<Object> delegate() {
+		return delegate;
+	}
+
+	@Override
+	public @Nullable Object sanitize(final @Nullable Object input) {
+		final long start = System.nanoTime();
+		final @Nullable Object result = delegate.sanitize(input);
+		final long nanos = System.nanoTime() - start;
+		final SanitizationRecorder.Outcome outcome;
+		if (input == null) {
+			outcome = SanitizationRecorder.Outcome.NULL;
+		} else if (result == input || Objects.equals(result, input)) {
+			outcome = SanitizationRecorder.Outcome.UNCHANGED;
+		} else {
+			outcome = SanitizationRecorder.Outcome.CHANGED;
+		}
+		timer.record(outcome, nanos);
+		return result;
+	}
+
+	@Override
+	public String toString() {
+		return delegate.toString();
+	}
+}
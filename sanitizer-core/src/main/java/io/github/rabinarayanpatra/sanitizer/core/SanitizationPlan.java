@@ -0,0 +1,233 @@
+package io.github.rabinarayanpatra.sanitizer.core;
+
+import java.util.List;
+import java.util.Objects;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Per-class compiled sanitization plan: the flattened list of {@link FieldPlan}s
+ * for every {@code @Sanitize}-annotated field in the class hierarchy, or the
+ * build-time {@link GeneratedSanitizer} for the class when one exists.
+ * <p>
+ * Plans are immutable and built once per class by
+ * {@link SanitizationUtils}, then shared by all threads.
+ */
+final class SanitizationPlan {
+
+	/**
+	 * Plan for classes without any sanitizable fields.
+	 */
+	static final SanitizationPlan EMPTY = new SanitizationPlan(List.of());
+
+	/**
+	 * Number of beans {@link #applyAll} sanitizes per field before moving on to
+	 * the next field, small enough for a block of beans and values to stay in
+	 * cache.
+	 */
+	private static final int BLOCK = 256;
+
+	private final FieldPlan[] fields;
+
+	private final @Nullable GeneratedSanitizer<Object> generated;
+
+	private final SanitizationRecorder.@Nullable BeanTimer timer;
+
+	SanitizationPlan(final List<FieldPlan> fields) {
+		this(fields, null);
+	}
+
+	SanitizationPlan(final List<FieldPlan> fields, final SanitizationRecorder.@Nullable BeanTimer timer) {
+		this.fields = fields.toArray(new FieldPlan[0]);
+		this.generated = null;
+		this.timer = timer;
+	}
+
+	SanitizationPlan(final GeneratedSanitizer<Object> generated) {
+		this.fields = new FieldPlan[0];
+		this.generated = generated;
+		this.timer = null;
+	}
+
+	/**
+	 * Sanitizes every planned field of {@code bean} in declaration order.
+	 *
+	 * @param bean
+	 *            an instance of the class this plan was built for
+	 */
+	void apply(final Object bean) {
+		final SanitizationRecorder.@Nullable BeanTimer t = timer;
+		if (t == null) {
+			applyFields(bean);
+			return;
+		}
+		final long start = System.nanoTime();
+		try {
+			applyFields(bean);
+		} finally {
+			t.record(1, System.nanoTime() - start);
+		}
+	}
+
+	private void applyFields(final Object bean) {
+		final @Nullable GeneratedSanitizer<Object> gen = generated;
+		if (gen != null) {
+			gen.apply(bean);
+			return;
+		}
+		for (final FieldPlan field : fields) {
+			field.apply(bean);
+		}
+	}
+
+	/**
+	 * Sanitizes {@code beans[from..to)}, which must all be instances of the class
+	 * this plan was built for. Beans are processed in blocks of
+	 * {@value #BLOCK} and each block field by field, see
+	 * {@link FieldPlan#applyAll}. A generated sanitizer is simply applied to each
+	 * bean in turn.
+	 *
+	 * @param beans
+	 *            the beans to sanitize
+	 * @param from
+	 *            the first index, inclusive
+	 * @param to
+	 *            the last index, exclusive
+	 */
+	void applyAll(final Object[] beans, final int from, final int to) {
+		final BatchSanitizationEvent event = new BatchSanitizationEvent();
+		event.begin();
+		final SanitizationRecorder.@Nullable BeanTimer t = timer;
+		if (t == null) {
+			applyAllFields(beans, from, to);
+		} else {
+			final long start = System.nanoTime();
+			try {
+				applyAllFields(beans, from, to);
+			} finally {
+				t.record(to - from, System.nanoTime() - start);
+			}
+		}
+		event.end();
+		if (event.shouldCommit() && from < to) {
+			event.beanClass = beans[from].getClass();
+			event.beanCount = to - from;
+			event.commit();
+		}
+	}
+
+	private void applyAllFields(final Object[] beans, final int from, final int to) {
+		final @Nullable GeneratedSanitizer<Object> gen = generated;
+		if (gen != null) {
+			for (int i = from; i < to; i++) {
+				gen.apply(beans[i]);
+			}
+			return;
+		}
+		if (fields.length == 0) {
+			return;
+		}
+		final int size = Math.min(BLOCK, to - from);
+		final @Nullable Object[] raw = new Object[size];
+		final @Nullable Object[] values = new Object[size];
+		for (int start = from; start < to; start += BLOCK) {
+			final int end = Math.min(start + BLOCK, to);
+			for (final FieldPlan field : fields) {
+				field.applyAll(beans, start, end, raw, values);
+			}
+		}
+	}
+
+	/**
+	 * Sanitizes the planned fields of {@code bean} whose value is not equal to
+	 * the one recorded in {@code previous}, and records the values afterwards.
+	 * Every field is sanitized when {@code previous} is {@code null} or was
+	 * recorded by another plan. A generated sanitizer has no per-field access, so
+	 * it is applied in full and nothing is recorded.
+	 *
+	 * @param bean
+	 *            an instance of the class this plan was built for
+	 * @param previous
+	 *            the state recorded after the last sanitization, if any
+	 * @return the state after this sanitization, or {@code null} if the plan
+	 *         cannot record one
+	 */
+	@Nullable
+	SanitizedState applyChanged(final Object bean, final @Nullable SanitizedState previous) {
+		final SanitizationRecorder.@Nullable BeanTimer t = timer;
+		if (t == null) {
+			return applyChangedFields(bean, previous);
+		}
+		final long start = System.nanoTime();
+		try {
+			return applyChangedFields(bean, previous);
+		} finally {
+			t.record(1, System.nanoTime() - start);
+		}
+	}
+
+	private @Nullable SanitizedState applyChangedFields(final Object bean, final @Nullable SanitizedState previous) {
+		final @Nullable GeneratedSanitizer<Object> gen = generated;
+		if (gen != null) {
+			gen.apply(bean);
+			return null;
+		}
+		if (fields.length == 0) {
+			return null;
+		}
+		final @Nullable Object[] known = previous != null && previous.plan == this ? previous.values : null;
+		final @Nullable Object[] values = new Object[fields.length];
+		for (int i = 0; i < fields.length; i++) {
+			final @Nullable Object raw = fields[i].get(bean);
+			values[i] = known != null && Objects.equals(raw, known[i]) ? raw : fields[i].sanitize(bean, raw);
+		}
+		return new SanitizedState(this, values);
+	}
+
+	/**
+	 * Records the current values of the planned fields of {@code bean} as already
+	 * sanitized, without running any sanitizer.
+	 *
+	 * @param bean
+	 *            an instance of the class this plan was built for
+	 * @return the recorded state, or {@code null} if the plan cannot record one
+	 */
+	@Nullable
+	SanitizedState snapshot(final Object bean) {
+		if (generated != null || fields.length == 0) {
+			return null;
+		}
+		final @Nullable Object[] values = new Object[fields.length];
+		for (int i = 0; i < fields.length; i++) {
+			values[i] = fields[i].get(bean);
+		}
+		return new SanitizedState(this, values);
+	}
+
+	/**
+	 * Returns the number of reflectively compiled fields.
+	 *
+	 * @return the field count, {@code 0} for generated and empty plans
+	 */
+	int fieldCount() {
+		return fields.length;
+	}
+
+	/**
+	 * Returns whether this plan delegates to a generated sanitizer.
+	 *
+	 * @return {@code true} for a plan built from a {@link GeneratedSanitizer}
+	 */
+	boolean isGenerated() {
+		return generated != null;
+	}
+
+	/**
+	 * Returns {@code true} when the plan has no fields to sanitize.
+	 *
+	 * @return whether the plan is a no-op
+	 */
+	boolean isEmpty() {
+		return fields.length == 0 && generated == null;
+	}
+}
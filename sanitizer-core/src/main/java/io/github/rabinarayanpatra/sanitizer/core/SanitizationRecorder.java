@@ -0,0 +1,92 @@
+package io.github.rabinarayanpatra.sanitizer.core;
+
+/**
+ * Receives timings and outcomes of sanitization, for example to publish them
+ * as metrics. Install one with
+ * {@link SanitizationUtils#setRecorder(SanitizationRecorder)}.
+ * <p>
+ * The recorder is consulted while a class's plan is built: it hands out one
+ * {@link BeanTimer} per class and one {@link StepTimer} per sanitizer step of a
+ * field, which the plan then calls directly. Look-ups such as resolving meters
+ * therefore happen once per class, not per value. Without a recorder, plans
+ * are built without any instrumentation and cost nothing extra.
+ * <p>
+ * Implementations must be thread-safe and fast; they run on the sanitizing
+ * thread.
+ *
+ * @since 1.2.0
+ */
+public interface SanitizationRecorder {
+
+	/**
+	 * What a sanitizer step did with a value.
+	 */
+	enum Outcome {
+		/** The input was {@code null}. */
+		NULL,
+		/** The sanitizer returned a value equal to its input. */
+		UNCHANGED,
+		/** The sanitizer returned a different value. */
+		CHANGED
+	}
+
+	/**
+	 * Records the sanitization of whole beans of one class.
+	 */
+	@FunctionalInterface
+	interface BeanTimer {
+
+		/**
+		 * Called after a plan ran over one or more beans.
+		 *
+		 * @param beans
+		 *            the number of beans sanitized, {@code 1} except for
+		 *            {@link SanitizationUtils#applyAll}
+		 * @param nanos
+		 *            the elapsed time in nanoseconds
+		 */
+		void record(int beans, long nanos);
+	}
+
+	/**
+	 * Records the calls of one sanitizer step on one field.
+	 */
+	@FunctionalInterface
+	interface StepTimer {
+
+		/**
+		 * Called after the sanitizer ran on one value.
+		 *
+		 * @param outcome
+		 *            what the sanitizer did with the value
+		 * @param nanos
+		 *            the elapsed time in nanoseconds
+		 */
+		void record(Outcome outcome, long nanos);
+	}
+
+	/**
+	 * Returns the timer for sanitizing beans of {@code beanType} with
+	 * {@link SanitizationUtils#apply}, {@link SanitizationUtils#applyAll} or
+	 * {@link SanitizationUtils#applyChanged}.
+	 *
+	 * @param beanType
+	 *            the class of the sanitized beans
+	 * @return the timer to call
+	 */
+	BeanTimer beanTimer(Class<?> beanType);
+
+	/**
+	 * Returns the timer for one sanitizer step of a field.
+	 *
+	 * @param declaringType
+	 *            the class declaring the field
+	 * @param fieldName
+	 *            the name of the field
+	 * @param sanitizerName
+	 *            the simple class name of the sanitizer, or the names of fused
+	 *            built-in sanitizers joined with {@code +}
+	 * @return the timer to call
+	 */
+	StepTimer stepTimer(Class<?> declaringType, String fieldName, String sanitizerName);
+}
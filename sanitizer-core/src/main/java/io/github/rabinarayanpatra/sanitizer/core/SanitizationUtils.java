@@ -1,13 +1,26 @@
 package io.github.rabinarayanpatra.sanitizer.core;
 
 import java.lang.reflect.Field;
+import java.sql.Clob;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Supplier;
 
 import org.jspecify.annotations.Nullable;
 
+import io.github.rabinarayanpatra.sanitizer.annotation.Direction;
 import io.github.rabinarayanpatra.sanitizer.annotation.Sanitize;
 
 /**
@@ -20,7 +33,19 @@ public final class SanitizationUtils {
 
 	private static final System.Logger LOG = System.getLogger(SanitizationUtils.class.getName());
 
-	private static final Map<Class<?>, List<Holder>> CACHE = new ConcurrentHashMap<>();
+	private static final PlanCache<SanitizationPlan> CACHE = new PlanCache<>(SanitizationUtils::inspect);
+
+	private static final PlanCache<Map<String, FieldSanitizer<Object>>> FIELD_CHAINS = new PlanCache<>(
+			cls -> fieldChains(cls, Direction.INBOUND));
+
+	private static final PlanCache<Map<String, FieldSanitizer<Object>>> OUTBOUND_CHAINS = new PlanCache<>(
+			cls -> fieldChains(cls, Direction.OUTBOUND));
+
+	private static final PlanCache<Boolean> INBOUND_TYPES = new PlanCache<>(SanitizationUtils::declaresInbound);
+
+	private static volatile @Nullable SanitizerFactory factory;
+
+	private static volatile @Nullable SanitizationRecorder recorder;
 
 	private SanitizationUtils() {
 	}
@@ -28,6 +53,13 @@ public final class SanitizationUtils {
 	/**
 	 * Applies all configured sanitizers to the fields of the given bean that are
 	 * annotated with {@link Sanitize}.
+	 * <p>
+	 * The first call for a class compiles a {@link SanitizationPlan} with
+	 * {@link java.lang.invoke.MethodHandle} accessors for each annotated field;
+	 * subsequent calls reuse the cached plan and do no reflection. If the
+	 * {@code sanitizer-processor} annotation processor generated a
+	 * {@link GeneratedSanitizer} for the class, it is used instead and the class
+	 * is not inspected reflectively at all.
 	 *
 	 * @param bean
 	 *            the object whose fields should be sanitized
@@ -37,41 +69,445 @@ public final class SanitizationUtils {
 			return;
 		}
 
-		final Class<?> cls = bean.getClass();
-		final List<Holder> holders = CACHE.computeIfAbsent(cls, SanitizationUtils::inspect);
+		planFor(bean.getClass()).apply(bean);
+	}
 
-		for (final Holder h : holders) {
-			try {
-				final Field f = h.field;
-				final Object raw = f.get(bean);
-				if (raw == null) {
-					final Object clean = h.sanitizer.sanitize(null);
-					if (clean != null) {
-						f.set(bean, clean);
-					}
-					continue;
+	/**
+	 * Sanitizes {@code root} and every object reachable from it: nested beans,
+	 * the elements of collections and arrays, and the values of maps. Each object
+	 * is sanitized once, even when it is referenced several times, and cycles are
+	 * detected by identity.
+	 * <p>
+	 * Which fields to follow is decided once per class from the declared field
+	 * types: subtrees that cannot contain a {@link Sanitize} field (strings,
+	 * numbers, enums, {@code List<String>}, final classes without sanitizable
+	 * fields, ...) are never read. Fields declared with other JDK types, such as
+	 * {@code Optional} or {@code AtomicReference}, are not descended into. Objects
+	 * implementing {@link Iterable} or {@link Map} are treated as containers only.
+	 * <p>
+	 * Records are traversed, so mutable beans inside them are sanitized, but their
+	 * own components are left as they are (see {@link #apply(Object)}). Note that
+	 * walking a JPA entity follows its associations and may initialize lazy ones.
+	 *
+	 * @param root
+	 *            the root of the object graph to sanitize; {@code null} is ignored
+	 * @since 1.2.0
+	 */
+	public static void applyDeep(final @Nullable Object root) {
+		if (root == null) {
+			return;
+		}
+
+		TraversalPlan.walk(root);
+	}
+
+	/**
+	 * Like {@link #apply(Object)}, but skips the fields whose value is equal to the
+	 * one recorded in {@code previous}, meaning it has not changed since the bean
+	 * was last sanitized or {@linkplain #snapshot(Object) snapshotted}. Fields are
+	 * only written when their sanitizers change the value.
+	 * <p>
+	 * This pays off for beans that are sanitized repeatedly while most of their
+	 * fields stay the same, such as JPA entities flushed several times. Values are
+	 * compared with {@code equals}, so a mutable value that was changed in place
+	 * is not detected. Classes with a generated sanitizer are always sanitized in
+	 * full, and {@code null} is returned for them.
+	 *
+	 * @param bean
+	 *            the object whose fields should be sanitized
+	 * @param previous
+	 *            the state returned for this bean by the last call, or
+	 *            {@code null} to sanitize every field
+	 * @return the state to pass to the next call, or {@code null} if the bean has
+	 *         nothing to track
+	 * @since 1.2.0
+	 */
+	public static @Nullable SanitizedState applyChanged(final @Nullable Object bean,
+			final @Nullable SanitizedState previous) {
+		if (bean == null) {
+			return null;
+		}
+
+		return planFor(bean.getClass()).applyChanged(bean, previous);
+	}
+
+	/**
+	 * Records the current values of the {@link Sanitize} fields of {@code bean}
+	 * as already sanitized, without running any sanitizer, for example right
+	 * after the bean was loaded from a store that only holds sanitized values.
+	 *
+	 * @param bean
+	 *            the object to record
+	 * @return the state to pass to {@link #applyChanged(Object, SanitizedState)},
+	 *         or {@code null} if the bean has nothing to track
+	 * @since 1.2.0
+	 */
+	public static @Nullable SanitizedState snapshot(final @Nullable Object bean) {
+		if (bean == null) {
+			return null;
+		}
+
+		return planFor(bean.getClass()).snapshot(bean);
+	}
+
+	/**
+	 * Sanitizes every bean in {@code beans}, with the same result as calling
+	 * {@link #apply(Object)} on each of them.
+	 * <p>
+	 * Beans are grouped by class and the plan of each class is looked up once.
+	 * Within a group the work runs column-wise: one field's sanitizer runs over a
+	 * block of beans before the next sanitizer starts, which keeps each sanitizer
+	 * call site monomorphic and hot. {@code null} elements are skipped.
+	 * <p>
+	 * If a sanitizer throws, the exception propagates and the beans are left
+	 * partly sanitized, not bean by bean: classes are processed in the order they
+	 * first occur, each in blocks of 256 beans. In the failing block, the fields
+	 * processed before the failing one are written for every bean of the block,
+	 * and the failing field and all later fields for none of them. Earlier blocks
+	 * are fully sanitized and later blocks are untouched. A class with a
+	 * generated sanitizer is processed bean by bean, so only the beans before the
+	 * failing one are sanitized. Call {@link #apply(Object)} per bean instead
+	 * when a failure must only affect the bean that caused it.
+	 *
+	 * @param beans
+	 *            the beans to sanitize
+	 * @since 1.2.0
+	 */
+	public static void applyAll(final @Nullable Collection<?> beans) {
+		if (beans == null || beans.isEmpty()) {
+			return;
+		}
+		for (final Map.Entry<Class<?>, Object[]> group : groupByClass(beans).entrySet()) {
+			final Object[] members = group.getValue();
+			planFor(group.getKey()).applyAll(members, 0, members.length);
+		}
+	}
+
+	/**
+	 * Like {@link #applyAll(Collection)}, but splits large groups of beans into
+	 * ranges of at most 512 beans that are sanitized in parallel on
+	 * {@code pool}. The sanitizers must be thread-safe, which the built-in ones
+	 * are. This method blocks until every bean has been sanitized. If a sanitizer
+	 * throws, ranges that ran concurrently may be sanitized fully, partly as
+	 * described for {@link #applyAll(Collection)}, or not at all.
+	 *
+	 * @param beans
+	 *            the beans to sanitize
+	 * @param pool
+	 *            the pool to run the ranges on
+	 * @since 1.2.0
+	 */
+	public static void applyAll(final @Nullable Collection<?> beans, final ForkJoinPool pool) {
+		if (beans == null || beans.isEmpty()) {
+			return;
+		}
+		for (final Map.Entry<Class<?>, Object[]> group : groupByClass(beans).entrySet()) {
+			final SanitizationPlan plan = planFor(group.getKey());
+			if (!plan.isEmpty()) {
+				final Object[] members = group.getValue();
+				pool.invoke(new ApplyRange(plan, members, 0, members.length));
+			}
+		}
+	}
+
+	/**
+	 * Builds and caches everything {@link #apply(Object)} and
+	 * {@link #sanitizerFor(Class, String, Direction)} need for each of
+	 * {@code classes}, so that the first bean of a class sanitized at runtime does
+	 * not pay for reflection, annotation parsing and sanitizer instantiation.
+	 * <p>
+	 * Each class is planned as a separate task on {@code executor}, and this method
+	 * blocks until all of them have finished. A class whose plan cannot be built is
+	 * reported in {@link WarmUpReport#failures()} instead of failing the others.
+	 * Classes that are already cached cost next to nothing.
+	 *
+	 * @param classes
+	 *            the classes to plan; duplicates are planned once
+	 * @param executor
+	 *            the executor to build the plans on
+	 * @return how long each class took and which ones failed
+	 * @since 1.2.0
+	 */
+	public static WarmUpReport warmUp(final Collection<? extends Class<?>> classes, final Executor executor) {
+		final long start = System.nanoTime();
+		final Set<Class<?>> distinct = new LinkedHashSet<>(classes);
+		final Map<Class<?>, Duration> timings = new ConcurrentHashMap<>();
+		final Map<Class<?>, RuntimeException> failures = new ConcurrentHashMap<>();
+		final List<CompletableFuture<Void>> tasks = new ArrayList<>(distinct.size());
+		for (final Class<?> cls : distinct) {
+			tasks.add(CompletableFuture.runAsync(() -> {
+				final long begin = System.nanoTime();
+				try {
+					planFor(cls);
+					sanitizerFor(cls, "", Direction.INBOUND);
+					sanitizerFor(cls, "", Direction.OUTBOUND);
+				} catch (final RuntimeException e) {
+					failures.put(cls, e);
 				}
-				final Object clean = h.sanitizer.sanitize(raw);
-				f.set(bean, clean);
-			} catch (final IllegalAccessException e) {
-				throw new IllegalStateException(
-						"Cannot access field '" + h.field.getName() + "' on " + bean.getClass().getName()
-								+ ". This may occur with Java records, JPMS strongly-encapsulated fields, "
-								+ "or final fields. Ensure the field is mutable and accessible.",
-						e);
-			} catch (final ClassCastException e) {
-				throw new IllegalStateException("Type mismatch: sanitizer " + h.sanitizer.getClass().getName()
-						+ " is not compatible with field '" + h.field.getName() + "' of type "
-						+ h.field.getType().getName() + " on " + bean.getClass().getName()
-						+ ". Ensure the sanitizer's generic type matches the field type.", e);
+				timings.put(cls, Duration.ofNanos(System.nanoTime() - begin));
+			}, executor));
+		}
+		CompletableFuture.allOf(tasks.toArray(CompletableFuture[]::new)).join();
+
+		final Map<Class<?>, Duration> orderedTimings = new LinkedHashMap<>();
+		final Map<Class<?>, RuntimeException> orderedFailures = new LinkedHashMap<>();
+		for (final Class<?> cls : distinct) {
+			orderedTimings.put(cls, timings.get(cls));
+			if (failures.containsKey(cls)) {
+				orderedFailures.put(cls, failures.get(cls));
+			}
+		}
+		return new WarmUpReport(orderedTimings, orderedFailures, Duration.ofNanos(System.nanoTime() - start));
+	}
+
+	/**
+	 * Groups the non-null elements of {@code beans} by their exact class, in
+	 * encounter order. A homogeneous collection is copied into one array without
+	 * building intermediate lists.
+	 */
+	private static Map<Class<?>, Object[]> groupByClass(final Collection<?> beans) {
+		final Object[] all = beans.toArray();
+		final Class<?> first = all[0] == null ? null : all[0].getClass();
+		boolean uniform = first != null;
+		for (int i = 1; uniform && i < all.length; i++) {
+			uniform = all[i] != null && all[i].getClass() == first;
+		}
+		if (uniform) {
+			return Map.of(first, all);
+		}
+		final Map<Class<?>, List<Object>> lists = new LinkedHashMap<>();
+		for (final Object bean : all) {
+			if (bean != null) {
+				lists.computeIfAbsent(bean.getClass(), cls -> new ArrayList<>()).add(bean);
 			}
 		}
+		final Map<Class<?>, Object[]> groups = new LinkedHashMap<>();
+		for (final Map.Entry<Class<?>, List<Object>> entry : lists.entrySet()) {
+			groups.put(entry.getKey(), entry.getValue().toArray());
+		}
+		return groups;
+	}
+
+	/**
+	 * Installs the {@link SanitizerFactory} consulted for sanitizer instances, or
+	 * restores the default instantiation when {@code sanitizerFactory} is
+	 * {@code null}. All cached plans are discarded, so classes already inspected
+	 * pick up the new factory on their next use.
+	 *
+	 * @param sanitizerFactory
+	 *            the factory to use, or {@code null} for the default
+	 * @since 1.2.0
+	 */
+	public static void setSanitizerFactory(final @Nullable SanitizerFactory sanitizerFactory) {
+		factory = sanitizerFactory;
+		for (final PlanCache<?> cache : caches()) {
+			cache.clear();
+		}
+	}
+
+	/**
+	 * Installs the {@link SanitizationRecorder} that receives sanitization
+	 * timings and outcomes, or removes it when {@code sanitizationRecorder} is
+	 * {@code null}. All cached plans are discarded, so plans are rebuilt with (or
+	 * without) instrumentation on their next use. Without a recorder, plans carry
+	 * no instrumentation at all. With one, classes that have a sanitizer
+	 * generated by {@code sanitizer-processor} are sanitized through reflection
+	 * instead, since the generated code has no per-step hooks to record.
+	 *
+	 * @param sanitizationRecorder
+	 *            the recorder to use, or {@code null} for none
+	 * @since 1.2.0
+	 */
+	public static void setRecorder(final @Nullable SanitizationRecorder sanitizationRecorder) {
+		recorder = sanitizationRecorder;
+		for (final PlanCache<?> cache : caches()) {
+			cache.clear();
+		}
+	}
+
+	/**
+	 * Bounds the number of classes whose plans are cached. Each of the caches
+	 * behind {@link #apply(Object)}, {@link #applyDeep(Object)} and
+	 * {@link #sanitizerFor(Class, String, Direction)} keeps at most
+	 * {@code maximumSize} classes; beyond that, the classes not used since the
+	 * last eviction sweep are evicted and rebuilt on their next use.
+	 * <p>
+	 * By default the caches are unbounded. Either way they never keep a class or
+	 * its class loader reachable, so plans of redeployed classes are collected
+	 * with them.
+	 *
+	 * @param maximumSize
+	 *            the maximum number of classes per cache, or {@code 0} for no bound
+	 * @throws IllegalArgumentException
+	 *             if {@code maximumSize} is negative
+	 * @since 1.2.0
+	 */
+	public static void setPlanCacheMaximumSize(final int maximumSize) {
+		if (maximumSize < 0) {
+			throw new IllegalArgumentException("maximumSize must not be negative: " + maximumSize);
+		}
+		for (final PlanCache<?> cache : caches()) {
+			cache.setMaximumSize(maximumSize);
+		}
+	}
+
+	/**
+	 * Returns the hit, miss and eviction counts and the size of the plan caches,
+	 * summed over all of them.
+	 *
+	 * @return a snapshot of the cache statistics
+	 * @since 1.2.0
+	 */
+	public static PlanCacheStats planCacheStats() {
+		PlanCacheStats stats = PlanCacheStats.EMPTY;
+		for (final PlanCache<?> cache : caches()) {
+			stats = cache.addTo(stats);
+		}
+		return stats;
+	}
+
+	private static List<PlanCache<?>> caches() {
+		return List.of(CACHE, FIELD_CHAINS, OUTBOUND_CHAINS, TraversalPlan.PLANS, INBOUND_TYPES);
+	}
+
+	/**
+	 * Returns the complete {@link Direction#INBOUND inbound} sanitizer chain
+	 * declared on a field of {@code type} (or one of its superclasses) as a single
+	 * {@link FieldSanitizer}, or {@code null} if the field has no such
+	 * {@link Sanitize} annotation.
+	 * <p>
+	 * This lets integrations sanitize a value before it is stored, for example
+	 * while deserializing it, instead of sanitizing the finished bean. It also
+	 * works for record components, which {@link #apply(Object)} cannot change.
+	 * Chains are built once per class and cached.
+	 *
+	 * @param type
+	 *            the class declaring (or inheriting) the field
+	 * @param fieldName
+	 *            the name of the field or record component
+	 * @return the field's sanitizer chain, or {@code null} if it has none
+	 * @since 1.2.0
+	 */
+	public static @Nullable FieldSanitizer<Object> sanitizerFor(final Class<?> type, final String fieldName) {
+		return sanitizerFor(type, fieldName, Direction.INBOUND);
+	}
+
+	/**
+	 * Returns the sanitizer chain declared on a field of {@code type} for data
+	 * flowing in {@code flow}, or {@code null} if there is none. With
+	 * {@link Direction#OUTBOUND} this is the chain to run while serializing the
+	 * field's value; {@link #apply(Object)} never runs it.
+	 *
+	 * @param type
+	 *            the class declaring (or inheriting) the field
+	 * @param fieldName
+	 *            the name of the field or record component
+	 * @param flow
+	 *            {@link Direction#INBOUND} or {@link Direction#OUTBOUND}
+	 * @return the field's sanitizer chain for {@code flow}, or {@code null} if it
+	 *         has none
+	 * @throws IllegalArgumentException
+	 *             if {@code flow} is {@link Direction#BOTH}
+	 * @since 1.2.0
+	 */
+	public static @Nullable FieldSanitizer<Object> sanitizerFor(final Class<?> type, final String fieldName,
+			final Direction flow) {
+		return switch (flow) {
+			case INBOUND -> FIELD_CHAINS.get(type).get(fieldName);
+			case OUTBOUND -> OUTBOUND_CHAINS.get(type).get(fieldName);
+			case BOTH -> throw new IllegalArgumentException("Data flows either INBOUND or OUTBOUND, not BOTH");
+		};
+	}
+
+	/**
+	 * Returns the inbound sanitizer chain of a {@code String} field as a
+	 * {@link TextSanitizer}, or {@code null} if the field has no chain, is not a
+	 * {@code String}, or has a step that only accepts {@code String} input.
+	 * <p>
+	 * Integrations that hold the raw characters of a value, such as a streaming
+	 * JSON parser, can sanitize them without first building a {@code String} of
+	 * the input. The result is the same as running
+	 * {@link #sanitizerFor(Class, String)}. While a {@link SanitizationRecorder}
+	 * is installed every chain is instrumented and this method returns
+	 * {@code null}, so callers fall back to {@link #sanitizerFor(Class, String)}.
+	 *
+	 * @param type
+	 *            the class declaring (or inheriting) the field
+	 * @param fieldName
+	 *            the name of the field or record component
+	 * @return the field's sanitizer chain for character input, or {@code null}
+	 * @since 1.2.0
+	 */
+	public static @Nullable TextSanitizer textSanitizerFor(final Class<?> type, final String fieldName) {
+		return FIELD_CHAINS.get(type).get(fieldName) instanceof SanitizerChain chain && chain.supportsText() ? chain
+				: null;
+	}
+
+	/**
+	 * Returns the inbound sanitizer chain of a {@code String} or {@link Clob}
+	 * field as a {@link StreamingSanitizer}, or {@code null}
+	 * if the field has no chain, has another type, or has a step that
+	 * {@link StreamingSanitizer#isStreamable(FieldSanitizer) cannot be streamed}.
+	 * <p>
+	 * This lets integrations sanitize large text values from a {@code Reader} to a
+	 * {@code Writer} with bounded memory, producing the same text as
+	 * {@link #sanitizerFor(Class, String)}. {@code Clob} fields with such a chain
+	 * are already sanitized this way by {@link #apply(Object)}.
+	 *
+	 * @param type
+	 *            the class declaring (or inheriting) the field
+	 * @param fieldName
+	 *            the name of the field or record component
+	 * @return the field's sanitizer chain for streams, or {@code null}
+	 * @since 1.2.0
+	 */
+	public static @Nullable StreamingSanitizer streamingSanitizerFor(final Class<?> type, final String fieldName) {
+		return FIELD_CHAINS.get(type).get(fieldName) instanceof SanitizerChain chain ? chain.streaming() : null;
+	}
+
+	/**
+	 * Returns whether {@link #apply(Object)} has anything to do for instances of
+	 * exactly {@code cls}: the class is not a record, and it or one of its
+	 * superclasses declares a field with an inbound {@link Sanitize} chain.
+	 * <p>
+	 * Only the annotations are read, and the answer is cached per class. No plan is
+	 * built and no sanitizer is instantiated, so this is safe to call before a
+	 * {@link SanitizerFactory} has been installed, for example while a JSON
+	 * library builds its deserializers.
+	 *
+	 * @param cls
+	 *            the class to check
+	 * @return {@code false} when sanitizing an instance is guaranteed to be a
+	 *         no-op
+	 * @since 1.2.0
+	 */
+	public static boolean hasInboundSanitizers(final Class<?> cls) {
+		return INBOUND_TYPES.get(cls);
+	}
+
+	/**
+	 * Returns the cached sanitization plan for {@code cls}, inspecting the class on
+	 * first use.
+	 *
+	 * @param cls
+	 *            the class to plan for
+	 * @return the plan; {@link SanitizationPlan#isEmpty()} when nothing is
+	 *         sanitizable
+	 */
+	static SanitizationPlan planFor(final Class<?> cls) {
+		return CACHE.get(cls);
 	}
 
 	/**
 	 * Inspects the class hierarchy to find fields annotated with {@link Sanitize}
-	 * and builds sanitizer handlers. Walks superclasses to support
-	 * {@code @MappedSuperclass} and other inheritance patterns.
+	 * and compiles them into a {@link SanitizationPlan}. Walks superclasses to
+	 * support {@code @MappedSuperclass} and other inheritance patterns.
+	 * <p>
+	 * On {@code String} fields, adjacent character-level built-in sanitizers
+	 * (trim, whitespace collapsing, case, non-printable removal, HTML escaping,
+	 * safe filename, null-if-blank) are fused into one
+	 * {@link FusedStringSanitizer} that scans the value once. Custom sanitizers in
+	 * the chain still run as separate steps.
 	 * <p>
 	 * Java records are intentionally skipped: their components are {@code final}
 	 * and cannot be reassigned via reflection, so in-place sanitization is not
@@ -79,14 +515,59 @@ public final class SanitizationUtils {
 	 * bean graph that contains them) as a no-op. This keeps the library usable in
 	 * projects that mix records and POJOs. If you need record values sanitized,
 	 * sanitize the source POJO/DTO before copying its values into the record.
+	 * <p>
+	 * Every build is reported to Flight Recorder as a {@link PlanBuildEvent}.
 	 */
-	private static List<Holder> inspect(final Class<?> cls) {
+	private static SanitizationPlan inspect(final Class<?> cls) {
+		final PlanBuildEvent event = new PlanBuildEvent();
+		event.begin();
+		final SanitizationPlan plan = compilePlan(cls);
+		event.end();
+		if (event.shouldCommit()) {
+			event.beanClass = cls;
+			event.fieldCount = plan.fieldCount();
+			event.generated = plan.isGenerated();
+			event.commit();
+		}
+		return plan;
+	}
+
+	/**
+	 * Mirrors the field selection of {@link #compilePlan(Class)} without
+	 * instantiating any sanitizer.
+	 */
+	private static boolean declaresInbound(final Class<?> cls) {
+		if (cls.isRecord() || cls.isInterface() || cls.isPrimitive() || cls.isArray()) {
+			return false;
+		}
+		for (Class<?> current = cls; current != null && current != Object.class; current = current.getSuperclass()) {
+			for (final Field field : current.getDeclaredFields()) {
+				for (final Sanitize ann : field.getAnnotationsByType(Sanitize.class)) {
+					if (ann.direction().appliesTo(Direction.INBOUND) && ann.using().length > 0) {
+						return true;
+					}
+				}
+			}
+		}
+		return false;
+	}
+
+	private static SanitizationPlan compilePlan(final Class<?> cls) {
 		if (cls.isRecord()) {
 			warnIfRecordIsAnnotated(cls);
-			return List.of();
+			return SanitizationPlan.EMPTY;
+		}
+
+		final @Nullable SanitizationRecorder rec = recorder;
+		// a generated sanitizer calls its sanitizers directly, leaving no steps to time; with a recorder
+		// installed the reflective plan is used instead, so that every class reports the same meters
+		final GeneratedSanitizer<Object> generated = rec == null ? findGenerated(cls) : null;
+		if (generated != null) {
+			return new SanitizationPlan(generated);
 		}
+		final SanitizationRecorder.@Nullable BeanTimer timer = rec == null ? null : rec.beanTimer(cls);
 
-		final List<Holder> list = new ArrayList<>();
+		final List<FieldPlan> list = new ArrayList<>();
 
 		Class<?> current = cls;
 		while (current != null && current != Object.class) {
@@ -96,29 +577,175 @@ public final class SanitizationUtils {
 					continue;
 				}
 
-				field.setAccessible(true);
-				for (final Sanitize ann : annotations) {
-					for (final Class<? extends FieldSanitizer<?>> sanitizerClass : ann.using()) {
-						try {
-							@SuppressWarnings("unchecked")
-							final FieldSanitizer<Object> sanitizer = (FieldSanitizer<Object>) sanitizerClass
-									.getDeclaredConstructor().newInstance();
-							if (sanitizer instanceof ConfigurableFieldSanitizer<?> configurable
-									&& !ann.params().isBlank()) {
-								configurable.configure(ConfigurableFieldSanitizer.parseParams(ann.params()));
-							}
-							list.add(new Holder(field, sanitizer));
-						} catch (final ReflectiveOperationException e) {
-							throw new SanitizerInstantiationException(
-									"Cannot instantiate sanitizer " + sanitizerClass.getName(), e);
-						}
-					}
+				final List<FieldSanitizer<Object>> chain = chainOf(field, annotations, Direction.INBOUND);
+				if (!chain.isEmpty()) {
+					field.setAccessible(true);
+					list.add(FieldPlan.compile(field, chain));
 				}
 			}
 			current = current.getSuperclass();
 		}
 
-		return list;
+		return list.isEmpty() ? SanitizationPlan.EMPTY : new SanitizationPlan(list, timer);
+	}
+
+	/**
+	 * Instantiates the sanitizers declared by those {@code annotations} on
+	 * {@code field} that apply to {@code flow}, in declaration order, fusing
+	 * adjacent character-level built-ins on {@code String} fields. With a
+	 * {@link SanitizationRecorder} installed, every resulting step is wrapped in a
+	 * {@link RecordingSanitizer}.
+	 */
+	private static List<FieldSanitizer<Object>> chainOf(final Field field, final Sanitize[] annotations,
+			final Direction flow) {
+		final List<FieldSanitizer<Object>> chain = new ArrayList<>();
+		for (final Sanitize ann : annotations) {
+			if (!ann.direction().appliesTo(flow)) {
+				continue;
+			}
+			for (final Class<? extends FieldSanitizer<?>> sanitizerClass : ann.using()) {
+				chain.add(instantiate(sanitizerClass, ann));
+			}
+		}
+		final List<FieldSanitizer<Object>> steps;
+		if (field.getType() == String.class) {
+			steps = FusedStringSanitizer.fuse(chain);
+		} else if (field.getType() == Clob.class && !chain.isEmpty()
+				&& chain.stream().allMatch(StreamingSanitizer::isStreamable)) {
+			// large text: sanitized lazily, one window at a time, when the content is read
+			@SuppressWarnings("unchecked")
+			final FieldSanitizer<Object> clob = (FieldSanitizer<Object>) (FieldSanitizer<?>) new ClobSanitizer(
+					StreamingSanitizer.of(chain));
+			steps = List.of(clob);
+		} else {
+			steps = chain;
+		}
+		final @Nullable SanitizationRecorder rec = recorder;
+		if (rec == null) {
+			return steps;
+		}
+		final List<FieldSanitizer<Object>> recorded = new ArrayList<>(steps.size());
+		for (final FieldSanitizer<Object> step : steps) {
+			recorded.add(new RecordingSanitizer(step, rec.stepTimer(field.getDeclaringClass(), field.getName(),
+					RecordingSanitizer.nameOf(step))));
+		}
+		return recorded;
+	}
+
+	/**
+	 * Builds the per-field chains for {@link #sanitizerFor(Class, String, Direction)}.
+	 * Unlike {@link #inspect(Class)} this includes records, since the chains run
+	 * on values that are not written back to the record. A field shadows a
+	 * same-named field of a superclass.
+	 */
+	private static Map<String, FieldSanitizer<Object>> fieldChains(final Class<?> cls, final Direction flow) {
+		final Map<String, FieldSanitizer<Object>> chains = new HashMap<>();
+		for (Class<?> current = cls; current != null && current != Object.class; current = current.getSuperclass()) {
+			for (final Field field : current.getDeclaredFields()) {
+				final Sanitize[] annotations = field.getAnnotationsByType(Sanitize.class);
+				if (annotations.length == 0 || chains.containsKey(field.getName())) {
+					continue;
+				}
+				final List<FieldSanitizer<Object>> chain = chainOf(field, annotations, flow);
+				if (!chain.isEmpty()) {
+					chains.put(field.getName(), new SanitizerChain(field, chain));
+				}
+			}
+		}
+		return chains.isEmpty() ? Map.of() : Map.copyOf(chains);
+	}
+
+	/**
+	 * Looks up the {@code Foo$$Sanitizer} class generated for {@code cls} by the
+	 * annotation processor, using the class's own loader.
+	 *
+	 * @return the generated sanitizer, or {@code null} if none was generated
+	 */
+	private static @Nullable GeneratedSanitizer<Object> findGenerated(final Class<?> cls) {
+		final Class<?> generatedClass;
+		try {
+			generatedClass = Class.forName(cls.getName() + GeneratedSanitizer.SUFFIX, true, cls.getClassLoader());
+		} catch (final ClassNotFoundException | LinkageError e) {
+			return null;
+		}
+		if (!GeneratedSanitizer.class.isAssignableFrom(generatedClass)) {
+			return null;
+		}
+		try {
+			@SuppressWarnings("unchecked")
+			final GeneratedSanitizer<Object> generated = (GeneratedSanitizer<Object>) generatedClass
+					.getDeclaredConstructor().newInstance();
+			return generated;
+		} catch (final ReflectiveOperationException e) {
+			throw new SanitizerInstantiationException(
+					"Cannot instantiate generated sanitizer " + generatedClass.getName(), e);
+		}
+	}
+
+	/**
+	 * Returns the sanitizer instance for one entry of {@code ann.using()}; see
+	 * {@link #instantiate(Class, String, Supplier)}.
+	 */
+	private static FieldSanitizer<Object> instantiate(final Class<? extends FieldSanitizer<?>> sanitizerClass,
+			final Sanitize ann) {
+		return instantiate(sanitizerClass, ann.params(), () -> create(sanitizerClass, ann.params()));
+	}
+
+	/**
+	 * Returns the sanitizer instance for {@code sanitizerClass} with
+	 * {@code params}: the one supplied by the installed {@link SanitizerFactory},
+	 * else the shared instance from {@link SanitizerPool} when the class is
+	 * shareable, else a new one from {@code constructor}, which must return it
+	 * already configured. Used by the reflective plans and, through
+	 * {@link GeneratedSanitizer#sanitizer(Class, String, Supplier)}, by generated
+	 * ones.
+	 */
+	@SuppressWarnings("unchecked")
+	static FieldSanitizer<Object> instantiate(final Class<? extends FieldSanitizer<?>> sanitizerClass,
+			final String params, final Supplier<FieldSanitizer<Object>> constructor) {
+		final @Nullable SanitizerFactory custom = factory;
+		if (custom != null) {
+			final @Nullable FieldSanitizer<?> provided = custom.getSanitizer(sanitizerClass,
+					ConfigurableFieldSanitizer.parseParams(params));
+			if (provided != null) {
+				if (!sanitizerClass.isInstance(provided)) {
+					throw new IllegalStateException("SanitizerFactory " + custom.getClass().getName() + " returned "
+							+ provided.getClass().getName() + " for " + sanitizerClass.getName());
+				}
+				return (FieldSanitizer<Object>) provided;
+			}
+		}
+		return SanitizerPool.get(sanitizerClass, params, constructor);
+	}
+
+	private static FieldSanitizer<Object> create(final Class<? extends FieldSanitizer<?>> sanitizerClass,
+			final String params) {
+		try {
+			return configured(sanitizerClass.getDeclaredConstructor().newInstance(), params);
+		} catch (final ReflectiveOperationException e) {
+			throw new SanitizerInstantiationException("Cannot instantiate sanitizer " + sanitizerClass.getName(), e);
+		}
+	}
+
+	/**
+	 * Configures a newly created {@code sanitizer} with {@code params} if it is
+	 * a {@link ConfigurableFieldSanitizer} and {@code params} is not blank.
+	 *
+	 * @return {@code sanitizer}
+	 * @throws SanitizerInstantiationException
+	 *             if the sanitizer rejects {@code params}
+	 */
+	@SuppressWarnings("unchecked")
+	static FieldSanitizer<Object> configured(final FieldSanitizer<?> sanitizer, final String params) {
+		if (sanitizer instanceof ConfigurableFieldSanitizer<?> configurable && !params.isBlank()) {
+			try {
+				configurable.configure(ConfigurableFieldSanitizer.parseParams(params));
+			} catch (final IllegalArgumentException e) {
+				throw new SanitizerInstantiationException("Invalid params \"" + params + "\" for sanitizer "
+						+ sanitizer.getClass().getName() + ": " + e.getMessage(), e);
+			}
+		}
+		return (FieldSanitizer<Object>) sanitizer;
 	}
 
 	/**
@@ -130,7 +757,7 @@ public final class SanitizationUtils {
 	 */
 	private static void warnIfRecordIsAnnotated(final Class<?> cls) {
 		for (final Field field : cls.getDeclaredFields()) {
-			if (field.getAnnotationsByType(Sanitize.class).length > 0) {
+			if (hasInbound(field.getAnnotationsByType(Sanitize.class))) {
 				LOG.log(System.Logger.Level.WARNING,
 						"@Sanitize on record {0} is ignored: record components are final and cannot be "
 								+ "sanitized in place. Sanitize a mutable DTO/POJO first, then copy the "
@@ -141,9 +768,48 @@ public final class SanitizationUtils {
 		}
 	}
 
+	private static boolean hasInbound(final Sanitize[] annotations) {
+		for (final Sanitize ann : annotations) {
+			if (ann.direction().appliesTo(Direction.INBOUND)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
 	/**
-	 * Binds a {@link Field} with its corresponding {@link FieldSanitizer}.
+	 * Fork/join task that sanitizes a range of same-class beans, splitting it in
+	 * halves until ranges are at most {@link #THRESHOLD} beans long.
 	 */
-	private record Holder(Field field, FieldSanitizer<Object> sanitizer) {
+	private static final class ApplyRange extends RecursiveAction {
+
+		private static final long serialVersionUID = 1L;
+
+		private static final int THRESHOLD = 512;
+
+		private final transient SanitizationPlan plan;
+
+		private final transient Object[] beans;
+
+		private final int from;
+
+		private final int to;
+
+		ApplyRange(final SanitizationPlan plan, final Object[] beans, final int from, final int to) {
+			this.plan = plan;
+			this.beans = beans;
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		protected void compute() {
+			if (to - from <= THRESHOLD) {
+				plan.applyAll(beans, from, to);
+				return;
+			}
+			final int mid = (from + to) >>> 1;
+			invokeAll(new ApplyRange(plan, beans, from, mid), new ApplyRange(plan, beans, mid, to));
+		}
 	}
 }
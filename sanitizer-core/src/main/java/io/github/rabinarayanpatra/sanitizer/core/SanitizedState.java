@@ -0,0 +1,26 @@
+package io.github.rabinarayanpatra.sanitizer.core;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * The values of a bean's {@code @Sanitize} fields as they were after its last
+ * sanitization, recorded by {@link SanitizationUtils#applyChanged} or
+ * {@link SanitizationUtils#snapshot}. Passing it to the next
+ * {@link SanitizationUtils#applyChanged} call lets unchanged fields be skipped.
+ * <p>
+ * A state holds references to the recorded values, not copies, and belongs to
+ * the bean it was recorded from.
+ *
+ * @since 1.2.0
+ */
+public final class SanitizedState {
+
+	final SanitizationPlan plan;
+
+	final @Nullable Object[] values;
+
+	SanitizedState(final SanitizationPlan plan, final @Nullable Object[] values) {
+		this.plan = plan;
+		this.values = values;
+	}
+}
@@ -0,0 +1,64 @@
+package io.github.rabinarayanpatra.sanitizer.core;
+
+import org.jspecify.annotations.Nullable;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * Flight Recorder event for a field's sanitizer chain that ran longer than the
+ * event's threshold, 1 ms unless set otherwise with
+ * {@code io.github.rabinarayanpatra.sanitizer.SanitizerCall#threshold}.
+ * Emitted by {@link SanitizationUtils#apply}, {@link SanitizationUtils#applyChanged}
+ * and the chains returned by {@link SanitizationUtils#sanitizerFor}; batches
+ * and generated sanitizers are only covered by their own events.
+ */
+@Name("io.github.rabinarayanpatra.sanitizer.SanitizerCall")
+@Label("Slow Sanitizer Call")
+@Description("Sanitizer chain of one field that exceeded the threshold")
+@Category("Sanitizer")
+@Threshold("1 ms")
+@StackTrace(false)
+final class SanitizerCallEvent extends Event {
+
+	@Label("Bean Class")
+	@Description("Class declaring the field")
+	@Nullable
+	Class<?> beanClass;
+
+	@Label("Field")
+	@Nullable
+	String field;
+
+	@Label("Input Length")
+	@Description("Length of the input if it is a character sequence, otherwise -1")
+	int inputLength;
+
+	/**
+	 * Fills in the event's fields and commits it. Only called once
+	 * {@link #shouldCommit()} returned {@code true}, so slow calls pay for it and
+	 * fast ones do not.
+	 */
+	void commit(final Class<?> owner, final String fieldName, final @Nullable Object input) {
+		beanClass = owner;
+		field = fieldName;
+		inputLength = input instanceof CharSequence text ? text.length() : -1;
+		commit();
+	}
+
+	/**
+	 * Same as {@link #commit(Class, String, Object)} for input read from a
+	 * character array.
+	 */
+	void commit(final Class<?> owner, final String fieldName, final int length) {
+		beanClass = owner;
+		field = fieldName;
+		inputLength = length;
+		commit();
+	}
+}
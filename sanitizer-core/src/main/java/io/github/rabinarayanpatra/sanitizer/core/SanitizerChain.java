@@ -0,0 +1,196 @@
+package io.github.rabinarayanpatra.sanitizer.core;
+
+import java.lang.reflect.Field;
+import java.sql.Clob;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jspecify.annotations.Nullable;
+
+import io.github.rabinarayanpatra.sanitizer.core.FusedStringSanitizer.Stage;
+
+/**
+ * The complete sanitizer chain declared on one field, exposed as a single
+ * {@link FieldSanitizer} so that it can run on a value before the value is
+ * stored anywhere, for example while a JSON parser produces it.
+ * <p>
+ * Returned by {@link SanitizationUtils#sanitizerFor(Class, String)}, and by
+ * {@link SanitizationUtils#textSanitizerFor(Class, String)} when every step of
+ * a {@code String} field's chain is a {@link TextSanitizer}.
+ */
+final class SanitizerChain implements FieldSanitizer<Object>, TextSanitizer {
+
+	private final Class<?> owner;
+
+	private final String fieldName;
+
+	private final Class<?> fieldType;
+
+	private final FieldSanitizer<Object>[] steps;
+
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	SanitizerChain(final Field field, final List<FieldSanitizer<Object>> steps) {
+		this.owner = field.getDeclaringClass();
+		this.fieldName = field.getName();
+		this.fieldType = field.getType();
+		this.steps = steps.toArray(new FieldSanitizer[0]);
+	}
+
+	/**
+	 * Returns whether {@link #sanitize(char[], int, int, StringBuilder)} may be
+	 * called: the field is a {@code String} and every step is a
+	 * {@link TextSanitizer}. Steps wrapped for metrics are not, so instrumented
+	 * chains keep to the {@code String} path.
+	 *
+	 * @return whether the chain supports character-array input
+	 */
+	boolean supportsText() {
+		if (fieldType != String.class) {
+			return false;
+		}
+		for (final FieldSanitizer<Object> step : steps) {
+			if (!(step instanceof TextSanitizer)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Returns the chain as a {@link StreamingSanitizer}, or {@code null} if the
+	 * field is neither a {@code String} nor a {@code Clob} or a step cannot be
+	 * streamed. Fused and instrumented steps are taken apart into the built-ins
+	 * they run.
+	 *
+	 * @return the streaming form of the chain, or {@code null}
+	 */
+	@Nullable
+	StreamingSanitizer streaming() {
+		if (fieldType == Clob.class) {
+			return steps.length == 1 && unwrap(steps[0]) instanceof ClobSanitizer clob ? clob.streaming() : null;
+		}
+		if (fieldType != String.class) {
+			return null;
+		}
+		final List<Stage> stages = new ArrayList<>();
+		for (final FieldSanitizer<Object> step : steps) {
+			final FieldSanitizer<?> sanitizer = unwrap(step);
+			if (sanitizer instanceof FusedStringSanitizer fused) {
+				stages.addAll(List.of(fused.stages()));
+				continue;
+			}
+			final @Nullable Stage stage = StreamingSanitizer.streamableStage(sanitizer);
+			if (stage == null) {
+				return null;
+			}
+			stages.add(stage);
+		}
+		if (stages.contains(Stage.LOWER_CASE) || stages.contains(Stage.UPPER_CASE)) {
+			return null;
+		}
+		return new StreamingSanitizer(stages.toArray(new Stage[0]), StreamingSanitizer.DEFAULT_WINDOW);
+	}
+
+	private static FieldSanitizer<?> unwrap(final FieldSanitizer<?> step) {
+		return step instanceof RecordingSanitizer recording ? recording.delegate() : step;
+	}
+
+	@Override
+	public @Nullable Object sanitize(final @Nullable Object input) {
+		@Nullable
+		Object value = input;
+		int step = 0;
+		try {
+			final SanitizerCallEvent event = new SanitizerCallEvent();
+			event.begin();
+			for (; step < steps.length; step++) {
+				value = steps[step].sanitize(value);
+			}
+			event.end();
+			if (event.shouldCommit()) {
+				event.commit(owner, fieldName, input);
+			}
+			return value;
+		} catch (final ClassCastException e) {
+			throw typeMismatch(owner, fieldName, fieldType, steps[Math.min(step, steps.length - 1)], e);
+		}
+	}
+
+	/**
+	 * Runs the chain on {@code buf[off, off + len)}. Intermediate results of a
+	 * multi-step chain go through one scratch buffer; only the last step writes
+	 * to {@code out}. Only valid if {@link #supportsText()} holds.
+	 */
+	@Override
+	public boolean sanitize(final char[] buf, final int off, final int len, final StringBuilder out) {
+		final SanitizerCallEvent event = new SanitizerCallEvent();
+		event.begin();
+		final boolean appended = sanitizeText(buf, off, len, out);
+		event.end();
+		if (event.shouldCommit()) {
+			event.commit(owner, fieldName, len);
+		}
+		return appended;
+	}
+
+	private boolean sanitizeText(final char[] buf, final int off, final int len, final StringBuilder out) {
+		final int last = steps.length - 1;
+		char[] src = buf;
+		int srcOff = off;
+		int srcLen = len;
+		@Nullable
+		StringBuilder scratch = null;
+		for (int step = 0; step < last; step++) {
+			if (scratch == null) {
+				scratch = new StringBuilder(len + 16);
+			} else {
+				scratch.setLength(0);
+			}
+			if (!((TextSanitizer) steps[step]).sanitize(src, srcOff, srcLen, scratch)) {
+				return sanitizeNull(step + 1, out);
+			}
+			if (src == buf || src.length < scratch.length()) {
+				src = new char[Math.max(scratch.length(), len)];
+			}
+			scratch.getChars(0, scratch.length(), src, 0);
+			srcOff = 0;
+			srcLen = scratch.length();
+		}
+		return ((TextSanitizer) steps[last]).sanitize(src, srcOff, srcLen, out);
+	}
+
+	/**
+	 * Finishes a chain whose step before {@code from} returned {@code null}: the
+	 * remaining steps see {@code null}, exactly as on the {@code String} path.
+	 */
+	private boolean sanitizeNull(final int from, final StringBuilder out) {
+		@Nullable
+		Object value = null;
+		int step = from;
+		try {
+			for (; step < steps.length; step++) {
+				value = steps[step].sanitize(value);
+			}
+		} catch (final ClassCastException e) {
+			throw typeMismatch(owner, fieldName, fieldType, steps[step], e);
+		}
+		if (value == null) {
+			return false;
+		}
+		out.append(value);
+		return true;
+	}
+
+	/**
+	 * Builds the exception reported when a sanitizer's generic type does not
+	 * match the field it is declared on. Shared by every execution path so they
+	 * all fail with the same message.
+	 */
+	static IllegalStateException typeMismatch(final Class<?> owner, final String fieldName, final Class<?> fieldType,
+			final FieldSanitizer<?> sanitizer, final ClassCastException cause) {
+		final FieldSanitizer<?> named = unwrap(sanitizer);
+		return new IllegalStateException("Type mismatch: sanitizer " + named.getClass().getName()
+				+ " is not compatible with field '" + fieldName + "' of type " + fieldType.getName() + " on "
+				+ owner.getName() + ". Ensure the sanitizer's generic type matches the field type.", cause);
+	}
+}
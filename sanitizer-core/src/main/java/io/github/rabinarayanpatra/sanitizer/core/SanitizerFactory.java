@@ -0,0 +1,43 @@
+package io.github.rabinarayanpatra.sanitizer.core;
+
+import java.util.Map;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Supplies the {@link FieldSanitizer} instances that {@link SanitizationUtils}
+ * uses for {@code @Sanitize} annotations, for example beans from a dependency
+ * injection container.
+ * <p>
+ * The factory is consulted once for each sanitizer of each annotated field,
+ * when the plan for the declaring class is built; the returned instance is then
+ * used for every bean of that class. Returning {@code null} lets
+ * {@code SanitizationUtils} create the instance itself.
+ * <p>
+ * Install a factory with {@link SanitizationUtils#setSanitizerFactory}. The
+ * Spring Boot integration installs one backed by the application context.
+ * Classes with a generated {@link GeneratedSanitizer} consult the factory in the
+ * same way when their plan is built.
+ *
+ * @since 1.2.0
+ */
+@FunctionalInterface
+public interface SanitizerFactory {
+
+	/**
+	 * Returns the sanitizer to use for {@code type} with the given parameters.
+	 * <p>
+	 * For a {@link ConfigurableFieldSanitizer} with non-empty {@code params}, the
+	 * returned instance must already be configured with them, and must not be
+	 * handed out for other parameters.
+	 *
+	 * @param type
+	 *            the sanitizer class named in {@code @Sanitize(using = ...)}
+	 * @param params
+	 *            the parsed {@code params} of the annotation; empty if none
+	 * @return an instance of {@code type}, or {@code null} to use the default
+	 *         instantiation
+	 */
+	@Nullable
+	FieldSanitizer<?> getSanitizer(Class<? extends FieldSanitizer<?>> type, Map<String, String> params);
+}
@@ -4,7 +4,8 @@ package io.github.rabinarayanpatra.sanitizer.core;
  * Thrown when a {@link FieldSanitizer} implementation cannot be instantiated.
  * <p>
  * This exception typically occurs when the sanitizer class lacks a no-arg
- * constructor, or the constructor is not accessible at runtime.
+ * constructor, the constructor is not accessible at runtime, or a
+ * {@link ConfigurableFieldSanitizer} rejects its {@code params}.
  *
  * <pre>
  * {@code
@@ -0,0 +1,122 @@
+package io.github.rabinarayanpatra.sanitizer.core;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import io.github.rabinarayanpatra.sanitizer.annotation.Shareable;
+
+/**
+ * Canonical instances of sanitizers that can safely be shared, keyed by class
+ * and normalized parameters.
+ * <p>
+ * A sanitizer class is shareable when it is annotated with {@link Shareable} or
+ * has no instance fields anywhere in its hierarchy. Parameters only take part in
+ * the key for {@link ConfigurableFieldSanitizer}s, and are compared as parsed
+ * maps, so {@code "a=1, b=2"} and {@code "b=2,a=1"} share an instance. Sharing
+ * one instance per key keeps the number of sanitizer objects independent of the
+ * number of annotated fields and keeps call sites from seeing many receivers.
+ * <p>
+ * Each shared instance is created exactly once, outside any lock: the first
+ * caller publishes a future for the key and creates the instance, and
+ * concurrent callers wait on that future.
+ */
+final class SanitizerPool {
+
+	private static final ClassValue<Boolean> SHAREABLE = new ClassValue<>() {
+		@Override
+		protected Boolean computeValue(final Class<?> type) {
+			return type.isAnnotationPresent(Shareable.class) || hasNoInstanceFields(type);
+		}
+	};
+
+	// held by the sanitizer class itself, so pooled instances never keep a
+	// redeployed class loader reachable
+	private static final ClassValue<Instances> SHARED = new ClassValue<>() {
+		@Override
+		protected Instances computeValue(final Class<?> type) {
+			return new Instances();
+		}
+	};
+
+	private SanitizerPool() {
+	}
+
+	/**
+	 * Returns the shared instance for {@code type} and {@code params}, creating it
+	 * with {@code factory} on first use, or a new instance from {@code factory}
+	 * when {@code type} is not shareable.
+	 *
+	 * @param type
+	 *            the sanitizer class
+	 * @param params
+	 *            the raw {@code params} of the annotation
+	 * @param factory
+	 *            creates and configures a new instance
+	 * @return the sanitizer to use
+	 */
+	static FieldSanitizer<Object> get(final Class<? extends FieldSanitizer<?>> type, final String params,
+			final Supplier<FieldSanitizer<Object>> factory) {
+		if (!SHAREABLE.get(type)) {
+			return factory.get();
+		}
+		final Map<String, String> key = ConfigurableFieldSanitizer.class.isAssignableFrom(type)
+				? Map.copyOf(ConfigurableFieldSanitizer.parseParams(params))
+				: Map.of();
+		final Instances shared = SHARED.get(type);
+		CompletableFuture<FieldSanitizer<Object>> instance = shared.get(key);
+		if (instance == null) {
+			final CompletableFuture<FieldSanitizer<Object>> created = new CompletableFuture<>();
+			instance = shared.putIfAbsent(key, created);
+			if (instance == null) {
+				// not computeIfAbsent: the factory may run user code and must not hold a
+				// map bin lock while it does
+				try {
+					final FieldSanitizer<Object> sanitizer = factory.get();
+					created.complete(sanitizer);
+					return sanitizer;
+				} catch (final RuntimeException | Error e) {
+					shared.remove(key, created);
+					created.completeExceptionally(e);
+					throw e;
+				}
+			}
+		}
+		return PlanCache.join(instance);
+	}
+
+	/**
+	 * Returns whether instances of {@code type} are shared.
+	 *
+	 * @param type
+	 *            the sanitizer class
+	 * @return {@code true} if {@link #get} returns canonical instances for it
+	 */
+	static boolean isShareable(final Class<?> type) {
+		return SHAREABLE.get(type);
+	}
+
+	private static boolean hasNoInstanceFields(final Class<?> type) {
+		for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+			for (final Field field : current.getDeclaredFields()) {
+				if (!Modifier.isStatic(field.getModifiers()) && !field.isSynthetic()) {
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * The shared instances of one sanitizer class, by normalized parameters.
+	 */
+	private static final class Instances
+			extends
+				ConcurrentHashMap<Map<String, String>, CompletableFuture<FieldSanitizer<Object>>> {
+
+		private static final long serialVersionUID = 1L;
+	}
+}
@@ -0,0 +1,338 @@
+package io.github.rabinarayanpatra.sanitizer.core;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.CharBuffer;
+import java.sql.Clob;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+import org.jspecify.annotations.Nullable;
+
+import io.github.rabinarayanpatra.sanitizer.core.FusedStringSanitizer.Run;
+import io.github.rabinarayanpatra.sanitizer.core.FusedStringSanitizer.Stage;
+
+/**
+ * Applies a chain of built-in text sanitizers to a character stream while
+ * holding only a fixed-size window of it in memory, for values such as
+ * multi-megabyte notes or transcripts stored in a {@link Clob}.
+ * <p>
+ * The chain runs as the same single pass as a fused {@code String} chain and
+ * writes what the {@code String} sanitizers would return for the whole value,
+ * with one exception: when {@code NullIfBlankSanitizer} turns a blank value
+ * longer than the window into {@code null}, the whitespace written before
+ * that was known stays in the output. Each window of input is pushed through
+ * every step, and the output no later input can change is written out before
+ * the next window is read. Output is held back only while it may still be
+ * removed: trailing whitespace that a trimming step cuts off if the input
+ * ends, and up to one window of blank output that
+ * {@code NullIfBlankSanitizer} may turn into {@code null}. Memory use is
+ * therefore bounded by the window size and the longest whitespace run inside
+ * the text, not by the size of the value.
+ * <p>
+ * The following sanitizers can be streamed: {@code TrimSanitizer},
+ * {@code CollapseWhitespaceSanitizer}, {@code RemoveNonPrintableSanitizer},
+ * {@code HtmlEscapeSanitizer}, {@code SafeFilenameSanitizer} and
+ * {@code NullIfBlankSanitizer}. {@code LowerCaseSanitizer} and
+ * {@code UpperCaseSanitizer} cannot, because {@link String#toLowerCase} and
+ * {@link String#toUpperCase} map some characters depending on their
+ * neighbours.
+ *
+ * <pre>
+ * {
+ * 	&#64;code
+ * 	StreamingSanitizer notes = StreamingSanitizer
+ * 			.of(List.of(new CollapseWhitespaceSanitizer(), new RemoveNonPrintableSanitizer()));
+ * 	try (Reader in = Files.newBufferedReader(source); Writer out = Files.newBufferedWriter(target)) {
+ * 		notes.sanitize(in, out);
+ * 	}
+ * }
+ * </pre>
+ *
+ * Instances are immutable and can be shared between threads.
+ *
+ * @see SanitizationUtils#streamingSanitizerFor(Class, String)
+ * @since 1.2.0
+ */
+public final class StreamingSanitizer {
+
+	/**
+	 * Number of input characters read per window unless
+	 * {@link #withWindow(int)} sets another size.
+	 */
+	public static final int DEFAULT_WINDOW = 8192;
+
+	private final Stage[] stages;
+
+	private final int window;
+
+	StreamingSanitizer(final Stage[] stages, final int window) {
+		this.stages = stages;
+		this.window = window;
+	}
+
+	/**
+	 * Creates a streaming sanitizer that runs {@code chain} in order.
+	 *
+	 * @param chain
+	 *            the sanitizers to apply; may be empty
+	 * @return the streaming sanitizer
+	 * @throws IllegalArgumentException
+	 *             if a sanitizer in {@code chain} {@link #isStreamable(FieldSanitizer)
+	 *             cannot be streamed}
+	 */
+	public static StreamingSanitizer of(final List<? extends FieldSanitizer<?>> chain) {
+		final Stage[] stages = new Stage[chain.size()];
+		for (int i = 0; i < stages.length; i++) {
+			final @Nullable Stage stage = streamableStage(chain.get(i));
+			if (stage == null) {
+				throw new IllegalArgumentException("Sanitizer " + chain.get(i).getClass().getName()
+						+ " cannot be applied to a stream; see StreamingSanitizer for the supported sanitizers");
+			}
+			stages[i] = stage;
+		}
+		return new StreamingSanitizer(stages, DEFAULT_WINDOW);
+	}
+
+	/**
+	 * Returns whether {@code sanitizer} can be part of a streaming sanitizer. Only
+	 * the built-in classes listed above qualify, not their subclasses.
+	 *
+	 * @param sanitizer
+	 *            the sanitizer to check
+	 * @return whether {@link #of(List)} accepts it
+	 */
+	public static boolean isStreamable(final FieldSanitizer<?> sanitizer) {
+		return streamableStage(sanitizer) != null;
+	}
+
+	static @Nullable Stage streamableStage(final FieldSanitizer<?> sanitizer) {
+		final @Nullable Stage stage = FusedStringSanitizer.stageOf(sanitizer);
+		return stage == Stage.LOWER_CASE || stage == Stage.UPPER_CASE ? null : stage;
+	}
+
+	/**
+	 * Returns a copy of this sanitizer that reads {@code window} characters at a
+	 * time.
+	 *
+	 * @param window
+	 *            the number of input characters per window
+	 * @return the reconfigured sanitizer
+	 * @throws IllegalArgumentException
+	 *             if {@code window} is less than 1
+	 */
+	public StreamingSanitizer withWindow(final int window) {
+		if (window < 1) {
+			throw new IllegalArgumentException("window must be positive but was " + window);
+		}
+		return new StreamingSanitizer(stages, window);
+	}
+
+	int window() {
+		return window;
+	}
+
+	/**
+	 * Returns whether the result can be {@code null}, which is the case when the
+	 * chain contains {@code NullIfBlankSanitizer}.
+	 *
+	 * @return whether a sanitize method can return {@code false}
+	 */
+	public boolean canReturnNull() {
+		for (final Stage stage : stages) {
+			if (stage == Stage.NULL_IF_BLANK) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Reads {@code in} to the end and writes the sanitized text to {@code out}.
+	 * Neither stream is closed.
+	 *
+	 * @param in
+	 *            the text to sanitize
+	 * @param out
+	 *            where the sanitized text is written
+	 * @return {@code true} if the result was written, {@code false} if it is
+	 *         {@code null}, in which case anything written is blank; output is
+	 *         only written for a blank result longer than the window
+	 * @throws IOException
+	 *             if reading or writing fails
+	 */
+	public boolean sanitize(final Reader in, final Writer out) throws IOException {
+		final char[] buf = new char[window];
+		final StringBuilder pending = new StringBuilder();
+		final Run run = new Run("", stages, pending);
+		for (int n = in.read(buf); n >= 0; n = in.read(buf)) {
+			push(run, buf, n);
+			drain(run, pending, run.settled(window), out, buf);
+		}
+		if (!run.close()) {
+			return false;
+		}
+		drain(run, pending, pending.length(), out, buf);
+		return true;
+	}
+
+	/**
+	 * Sanitizes the remaining characters of {@code in} and writes the result to
+	 * {@code out}. The buffer's position is advanced to its limit.
+	 *
+	 * @param in
+	 *            the text to sanitize
+	 * @param out
+	 *            where the sanitized text is written
+	 * @return {@code true} if the result was written, {@code false} if it is
+	 *         {@code null}, in which case anything written is blank; output is
+	 *         only written for a blank result longer than the window
+	 * @throws IOException
+	 *             if writing fails
+	 */
+	public boolean sanitize(final CharBuffer in, final Writer out) throws IOException {
+		final char[] buf = new char[window];
+		final StringBuilder pending = new StringBuilder();
+		final Run run = new Run("", stages, pending);
+		while (in.hasRemaining()) {
+			final int n = Math.min(buf.length, in.remaining());
+			in.get(buf, 0, n);
+			push(run, buf, n);
+			drain(run, pending, run.settled(window), out, buf);
+		}
+		if (!run.close()) {
+			return false;
+		}
+		drain(run, pending, pending.length(), out, buf);
+		return true;
+	}
+
+	/**
+	 * Reads the content of {@code in} and writes the sanitized text to
+	 * {@code out}. {@code out} is not closed.
+	 *
+	 * @param in
+	 *            the CLOB to sanitize
+	 * @param out
+	 *            where the sanitized text is written
+	 * @return {@code true} if the result was written, {@code false} if it is
+	 *         {@code null}, in which case anything written is blank; output is
+	 *         only written for a blank result longer than the window
+	 * @throws SQLException
+	 *             if the CLOB cannot be read
+	 * @throws IOException
+	 *             if reading or writing fails
+	 */
+	public boolean sanitize(final Clob in, final Writer out) throws SQLException, IOException {
+		try (Reader reader = in.getCharacterStream()) {
+			return sanitize(reader, out);
+		}
+	}
+
+	/**
+	 * Returns a reader that sanitizes {@code in} as it is read. A {@code null}
+	 * result reads as blank text, which is empty unless the blank output is
+	 * longer than the window; check {@link #canReturnNull()} if that matters.
+	 * Closing the returned reader closes {@code in}.
+	 *
+	 * @param in
+	 *            the text to sanitize
+	 * @return a reader of the sanitized text
+	 */
+	public Reader reader(final Reader in) {
+		return new SanitizingReader(in);
+	}
+
+	@Override
+	public String toString() {
+		return "StreamingSanitizer" + Arrays.toString(stages) + "[window=" + window + "]";
+	}
+
+	private static void push(final Run run, final char[] buf, final int n) {
+		for (int i = 0; i < n; i++) {
+			run.push(0, buf[i]);
+		}
+	}
+
+	/**
+	 * Writes the first {@code n} pending characters to {@code out} through
+	 * {@code buf} and drops them from {@code pending}.
+	 */
+	private static void drain(final Run run, final StringBuilder pending, final int n, final Writer out,
+			final char[] buf) throws IOException {
+		for (int i = 0; i < n; i += buf.length) {
+			final int chunk = Math.min(buf.length, n - i);
+			pending.getChars(i, i + chunk, buf, 0);
+			out.write(buf, 0, chunk);
+		}
+		run.drop(n);
+	}
+
+	/**
+	 * Reader that fills its output one window of the source at a time.
+	 */
+	private final class SanitizingReader extends Reader {
+
+		private final Reader source;
+
+		private final char[] buf = new char[window];
+
+		private final StringBuilder pending = new StringBuilder();
+
+		private final Run run = new Run("", stages, pending);
+
+		/** Number of characters at the start of {@link #pending} ready to be read. */
+		private int available;
+
+		/** Number of characters of {@link #pending} already read. */
+		private int position;
+
+		private boolean eof;
+
+		SanitizingReader(final Reader source) {
+			this.source = source;
+		}
+
+		@Override
+		public int read(final char[] cbuf, final int off, final int len) throws IOException {
+			Objects.checkFromIndexSize(off, len, cbuf.length);
+			if (len == 0) {
+				return 0;
+			}
+			while (position == available) {
+				if (eof) {
+					return -1;
+				}
+				fill();
+			}
+			final int n = Math.min(len, available - position);
+			pending.getChars(position, position + n, cbuf, off);
+			position += n;
+			return n;
+		}
+
+		private void fill() throws IOException {
+			run.drop(position);
+			position = 0;
+			final int n = source.read(buf);
+			if (n >= 0) {
+				push(run, buf, n);
+				available = run.settled(window);
+				return;
+			}
+			eof = true;
+			if (!run.close()) {
+				pending.setLength(0);
+			}
+			available = pending.length();
+		}
+
+		@Override
+		public void close() throws IOException {
+			source.close();
+		}
+	}
+}
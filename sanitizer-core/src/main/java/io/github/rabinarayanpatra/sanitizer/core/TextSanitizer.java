@@ -0,0 +1,49 @@
+package io.github.rabinarayanpatra.sanitizer.core;
+
+/**
+ * Optional second entry point for {@code String} sanitizers that reads the
+ * input from a character array and appends the result to a
+ * {@link StringBuilder}, so callers holding raw characters, such as a JSON
+ * parser's text buffer, do not have to build a {@code String} for the input
+ * first.
+ * <p>
+ * An implementation is also a {@code FieldSanitizer<String>}, and both entry
+ * points must agree: for the characters {@code buf[off, off + len)},
+ * {@link #sanitize(char[], int, int, StringBuilder)} appends exactly what
+ * {@link FieldSanitizer#sanitize(Object) sanitize(String)} returns, or appends
+ * nothing and returns {@code false} where that method returns {@code null}.
+ * The input is never {@code null}. All built-in {@code String} sanitizers
+ * implement this interface.
+ *
+ * <pre>
+ * {
+ * 	&#64;code
+ * 	StringBuilder out = new StringBuilder();
+ * 	if (SanitizationUtils.textSanitizerFor(User.class, "email").sanitize(chars, offset, length, out)) {
+ * 		user.setEmail(out.toString());
+ * 	}
+ * }
+ * </pre>
+ *
+ * @see SanitizationUtils#textSanitizerFor(Class, String)
+ * @since 1.2.0
+ */
+public interface TextSanitizer {
+
+	/**
+	 * Sanitizes the characters {@code buf[off, off + len)} and appends the result
+	 * to {@code out}. {@code buf} is not modified.
+	 *
+	 * @param buf
+	 *            the array holding the input
+	 * @param off
+	 *            the index of the first input character
+	 * @param len
+	 *            the number of input characters
+	 * @param out
+	 *            where the sanitized text is appended
+	 * @return {@code true} if the result was appended, {@code false} if the
+	 *         result is {@code null}, in which case {@code out} is unchanged
+	 */
+	boolean sanitize(char[] buf, int off, int len, StringBuilder out);
+}
@@ -0,0 +1,277 @@
+package io.github.rabinarayanpatra.sanitizer.core;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.lang.reflect.WildcardType;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Per-class plan for walking a bean graph: the class's own
+ * {@link SanitizationPlan} plus the fields ("links") through which a
+ * sanitizable object may be reached.
+ * <p>
+ * Links are chosen from the declared field types when the plan is built. A
+ * field is left out when its type provably cannot lead to a {@code @Sanitize}
+ * field: primitives, enums, JDK types other than {@code Object}, collections and
+ * maps, collections and maps whose element type cannot, and final classes and
+ * records whose own fields cannot, transitively. Fields of non-final,
+ * abstract or interface types are kept, since a subclass at runtime may be
+ * sanitizable; the runtime class's plan then decides.
+ * <p>
+ * {@link #walk(Object)} visits the graph iteratively (no recursion depth limit)
+ * with an identity-based visited set, so shared references are sanitized once
+ * and cycles terminate. {@link Iterable}s, arrays of objects and {@link Map}
+ * values (not keys) are descended into.
+ */
+final class TraversalPlan {
+
+	private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+	private static final TraversalPlan LEAF = new TraversalPlan(SanitizationPlan.EMPTY, List.of());
+
+	static final PlanCache<TraversalPlan> PLANS = new PlanCache<>(TraversalPlan::build);
+
+	private final SanitizationPlan own;
+
+	private final Link[] links;
+
+	private TraversalPlan(final SanitizationPlan own, final List<Link> links) {
+		this.own = own;
+		this.links = links.toArray(new Link[0]);
+	}
+
+	/**
+	 * Sanitizes {@code root} and every object reachable from it through planned
+	 * links, collections, arrays and map values.
+	 *
+	 * @param root
+	 *            the root of the object graph
+	 */
+	static void walk(final Object root) {
+		final Set<Object> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+		final ArrayDeque<Object> pending = new ArrayDeque<>();
+		pending.push(root);
+		while (!pending.isEmpty()) {
+			final Object node = pending.pop();
+			if (node instanceof Map<?, ?> map) {
+				if (visited.add(node)) {
+					for (final Object value : map.values()) {
+						push(pending, value);
+					}
+				}
+			} else if (node instanceof Iterable<?> iterable) {
+				if (visited.add(node)) {
+					for (final Object element : iterable) {
+						push(pending, element);
+					}
+				}
+			} else if (node instanceof Object[] array) {
+				if (visited.add(node)) {
+					for (final Object element : array) {
+						push(pending, element);
+					}
+				}
+			} else {
+				final TraversalPlan plan = forClass(node.getClass());
+				if (plan == LEAF || !visited.add(node)) {
+					continue;
+				}
+				plan.own.apply(node);
+				for (final Link link : plan.links) {
+					push(pending, link.get(node));
+				}
+			}
+		}
+	}
+
+	private static void push(final ArrayDeque<Object> pending, final @Nullable Object value) {
+		if (value != null) {
+			pending.push(value);
+		}
+	}
+
+	/**
+	 * Returns the cached traversal plan for {@code cls}, building it on first use.
+	 *
+	 * @param cls
+	 *            the runtime class of a visited object
+	 * @return the plan; {@link #isLeaf()} when nothing below it can be sanitized
+	 */
+	static TraversalPlan forClass(final Class<?> cls) {
+		return PLANS.get(cls);
+	}
+
+	/**
+	 * Returns {@code true} when objects of this class neither have sanitizable
+	 * fields nor links to follow.
+	 *
+	 * @return whether the traversal stops at this class
+	 */
+	boolean isLeaf() {
+		return this == LEAF;
+	}
+
+	/**
+	 * Returns the fields this plan follows, in visiting order. Intended for tests
+	 * and diagnostics.
+	 *
+	 * @return the linked fields
+	 */
+	List<Field> linkedFields() {
+		final List<Field> fields = new ArrayList<>(links.length);
+		for (final Link link : links) {
+			fields.add(link.field);
+		}
+		return fields;
+	}
+
+	private static TraversalPlan build(final Class<?> cls) {
+		if (cls.isPrimitive() || cls.isEnum() || cls.isArray() || isJdkType(cls)) {
+			return LEAF;
+		}
+		final SanitizationPlan own = SanitizationUtils.planFor(cls);
+		final List<Link> links = new ArrayList<>();
+		for (Class<?> current = cls; current != null && current != Object.class; current = current.getSuperclass()) {
+			for (final Field field : current.getDeclaredFields()) {
+				if (Modifier.isStatic(field.getModifiers()) || field.isSynthetic()
+						|| !mayReach(field.getGenericType(), new HashSet<>())) {
+					continue;
+				}
+				final @Nullable Link link = Link.of(field);
+				if (link != null) {
+					links.add(link);
+				}
+			}
+		}
+		return own.isEmpty() && links.isEmpty() ? LEAF : new TraversalPlan(own, links);
+	}
+
+	/**
+	 * Returns {@code false} only when a value of the given declared type provably
+	 * cannot lead to a sanitizable object. {@code seen} holds the final classes
+	 * already being examined in this search, which breaks cycles between types.
+	 */
+	private static boolean mayReach(final Type type, final Set<Class<?>> seen) {
+		if (type instanceof Class<?> cls) {
+			return classMayReach(cls, seen);
+		}
+		if (type instanceof ParameterizedType parameterized) {
+			final Class<?> raw = (Class<?>) parameterized.getRawType();
+			final Type[] args = parameterized.getActualTypeArguments();
+			if (isJdkType(raw) && Map.class.isAssignableFrom(raw)) {
+				return args.length != 2 || mayReach(args[1], seen);
+			}
+			if (isJdkType(raw) && Iterable.class.isAssignableFrom(raw)) {
+				return args.length != 1 || mayReach(args[0], seen);
+			}
+			return classMayReach(raw, seen);
+		}
+		if (type instanceof GenericArrayType array) {
+			return mayReach(array.getGenericComponentType(), seen);
+		}
+		if (type instanceof WildcardType wildcard) {
+			return mayReach(wildcard.getUpperBounds()[0], seen);
+		}
+		if (type instanceof TypeVariable<?> variable) {
+			for (final Type bound : variable.getBounds()) {
+				if (mayReach(bound, seen)) {
+					return true;
+				}
+			}
+			return false;
+		}
+		return true;
+	}
+
+	private static boolean classMayReach(final Class<?> cls, final Set<Class<?>> seen) {
+		if (cls.isPrimitive() || cls.isEnum()) {
+			return false;
+		}
+		if (cls.isArray()) {
+			return classMayReach(cls.getComponentType(), seen);
+		}
+		if (isJdkType(cls)) {
+			// raw collections and Object may hold anything
+			return cls == Object.class || Iterable.class.isAssignableFrom(cls) || Map.class.isAssignableFrom(cls);
+		}
+		if (!Modifier.isFinal(cls.getModifiers())) {
+			return true;
+		}
+		if (!seen.add(cls)) {
+			return false;
+		}
+		if (!SanitizationUtils.planFor(cls).isEmpty()) {
+			return true;
+		}
+		for (Class<?> current = cls; current != null && current != Object.class; current = current.getSuperclass()) {
+			for (final Field field : current.getDeclaredFields()) {
+				if (!Modifier.isStatic(field.getModifiers()) && mayReach(field.getGenericType(), seen)) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	private static boolean isJdkType(final Class<?> cls) {
+		final String name = cls.getName();
+		return name.startsWith("java.") || name.startsWith("javax.") || name.startsWith("jdk.")
+				|| name.startsWith("sun.") || name.startsWith("com.sun.");
+	}
+
+	/**
+	 * A field followed during traversal, read through a {@link MethodHandle}.
+	 */
+	private static final class Link {
+
+		private final Field field;
+
+		private final MethodHandle getter;
+
+		private Link(final Field field, final MethodHandle getter) {
+			this.field = field;
+			this.getter = getter;
+		}
+
+		/**
+		 * Creates a link for {@code field}, or returns {@code null} when the field
+		 * cannot be made accessible (for example in a module that is not open).
+		 */
+		static @Nullable Link of(final Field field) {
+			try {
+				field.setAccessible(true);
+				return new Link(field, MethodHandles.lookup().unreflectGetter(field).asType(GETTER_TYPE));
+			} catch (final IllegalAccessException | RuntimeException e) {
+				return null;
+			}
+		}
+
+		@Nullable
+		Object get(final Object bean) {
+			try {
+				return (Object) getter.invokeExact(bean);
+			} catch (final RuntimeException | Error e) {
+				throw e;
+			} catch (final Throwable e) {
+				throw new IllegalStateException("Cannot read field '" + field.getName() + "' on "
+						+ bean.getClass().getName(), e);
+			}
+		}
+	}
+}
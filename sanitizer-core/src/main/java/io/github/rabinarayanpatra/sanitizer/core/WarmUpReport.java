@@ -0,0 +1,79 @@
+package io.github.rabinarayanpatra.sanitizer.core;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Outcome of {@link SanitizationUtils#warmUp(java.util.Collection, java.util.concurrent.Executor)}:
+ * how long building the plans of each class took and which classes failed.
+ *
+ * @since 1.2.0
+ */
+public final class WarmUpReport {
+
+	private final Map<Class<?>, Duration> timings;
+
+	private final Map<Class<?>, RuntimeException> failures;
+
+	private final Duration elapsed;
+
+	WarmUpReport(final Map<Class<?>, Duration> timings, final Map<Class<?>, RuntimeException> failures,
+			final Duration elapsed) {
+		this.timings = Collections.unmodifiableMap(new LinkedHashMap<>(timings));
+		this.failures = Collections.unmodifiableMap(new LinkedHashMap<>(failures));
+		this.elapsed = elapsed;
+	}
+
+	/**
+	 * Returns the time spent building the plans of each class, including classes
+	 * that failed, in the order the classes were given.
+	 *
+	 * @return the per-class timings
+	 */
+	public Map<Class<?>, Duration> timings() {
+		return timings;
+	}
+
+	/**
+	 * Returns the exception thrown while planning each class that failed. Nothing
+	 * is cached for these classes, so their first use throws the same exception
+	 * again.
+	 *
+	 * @return the failures; empty when every class was planned
+	 */
+	public Map<Class<?>, RuntimeException> failures() {
+		return failures;
+	}
+
+	/**
+	 * Returns the wall-clock time of the whole warm-up.
+	 *
+	 * @return the elapsed time
+	 */
+	public Duration elapsed() {
+		return elapsed;
+	}
+
+	/**
+	 * Returns the classes that took longest to plan, slowest first.
+	 *
+	 * @param limit
+	 *            the maximum number of classes to return
+	 * @return up to {@code limit} classes with their timings
+	 */
+	public List<Map.Entry<Class<?>, Duration>> slowest(final int limit) {
+		final List<Map.Entry<Class<?>, Duration>> entries = new ArrayList<>(timings.entrySet());
+		entries.sort(Map.Entry.<Class<?>, Duration>comparingByValue().reversed());
+		return entries.subList(0, Math.min(limit, entries.size()));
+	}
+
+	@Override
+	public String toString() {
+		return "WarmUpReport[classes=" + timings.size() + ", failures=" + failures.size() + ", elapsed="
+				+ elapsed.toMillis() + "ms]";
+	}
+}
@@ -0,0 +1,72 @@
+package io.github.rabinarayanpatra.sanitizer.builtin;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import io.github.rabinarayanpatra.sanitizer.builtin.AsciiScan.Match;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class AsciiScanTest {
+
+	@Test
+	void isVectorized_followsVectorModule() {
+		assertEquals(ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent(), AsciiScan.isVectorized());
+	}
+
+	@Test
+	void vectorKernel_matchesScalarPredicates() {
+		final VectorAsciiKernel kernel = new VectorAsciiKernel();
+		final Random random = new Random(20261017L);
+		for (int n = 0; n < 20_000; n++) {
+			// mostly plain ASCII letters with the occasional character of interest,
+			// at any position relative to the vector lanes
+			final char[] buf = new char[random.nextInt(100)];
+			for (int i = 0; i < buf.length; i++) {
+				buf[i] = random.nextInt(20) == 0 ? (char) random.nextInt(0x10000) : (char) ('a' + random.nextInt(26));
+			}
+			final int from = buf.length == 0 ? 0 : random.nextInt(buf.length);
+			final int to = from + random.nextInt(buf.length - from + 1);
+			for (final Match match : Match.values()) {
+				assertEquals(AsciiScan.scalarIndexOf(match, buf, from, to), kernel.indexOf(match, buf, from, to),
+						() -> match + " in " + new String(buf) + " [" + from + ", " + to + ")");
+			}
+		}
+	}
+
+	@Test
+	void vectorKernel_findsEveryBoundaryCharacter() {
+		final VectorAsciiKernel kernel = new VectorAsciiKernel();
+		final char[] buf = new char[67];
+		for (int c = 0; c < 0x10000; c++) {
+			Arrays.fill(buf, ' ');
+			buf[40] = (char) c;
+			for (final Match match : Match.values()) {
+				final int expected = match.test((char) c) ? 40 : buf.length;
+				assertEquals(expected, kernel.indexOf(match, buf, 0, buf.length),
+						match + " U+" + Integer.toHexString(c));
+			}
+		}
+	}
+
+	@Test
+	void indexOf_scansLongStringsInChunks() {
+		final String text = "plain ascii text ".repeat(100);
+		assertEquals(text.length(), AsciiScan.indexOf(Match.HTML_SPECIAL, text));
+		assertEquals(1500, AsciiScan.indexOf(Match.HTML_SPECIAL, text.substring(0, 1500) + "<" + text));
+		assertEquals(3, AsciiScan.indexOf(Match.UPPER_OR_NON_ASCII, "abcÉ"));
+		assertEquals(0, AsciiScan.indexOf(Match.NON_PRINTABLE, "\u0000" + text));
+		assertEquals(text.length(), AsciiScan.indexOf(Match.LOWER_OR_NON_ASCII, text.toUpperCase(Locale.ROOT) + "x"));
+	}
+
+	@Test
+	void indexOf_scansLongStringsOnVirtualThreads() throws InterruptedException {
+		final String text = "plain ascii text ".repeat(100) + "<";
+		final int[] hit = new int[1];
+		Thread.ofVirtual().start(() -> hit[0] = AsciiScan.indexOf(Match.HTML_SPECIAL, text)).join();
+		assertEquals(text.length() - 1, hit[0]);
+	}
+}
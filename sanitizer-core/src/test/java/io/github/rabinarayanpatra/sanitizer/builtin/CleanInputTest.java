@@ -0,0 +1,46 @@
+package io.github.rabinarayanpatra.sanitizer.builtin;
+
+import java.util.stream.Stream;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import io.github.rabinarayanpatra.sanitizer.core.FieldSanitizer;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+/**
+ * Every built-in {@code String} sanitizer returns the input instance itself
+ * when there is nothing to change, which lets the sanitization plans skip
+ * writing the field back.
+ */
+class CleanInputTest {
+
+	static Stream<Arguments> cleanInputs() {
+		return Stream.of(arguments(new CollapseWhitespaceSanitizer(), "John Doe"),
+				arguments(new CreditCardMaskSanitizer(), "****"),
+				arguments(new EmailAliasStripSanitizer(), "john.doe@example.com"),
+				arguments(new HtmlEscapeSanitizer(), "plain text"),
+				arguments(new HtmlEscapeSanitizer(), "plain ascii text ".repeat(20)),
+				arguments(new IBANMaskSanitizer(), "******************0130"),
+				arguments(new LowerCaseSanitizer(), "hello@example.com"),
+				arguments(new NullIfBlankSanitizer(), "  value "),
+				arguments(new PhoneE164Sanitizer(), "+12025550198"),
+				arguments(new RemoveNonPrintableSanitizer(), "Hello\tWorld\r\n"),
+				arguments(new SafeFilenameSanitizer(), "report_2025.pdf"),
+				arguments(new SentenceCaseSanitizer(), "Hello world."),
+				arguments(new SlugifySanitizer(), "cafe-con-leches"),
+				arguments(new SSNMaskSanitizer(), "***-**-6789"),
+				arguments(new TitleCaseSanitizer(), "Hello World"), arguments(new TrimSanitizer(), "hello"),
+				arguments(new TruncateSanitizer(), "short value"), arguments(new UpperCaseSanitizer(), "HELLO-123"),
+				arguments(new UuidNormalizeSanitizer(), "123e4567-e89b-12d3-a456-426614174000"));
+	}
+
+	@ParameterizedTest
+	@MethodSource("cleanInputs")
+	void sanitize_returnsSameInstanceWhenAlreadyClean(final FieldSanitizer<String> sanitizer, final String clean) {
+		assertSame(clean, sanitizer.sanitize(clean), sanitizer.getClass().getSimpleName());
+	}
+}
@@ -0,0 +1,156 @@
+package io.github.rabinarayanpatra.sanitizer.builtin;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.function.UnaryOperator;
+
+import org.junit.jupiter.api.Test;
+
+import org.jspecify.annotations.Nullable;
+
+import io.github.rabinarayanpatra.sanitizer.core.FieldSanitizer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Verifies that the single-pass built-in sanitizers produce exactly the same
+ * output as the regex-based implementations they replaced.
+ */
+class RegexEquivalenceTest {
+
+	/**
+	 * Characters that exercise every class the old regexes distinguished: each
+	 * flavour of {@code \s}, other ASCII controls and DEL, non-ASCII whitespace,
+	 * digits, letters, accents and combining marks, filename-reserved characters,
+	 * HTML specials, email punctuation, and case-mapping oddities such as KELVIN
+	 * SIGN, dotted capital I and a surrogate pair.
+	 */
+	private static final String ALPHABET = " \t\n\u000B\f\r\u0000\u0001\u001F\u007F\u0085  　"
+			+ "0123456789aZzA-_.+@@\\/:*?\"<>|&'éÉçÑ́̀ͯKİΣß😀";
+
+	private static final List<String> CORPUS = corpus();
+
+	@Test
+	void collapseWhitespace() {
+		assertEquivalent(new CollapseWhitespaceSanitizer(), in -> in.trim().replaceAll("\\s+", " "));
+	}
+
+	@Test
+	void creditCardMask() {
+		assertEquivalent(new CreditCardMaskSanitizer(), in -> {
+			final String digits = in.replaceAll("\\D", "");
+			if (digits.length() <= 4) {
+				return "****";
+			}
+			return "**** **** **** " + digits.substring(digits.length() - 4);
+		});
+	}
+
+	@Test
+	void phoneE164() {
+		assertEquivalent(new PhoneE164Sanitizer(), in -> {
+			final String digits = in.replaceAll("\\D+", "");
+			return digits.isEmpty() ? null : "+" + digits;
+		});
+	}
+
+	@Test
+	void ssnMask() {
+		assertEquivalent(new SSNMaskSanitizer(), in -> {
+			final String digits = in.replaceAll("\\D+", "");
+			if (digits.length() != 9) {
+				return in;
+			}
+			return "***-**-" + digits.substring(5);
+		});
+	}
+
+	@Test
+	void ibanMask() {
+		assertEquivalent(new IBANMaskSanitizer(), in -> {
+			final String plain = in.replaceAll("\\s+", "");
+			if (plain.length() <= 4) {
+				return plain;
+			}
+			return "*".repeat(plain.length() - 4) + plain.substring(plain.length() - 4);
+		});
+	}
+
+	@Test
+	void safeFilename() {
+		assertEquivalent(new SafeFilenameSanitizer(), in -> in.trim().replaceAll("[\\\\/:*?\"<>|]", "_"));
+	}
+
+	@Test
+	void removeNonPrintable() {
+		assertEquivalent(new RemoveNonPrintableSanitizer(), in -> in.replaceAll("[\\p{Cntrl}&&[^\\t\\r\\n]]", ""));
+	}
+
+	@Test
+	void emailAliasStrip() {
+		assertEquivalent(new EmailAliasStripSanitizer(),
+				in -> in.trim().toLowerCase(Locale.ROOT).replaceFirst("\\+[^@]+(?=@)", ""));
+	}
+
+	@Test
+	void htmlEscape() {
+		assertEquivalent(new HtmlEscapeSanitizer(), in -> in.replace("&", "&amp;").replace("<", "&lt;")
+				.replace(">", "&gt;").replace("\"", "&quot;").replace("'", "&#x27;"));
+	}
+
+	@Test
+	void slugify() {
+		assertEquivalent(new SlugifySanitizer(), in -> {
+			final String noAccent = Normalizer.normalize(in, Normalizer.Form.NFD)
+					.replaceAll("\\p{InCombiningDiacriticalMarks}+", "");
+			return noAccent.toLowerCase(Locale.ROOT).replaceAll("[^a-z0-9]+", "-").replaceAll("(^-+)|(-+$)", "");
+		});
+	}
+
+	private static void assertEquivalent(final FieldSanitizer<String> sanitizer,
+			final UnaryOperator<@Nullable String> reference) {
+		for (final String input : CORPUS) {
+			final @Nullable String expected = reference.apply(input);
+			assertEquals(expected, sanitizer.sanitize(input), () -> "input: " + escape(input));
+			// feed the output back in so the already-clean fast paths are exercised too
+			if (expected != null) {
+				assertEquals(reference.apply(expected), sanitizer.sanitize(expected),
+						() -> "input: " + escape(expected));
+			}
+		}
+	}
+
+	private static List<String> corpus() {
+		final List<String> inputs = new ArrayList<>(List.of("", " ", "  \t\n ", "a", "  John   Doe  ",
+				"4111-1111-1111-1234", "1234", "12345", "123-45-6789", "12-345-6789-0", "DE89 3704 0044 0532 0130 00",
+				"AB 12", "user:data/report|2025?.pdf", "Hello\u0002World\t\r\n\u007F", "John.Doe+marketing@example.com",
+				"a+@b+c@d", "+@", "x+y", "a++b@c", "<script>alert('xss')</script> & \"q\"", "Café Con Leches!",
+				"--Crème--brûlée--", "Kelvin İstanbul", "(202) 555-0198", "no digits"));
+		final Random random = new Random(20260605L);
+		for (int n = 0; n < 5000; n++) {
+			final int length = random.nextInt(24);
+			final StringBuilder sb = new StringBuilder(length);
+			for (int i = 0; i < length; i++) {
+				sb.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+			}
+			inputs.add(sb.toString());
+		}
+		return inputs;
+	}
+
+	private static String escape(final String s) {
+		final StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < s.length(); i++) {
+			final char c = s.charAt(i);
+			if (c < 0x20 || c > 0x7E) {
+				sb.append(String.format("\\u%04X", (int) c));
+			} else {
+				sb.append(c);
+			}
+		}
+		return sb.toString();
+	}
+}
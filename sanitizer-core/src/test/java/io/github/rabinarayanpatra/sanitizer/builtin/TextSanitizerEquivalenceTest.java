@@ -0,0 +1,181 @@
+package io.github.rabinarayanpatra.sanitizer.builtin;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import org.jspecify.annotations.Nullable;
+
+import io.github.rabinarayanpatra.sanitizer.core.FieldSanitizer;
+import io.github.rabinarayanpatra.sanitizer.core.TextSanitizer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Verifies that every built-in {@code String} sanitizer appends exactly what
+ * its {@code String} path returns when it reads the input from a character
+ * array, and leaves the output untouched when that result is {@code null}.
+ */
+class TextSanitizerEquivalenceTest {
+
+	private static final String ALPHABET = " \t\n\u000B\f\r\u0000\u0001\u001F\u007F\u0085  　"
+			+ "0123456789abcdefaZzA-_.+@@\\/:*?\"<>|&'éÉçÑ́̀ͯKİΣß😀{}";
+
+	private static final List<String> CORPUS = corpus();
+
+	@Test
+	void trim() {
+		assertEquivalent(new TrimSanitizer());
+	}
+
+	@Test
+	void collapseWhitespace() {
+		assertEquivalent(new CollapseWhitespaceSanitizer());
+	}
+
+	@Test
+	void lowerCase() {
+		assertEquivalent(new LowerCaseSanitizer());
+	}
+
+	@Test
+	void upperCase() {
+		assertEquivalent(new UpperCaseSanitizer());
+	}
+
+	@Test
+	void nullIfBlank() {
+		assertEquivalent(new NullIfBlankSanitizer());
+	}
+
+	@Test
+	void removeNonPrintable() {
+		assertEquivalent(new RemoveNonPrintableSanitizer());
+	}
+
+	@Test
+	void htmlEscape() {
+		assertEquivalent(new HtmlEscapeSanitizer());
+	}
+
+	@Test
+	void safeFilename() {
+		assertEquivalent(new SafeFilenameSanitizer());
+	}
+
+	@Test
+	void creditCardMask() {
+		assertEquivalent(new CreditCardMaskSanitizer());
+	}
+
+	@Test
+	void ssnMask() {
+		assertEquivalent(new SSNMaskSanitizer());
+	}
+
+	@Test
+	void ibanMask() {
+		assertEquivalent(new IBANMaskSanitizer());
+	}
+
+	@Test
+	void phoneE164() {
+		assertEquivalent(new PhoneE164Sanitizer());
+	}
+
+	@Test
+	void emailAliasStrip() {
+		assertEquivalent(new EmailAliasStripSanitizer());
+	}
+
+	@Test
+	void slugify() {
+		assertEquivalent(new SlugifySanitizer());
+	}
+
+	@Test
+	void titleCase() {
+		assertEquivalent(new TitleCaseSanitizer());
+	}
+
+	@Test
+	void sentenceCase() {
+		assertEquivalent(new SentenceCaseSanitizer());
+	}
+
+	@Test
+	void uuidNormalize() {
+		assertEquivalent(new UuidNormalizeSanitizer());
+	}
+
+	@Test
+	void truncate() {
+		assertEquivalent(new TruncateSanitizer());
+		final TruncateSanitizer cut = new TruncateSanitizer();
+		cut.configure(Map.of("maxLength", "6"));
+		assertEquivalent(cut);
+		final TruncateSanitizer suffixed = new TruncateSanitizer();
+		suffixed.configure(Map.of("maxLength", "6", "suffix", "..."));
+		assertEquivalent(suffixed);
+	}
+
+	private static <S extends FieldSanitizer<String> & TextSanitizer> void assertEquivalent(final S sanitizer) {
+		for (final String input : CORPUS) {
+			// the input sits in the middle of a larger array and is appended after
+			// existing output, as when reading from a parser's buffer
+			final char[] buf = ("<<" + input + ">>").toCharArray();
+			final StringBuilder out = new StringBuilder("prefix|");
+			final @Nullable String expected;
+			try {
+				expected = sanitizer.sanitize(input);
+			} catch (final RuntimeException e) {
+				assertThrows(e.getClass(), () -> sanitizer.sanitize(buf, 2, input.length(), out));
+				continue;
+			}
+			final boolean appended = sanitizer.sanitize(buf, 2, input.length(), out);
+			final String actual = appended ? out.substring("prefix|".length()) : null;
+			assertEquals(expected, actual, () -> sanitizer.getClass().getSimpleName() + " differs for input \""
+					+ escape(input) + "\"");
+			if (!appended) {
+				assertEquals("prefix|", out.toString());
+			}
+		}
+	}
+
+	private static List<String> corpus() {
+		final List<String> inputs = new ArrayList<>(List.of("", " ", "  \t\n ", "\u0000", "a", "  John   Doe  ",
+				"4111-1111-1111-1234", "1234", "12345", "123-45-6789", "DE89 3704 0044 0532 0130 00", "AB 12",
+				"****1234", "user:data/report|2025?.pdf", "Hello\u0002World\t\r\n\u007F", "John.Doe+marketing@example.com",
+				"a+@b+c@d", "+@", "x+y", "a++b@c", "<script>alert('xss')</script> & \"q\"", "Café Con Leches!",
+				"--Crème--brûlée--", "hello-world", "Kelvin İstanbul", "(202) 555-0198", "+15550198", "no digits",
+				"the QUICK brown fox", "Already sentence", "123e4567-e89b-12d3-a456-426614174000",
+				" {123E4567-E89B-12D3-A456-426614174000} ", "not-a-uuid"));
+		final Random random = new Random(20261017L);
+		for (int n = 0; n < 5000; n++) {
+			final int length = random.nextInt(40);
+			final StringBuilder sb = new StringBuilder(length);
+			for (int i = 0; i < length; i++) {
+				sb.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+			}
+			inputs.add(sb.toString());
+		}
+		return inputs;
+	}
+
+	private static String escape(final String s) {
+		final StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < s.length(); i++) {
+			final char c = s.charAt(i);
+			if (c < 0x20 || c > 0x7E) {
+				sb.append(String.format("\\u%04X", (int) c));
+			} else {
+				sb.append(c);
+			}
+		}
+		return sb.toString();
+	}
+}
@@ -6,9 +6,12 @@ import org.junit.jupiter.api.Test;
 
 import io.github.rabinarayanpatra.sanitizer.annotation.Sanitize;
 import io.github.rabinarayanpatra.sanitizer.core.SanitizationUtils;
+import io.github.rabinarayanpatra.sanitizer.core.SanitizerInstantiationException;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class TruncateSanitizerTest {
 
@@ -46,6 +49,21 @@ class TruncateSanitizerTest {
 		assertEquals("short", sanitizer.sanitize("short"));
 	}
 
+	@Test
+	void configure_rejectsInvalidMaxLength() {
+		assertThrows(IllegalArgumentException.class,
+				() -> new TruncateSanitizer().configure(Map.of("maxLength", "ten")));
+		assertThrows(IllegalArgumentException.class,
+				() -> new TruncateSanitizer().configure(Map.of("maxLength", "-1")));
+	}
+
+	@Test
+	void apply_rejectsInvalidParamsWhenClassIsInspected() {
+		final SanitizerInstantiationException ex = assertThrows(SanitizerInstantiationException.class,
+				() -> SanitizationUtils.apply(new InvalidTruncateBean()));
+		assertTrue(ex.getMessage().contains("maxLength=abc"));
+	}
+
 	@Test
 	void sanitize_worksViaAnnotation() {
 		final TruncateBean bean = new TruncateBean();
@@ -63,6 +81,11 @@ class TruncateSanitizerTest {
 		assertEquals("...", bean.name.substring(17));
 	}
 
+	static class InvalidTruncateBean {
+		@Sanitize(using = TruncateSanitizer.class, params = "maxLength=abc")
+		String text = "text";
+	}
+
 	static class TruncateBean {
 		@Sanitize(using = TruncateSanitizer.class, params = "maxLength=20")
 		String name;
@@ -7,6 +7,7 @@ import org.junit.jupiter.api.Test;
 import org.jspecify.annotations.Nullable;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class ConfigurableFieldSanitizerTest {
@@ -40,6 +41,23 @@ class ConfigurableFieldSanitizerTest {
 		assertEquals(15, s.exposeGetInt("count", 0));
 	}
 
+	@Test
+	void parseIntParam_rejectsValueThatIsNotAnInt() {
+		final TestSanitizer s = new TestSanitizer();
+		s.configure(Map.of("count", "not-a-number"));
+		final IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
+				() -> s.exposeParseInt("count", 7));
+		assertTrue(ex.getMessage().contains("count"));
+		assertEquals(7, s.exposeParseInt("missing", 7));
+	}
+
+	@Test
+	void configure_runsOnConfigureOnceParamsAreAvailable() {
+		final TestSanitizer s = new TestSanitizer();
+		s.configure(Map.of("count", "15"));
+		assertEquals(15, s.configuredCount);
+	}
+
 	@Test
 	void parseParams_returnsEmptyForNull() {
 		assertTrue(ConfigurableFieldSanitizer.parseParams(null).isEmpty());
@@ -80,11 +98,22 @@ class ConfigurableFieldSanitizerTest {
 
 	/** Test fixture exposing protected accessors. */
 	private static final class TestSanitizer extends ConfigurableFieldSanitizer<String> {
+		int configuredCount = -1;
+
+		@Override
+		protected void onConfigure() {
+			configuredCount = getIntParam("count", 0);
+		}
+
 		@Override
 		public @Nullable String sanitize(final @Nullable String input) {
 			return input;
 		}
 
+		int exposeParseInt(final String key, final int def) {
+			return parseIntParam(key, def);
+		}
+
 		String exposeGetParam(final String key, final String def) {
 			return getParam(key, def);
 		}
@@ -0,0 +1,100 @@
+package io.github.rabinarayanpatra.sanitizer.core;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import io.github.rabinarayanpatra.sanitizer.annotation.Sanitize;
+import io.github.rabinarayanpatra.sanitizer.builtin.LowerCaseSanitizer;
+import io.github.rabinarayanpatra.sanitizer.builtin.TrimSanitizer;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FlightRecorderEventsTest {
+
+	private static final String PREFIX = "io.github.rabinarayanpatra.sanitizer.";
+
+	@Test
+	void recording_capturesPlanBuildBatchAndCallEvents() throws IOException {
+		final List<RecordedEvent> events;
+		try (Recording recording = new Recording()) {
+			recording.enable(PREFIX + "PlanBuild");
+			recording.enable(PREFIX + "BatchSanitization").withThreshold(Duration.ZERO);
+			recording.enable(PREFIX + "SanitizerCall").withThreshold(Duration.ZERO);
+			recording.start();
+
+			final Profile profile = new Profile();
+			profile.handle = "  Jane  ";
+			SanitizationUtils.apply(profile);
+			SanitizationUtils.applyAll(List.of(new Profile(), new Profile()));
+
+			recording.stop();
+			events = readAll(recording);
+		}
+
+		final RecordedEvent build = single(events, "PlanBuild");
+		assertEquals(Profile.class.getName(), build.getClass("beanClass").getName());
+		assertEquals(1, build.getInt("fieldCount"));
+		assertFalse(build.getBoolean("generated"));
+
+		final RecordedEvent batch = single(events, "BatchSanitization");
+		assertEquals(2, batch.getInt("beanCount"));
+
+		final RecordedEvent call = single(events, "SanitizerCall");
+		assertEquals("handle", call.getString("field"));
+		assertEquals(8, call.getInt("inputLength"));
+	}
+
+	@Test
+	void recording_dropsCallsBelowTheThreshold() throws IOException {
+		final List<RecordedEvent> events;
+		try (Recording recording = new Recording()) {
+			recording.enable(PREFIX + "SanitizerCall").withThreshold(Duration.ofHours(1));
+			recording.start();
+			final Note note = new Note();
+			note.text = "x";
+			SanitizationUtils.apply(note);
+			recording.stop();
+			events = readAll(recording);
+		}
+
+		assertTrue(events.stream().noneMatch(e -> e.getEventType().getName().equals(PREFIX + "SanitizerCall")));
+	}
+
+	private static List<RecordedEvent> readAll(final Recording recording) throws IOException {
+		final Path file = Files.createTempFile("sanitizer", ".jfr");
+		try {
+			recording.dump(file);
+			return RecordingFile.readAllEvents(file);
+		} finally {
+			Files.deleteIfExists(file);
+		}
+	}
+
+	private static RecordedEvent single(final List<RecordedEvent> events, final String name) {
+		final List<RecordedEvent> matching = events.stream()
+				.filter(e -> e.getEventType().getName().equals(PREFIX + name)).toList();
+		assertEquals(1, matching.size(), name);
+		return matching.get(0);
+	}
+
+	// used by no other test, so its plan is built inside the recording
+	static class Profile {
+		@Sanitize(using = {TrimSanitizer.class, LowerCaseSanitizer.class})
+		String handle;
+	}
+
+	static class Note {
+		@Sanitize(using = TrimSanitizer.class)
+		String text;
+	}
+}
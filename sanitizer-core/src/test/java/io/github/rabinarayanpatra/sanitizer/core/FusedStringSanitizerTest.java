@@ -0,0 +1,160 @@
+package io.github.rabinarayanpatra.sanitizer.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+
+import org.jspecify.annotations.Nullable;
+
+import io.github.rabinarayanpatra.sanitizer.builtin.CollapseWhitespaceSanitizer;
+import io.github.rabinarayanpatra.sanitizer.builtin.HtmlEscapeSanitizer;
+import io.github.rabinarayanpatra.sanitizer.builtin.LowerCaseSanitizer;
+import io.github.rabinarayanpatra.sanitizer.builtin.NullIfBlankSanitizer;
+import io.github.rabinarayanpatra.sanitizer.builtin.RemoveNonPrintableSanitizer;
+import io.github.rabinarayanpatra.sanitizer.builtin.SafeFilenameSanitizer;
+import io.github.rabinarayanpatra.sanitizer.builtin.SlugifySanitizer;
+import io.github.rabinarayanpatra.sanitizer.builtin.TrimSanitizer;
+import io.github.rabinarayanpatra.sanitizer.builtin.UpperCaseSanitizer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class FusedStringSanitizerTest {
+
+	private static final String ALPHABET = " \t\n\u000B\f\r\u0000\u0001\u007F aZzA09-_.&<>\"'/:*?|\\éİß";
+
+	private static final List<Supplier<FieldSanitizer<?>>> FUSABLE = List.of(TrimSanitizer::new,
+			CollapseWhitespaceSanitizer::new, LowerCaseSanitizer::new, UpperCaseSanitizer::new,
+			RemoveNonPrintableSanitizer::new, HtmlEscapeSanitizer::new, SafeFilenameSanitizer::new,
+			NullIfBlankSanitizer::new);
+
+	@Test
+	void fuse_collapsesAdjacentBuiltinsAndKeepsCustomSteps() {
+		final List<FieldSanitizer<Object>> fused = FusedStringSanitizer.fuse(chain(new TrimSanitizer(),
+				new CollapseWhitespaceSanitizer(), new SlugifySanitizer(), new LowerCaseSanitizer(),
+				new UpperCaseSanitizer(), new TrimSanitizer()));
+
+		assertEquals(3, fused.size());
+		assertEquals(FusedStringSanitizer.class, fused.get(0).getClass());
+		assertEquals(SlugifySanitizer.class, fused.get(1).getClass());
+		assertEquals(FusedStringSanitizer.class, fused.get(2).getClass());
+	}
+
+	@Test
+	void fuse_leavesSingleBuiltinUnfused() {
+		final List<FieldSanitizer<Object>> fused = FusedStringSanitizer.fuse(chain(new TrimSanitizer()));
+		assertEquals(1, fused.size());
+		assertEquals(TrimSanitizer.class, fused.get(0).getClass());
+	}
+
+	@Test
+	void sanitize_returnsSameInstanceForCleanInput() {
+		final FieldSanitizer<Object> fused = fusedOf(new TrimSanitizer(), new CollapseWhitespaceSanitizer(),
+				new LowerCaseSanitizer());
+		final String clean = "already clean value";
+		assertSame(clean, fused.sanitize(clean));
+	}
+
+	@Test
+	void sanitize_appliesWholeChain() {
+		final FieldSanitizer<Object> fused = fusedOf(new TrimSanitizer(), new CollapseWhitespaceSanitizer(),
+				new LowerCaseSanitizer());
+		assertEquals("john doe", fused.sanitize("  John \t\n  DOE  "));
+		assertNull(fused.sanitize(null));
+	}
+
+	@Test
+	void sanitize_matchesSequentialExecution() {
+		final Random random = new Random(20260605L);
+		for (int n = 0; n < 2000; n++) {
+			final int length = 2 + random.nextInt(4);
+			final List<FieldSanitizer<Object>> steps = new ArrayList<>(length);
+			for (int i = 0; i < length; i++) {
+				steps.add(erase(FUSABLE.get(random.nextInt(FUSABLE.size())).get()));
+			}
+			final List<FieldSanitizer<Object>> fused = FusedStringSanitizer.fuse(steps);
+			assertEquals(1, fused.size());
+
+			for (int m = 0; m < 20; m++) {
+				final String input = randomString(random);
+				@Nullable
+				Object expected = input;
+				for (final FieldSanitizer<Object> step : steps) {
+					expected = step.sanitize(expected);
+				}
+				final Object actual = fused.get(0).sanitize(input);
+				assertEquals(expected, actual, () -> fused.get(0) + " on " + escape(input));
+			}
+		}
+	}
+
+	@Test
+	void sanitizeText_matchesStringPath() {
+		final Random random = new Random(20261017L);
+		for (int n = 0; n < 2000; n++) {
+			final int length = 2 + random.nextInt(4);
+			final List<FieldSanitizer<Object>> steps = new ArrayList<>(length);
+			for (int i = 0; i < length; i++) {
+				steps.add(erase(FUSABLE.get(random.nextInt(FUSABLE.size())).get()));
+			}
+			final FieldSanitizer<Object> fused = FusedStringSanitizer.fuse(steps).get(0);
+			final TextSanitizer text = (TextSanitizer) fused;
+
+			for (int m = 0; m < 20; m++) {
+				final String input = randomString(random);
+				final char[] buf = ("#" + input + "#").toCharArray();
+				final StringBuilder out = new StringBuilder(">");
+				final Object expected = fused.sanitize(input);
+				final boolean appended = text.sanitize(buf, 1, input.length(), out);
+				assertEquals(expected == null ? ">" : ">" + expected, out.toString(),
+						() -> fused + " on " + escape(input));
+				assertEquals(expected != null, appended);
+			}
+		}
+	}
+
+	private static FieldSanitizer<Object> fusedOf(final FieldSanitizer<?>... steps) {
+		final List<FieldSanitizer<Object>> fused = FusedStringSanitizer.fuse(chain(steps));
+		assertEquals(1, fused.size());
+		return fused.get(0);
+	}
+
+	private static List<FieldSanitizer<Object>> chain(final FieldSanitizer<?>... steps) {
+		final List<FieldSanitizer<Object>> chain = new ArrayList<>();
+		for (final FieldSanitizer<?> step : steps) {
+			chain.add(erase(step));
+		}
+		return chain;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static FieldSanitizer<Object> erase(final FieldSanitizer<?> sanitizer) {
+		return (FieldSanitizer<Object>) sanitizer;
+	}
+
+	private static String randomString(final Random random) {
+		final int length = random.nextInt(16);
+		final StringBuilder sb = new StringBuilder(length);
+		for (int i = 0; i < length; i++) {
+			sb.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+		}
+		return sb.toString();
+	}
+
+	private static String escape(final String s) {
+		final StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < s.length(); i++) {
+			final char c = s.charAt(i);
+			if (c < 0x20 || c > 0x7E) {
+				sb.append(String.format("\\u%04X", (int) c));
+			} else {
+				sb.append(c);
+			}
+		}
+		return sb.toString();
+	}
+}
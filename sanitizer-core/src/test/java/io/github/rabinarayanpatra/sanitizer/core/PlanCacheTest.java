@@ -0,0 +1,220 @@
+package io.github.rabinarayanpatra.sanitizer.core;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.invoke.MethodHandles;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PlanCacheTest {
+
+	@Test
+	void get_computesOncePerClassAndCountsHitsAndMisses() {
+		final AtomicInteger loads = new AtomicInteger();
+		final PlanCache<String> cache = new PlanCache<>(cls -> {
+			loads.incrementAndGet();
+			return cls.getSimpleName();
+		});
+
+		final String first = cache.get(A.class);
+		assertSame(first, cache.get(A.class));
+		cache.get(B.class);
+
+		assertEquals(2, loads.get());
+		final PlanCacheStats stats = cache.addTo(PlanCacheStats.EMPTY);
+		assertEquals(1, stats.hitCount());
+		assertEquals(2, stats.missCount());
+		assertEquals(2, stats.size());
+	}
+
+	@Test
+	void get_evictsClassesNotUsedSinceTheLastSweep() {
+		final PlanCache<String> cache = new PlanCache<>(Class::getSimpleName);
+		cache.setMaximumSize(2);
+
+		cache.get(A.class);
+		cache.get(B.class);
+		cache.get(A.class); // A is hot, B is not
+		cache.get(C.class);
+
+		PlanCacheStats stats = cache.addTo(PlanCacheStats.EMPTY);
+		assertEquals(1, stats.evictionCount());
+		assertEquals(2, stats.size());
+
+		cache.get(A.class);
+		assertEquals(3, cache.addTo(PlanCacheStats.EMPTY).missCount());
+		cache.get(B.class);
+		stats = cache.addTo(PlanCacheStats.EMPTY);
+		assertEquals(4, stats.missCount());
+		assertEquals(2, stats.size());
+	}
+
+	@Test
+	void setMaximumSize_evictsImmediately() {
+		final PlanCache<String> cache = new PlanCache<>(Class::getSimpleName);
+		cache.get(A.class);
+		cache.get(B.class);
+		cache.get(C.class);
+
+		cache.setMaximumSize(1);
+
+		final PlanCacheStats stats = cache.addTo(PlanCacheStats.EMPTY);
+		assertEquals(2, stats.evictionCount());
+		assertEquals(1, stats.size());
+	}
+
+	@Test
+	void clear_dropsValuesButKeepsCounters() {
+		final AtomicInteger loads = new AtomicInteger();
+		final PlanCache<Integer> cache = new PlanCache<>(cls -> loads.incrementAndGet());
+		cache.get(A.class);
+		cache.clear();
+
+		final int reloaded = cache.get(A.class);
+		assertEquals(2, reloaded);
+		final PlanCacheStats stats = cache.addTo(PlanCacheStats.EMPTY);
+		assertEquals(2, stats.missCount());
+		assertEquals(1, stats.size());
+	}
+
+	@Test
+	void get_buildsOnceWhileConcurrentCallersWait() throws Exception {
+		final AtomicInteger loads = new AtomicInteger();
+		final CountDownLatch loading = new CountDownLatch(1);
+		final CountDownLatch release = new CountDownLatch(1);
+		final PlanCache<Object> cache = new PlanCache<>(cls -> {
+			if (cls == A.class) {
+				loads.incrementAndGet();
+				loading.countDown();
+				await(release);
+			}
+			return new Object();
+		});
+
+		final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+		try {
+			final List<Future<Object>> results = new ArrayList<>();
+			results.add(executor.submit(() -> cache.get(A.class)));
+			await(loading);
+			for (int i = 0; i < 16; i++) {
+				results.add(executor.submit(() -> cache.get(A.class)));
+			}
+			// another class is not held up by the build in progress
+			assertNotNull(cache.get(B.class));
+			assertEquals(2, cache.addTo(PlanCacheStats.EMPTY).missCount());
+			release.countDown();
+
+			final Object first = results.get(0).get(10, TimeUnit.SECONDS);
+			for (final Future<Object> result : results) {
+				assertSame(first, result.get(10, TimeUnit.SECONDS));
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+		assertEquals(1, loads.get());
+	}
+
+	@Test
+	void get_rethrowsLoaderFailureAndRetriesOnNextCall() {
+		final AtomicInteger loads = new AtomicInteger();
+		final PlanCache<String> cache = new PlanCache<>(cls -> {
+			if (loads.incrementAndGet() == 1) {
+				throw new IllegalStateException("boom");
+			}
+			return cls.getSimpleName();
+		});
+
+		final IllegalStateException e = assertThrows(IllegalStateException.class, () -> cache.get(A.class));
+		assertEquals("boom", e.getMessage());
+		assertEquals("A", cache.get(A.class));
+		assertEquals(1, cache.addTo(PlanCacheStats.EMPTY).size());
+	}
+
+	@Test
+	void get_buildsUncachedValueWhenLoaderRecursesIntoItsOwnClass() {
+		final AtomicInteger loads = new AtomicInteger();
+		final AtomicReference<PlanCache<Integer>> self = new AtomicReference<>();
+		self.set(new PlanCache<>(cls -> loads.incrementAndGet() == 1 ? self.get().get(cls) + 10 : 0));
+
+		final int value = self.get().get(A.class);
+		assertEquals(10, value);
+		final int cached = self.get().get(A.class);
+		assertEquals(10, cached);
+	}
+
+	private static void await(final CountDownLatch latch) {
+		try {
+			latch.await();
+		} catch (final InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException(e);
+		}
+	}
+
+	@Test
+	void get_doesNotKeepClassesReachable() throws Exception {
+		final PlanCache<Object> cache = new PlanCache<>(cls -> cls);
+		final WeakReference<Class<?>> hidden = new WeakReference<>(defineHiddenCopyOf(A.class));
+		cache.get(assertNotNullAndGet(hidden));
+
+		for (int i = 0; i < 50 && hidden.get() != null; i++) {
+			System.gc();
+			Thread.sleep(20);
+		}
+		assertNull(hidden.get());
+	}
+
+	@Test
+	void clear_doesNotKeepDiscardedValuesReachable() throws Exception {
+		final PlanCache<Object> cache = new PlanCache<>(cls -> new Object());
+		final WeakReference<Object> discarded = new WeakReference<>(cache.get(C.class));
+		cache.clear();
+
+		for (int i = 0; i < 50 && discarded.get() != null; i++) {
+			System.gc();
+			Thread.sleep(20);
+			// looking the class up again lets the JDK drop the entries of the discarded ClassValue
+			cache.get(C.class);
+		}
+		assertNull(discarded.get());
+	}
+
+	private static Class<?> assertNotNullAndGet(final WeakReference<Class<?>> ref) {
+		final Class<?> cls = ref.get();
+		assertNotNull(cls);
+		return cls;
+	}
+
+	private static Class<?> defineHiddenCopyOf(final Class<?> cls) throws IOException, IllegalAccessException {
+		try (InputStream in = cls.getResourceAsStream(cls.getName().substring(cls.getPackageName().length() + 1)
+				+ ".class")) {
+			assertNotNull(in);
+			return MethodHandles.lookup().defineHiddenClass(in.readAllBytes(), false).lookupClass();
+		}
+	}
+
+	static class A {
+	}
+
+	static class B {
+	}
+
+	static class C {
+	}
+}
@@ -1,17 +1,29 @@
 package io.github.rabinarayanpatra.sanitizer.core;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import org.junit.jupiter.api.Test;
 
 import org.jspecify.annotations.Nullable;
 
+import io.github.rabinarayanpatra.sanitizer.annotation.Direction;
 import io.github.rabinarayanpatra.sanitizer.annotation.Sanitize;
 import io.github.rabinarayanpatra.sanitizer.builtin.LowerCaseSanitizer;
+import io.github.rabinarayanpatra.sanitizer.builtin.NullIfBlankSanitizer;
+import io.github.rabinarayanpatra.sanitizer.builtin.SSNMaskSanitizer;
+import io.github.rabinarayanpatra.sanitizer.builtin.SlugifySanitizer;
 import io.github.rabinarayanpatra.sanitizer.builtin.TrimSanitizer;
 import io.github.rabinarayanpatra.sanitizer.builtin.TruncateSanitizer;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -130,19 +142,379 @@ class SanitizationUtilsTest {
 		assertNotNull(ex.getCause());
 	}
 
+	// --- Compiled plans ---
+
+	@Test
+	void apply_reusesCompiledPlanAcrossInstances() {
+		final PrivateFieldBean first = new PrivateFieldBean("  ONE  ");
+		final PrivateFieldBean second = new PrivateFieldBean("  TWO  ");
+		SanitizationUtils.apply(first);
+		SanitizationUtils.apply(second);
+		assertEquals("one", first.value());
+		assertEquals("two", second.value());
+	}
+
+	@Test
+	void apply_writesNullWhenSanitizerClearsValue() {
+		final NullingBean bean = new NullingBean();
+		bean.value = "x";
+		SanitizationUtils.apply(bean);
+		assertNull(bean.value);
+	}
+
+	@Test
+	void apply_skipsWriteWhenChainReturnsSameInstance() {
+		final WatchedBean bean = new WatchedBean("clean");
+		SanitizationUtils.apply(bean);
+		// the sanitizer replaced the field behind the plan's back; a write-back of
+		// the unchanged value would have restored "clean"
+		assertEquals(OverwritingSanitizer.ELSEWHERE, bean.value);
+
+		final List<WatchedBean> beans = List.of(new WatchedBean("a"), new WatchedBean("b"), new WatchedBean("c"));
+		SanitizationUtils.applyAll(beans);
+		for (final WatchedBean each : beans) {
+			assertEquals(OverwritingSanitizer.ELSEWHERE, each.value);
+		}
+	}
+
+	// --- Per-field chains ---
+
+	@Test
+	void sanitizerFor_runsWholeChainOfRecordComponent() {
+		final FieldSanitizer<Object> sanitizer = SanitizationUtils.sanitizerFor(ImmutableRecord.class, "name");
+		assertNotNull(sanitizer);
+		assertEquals("x", sanitizer.sanitize("  x  "));
+		final FieldSanitizer<Object> repeated = SanitizationUtils.sanitizerFor(RepeatableBean.class, "name");
+		assertNotNull(repeated);
+		assertEquals("abc", repeated.sanitize("  ABC  "));
+	}
+
+	@Test
+	void sanitizerFor_findsInheritedFieldsAndReturnsNullForUnannotated() {
+		assertNotNull(SanitizationUtils.sanitizerFor(GrandchildBean.class, "parentName"));
+		assertNull(SanitizationUtils.sanitizerFor(PlainRecord.class, "name"));
+		assertNull(SanitizationUtils.sanitizerFor(MutableBean.class, "missing"));
+	}
+
+	@Test
+	void sanitizerFor_reportsTypeMismatchLikeApply() {
+		final FieldSanitizer<Object> sanitizer = SanitizationUtils.sanitizerFor(TypeMismatchBean.class, "count");
+		assertNotNull(sanitizer);
+		final IllegalStateException ex = assertThrows(IllegalStateException.class, () -> sanitizer.sanitize(42));
+		assertTrue(ex.getMessage().contains("Type mismatch"));
+		assertTrue(ex.getMessage().contains("count"));
+	}
+
+	@Test
+	void textSanitizerFor_runsChainOnCharacterRange() {
+		final TextSanitizer slug = SanitizationUtils.textSanitizerFor(SlugBean.class, "slug");
+		assertNotNull(slug);
+		final StringBuilder out = new StringBuilder("/");
+		assertTrue(slug.sanitize("[  Hello World ]".toCharArray(), 1, 14, out));
+		assertEquals("/hello-world", out.toString());
+		assertFalse(slug.sanitize(" \t ".toCharArray(), 0, 3, out));
+		assertEquals("/hello-world", out.toString());
+
+		assertNotNull(SanitizationUtils.textSanitizerFor(MutableBean.class, "name"));
+		assertNull(SanitizationUtils.textSanitizerFor(NullingBean.class, "value"));
+		assertNull(SanitizationUtils.textSanitizerFor(TypeMismatchBean.class, "count"));
+		assertNull(SanitizationUtils.textSanitizerFor(MutableBean.class, "missing"));
+	}
+
+	// --- Batches ---
+
+	@Test
+	void applyAll_sanitizesMixedClassesAndSkipsNulls() {
+		final List<Object> beans = new ArrayList<>();
+		for (int i = 0; i < 600; i++) {
+			final MutableBean bean = new MutableBean();
+			bean.name = "  NAME" + i + "  ";
+			beans.add(bean);
+			if (i % 100 == 0) {
+				final ChildBean child = new ChildBean();
+				child.parentName = "  PARENT  ";
+				child.childName = "  CHILD  ";
+				beans.add(child);
+				beans.add(null);
+			}
+		}
+
+		SanitizationUtils.applyAll(beans);
+
+		for (int i = 0, n = 0; i < beans.size(); i++) {
+			if (beans.get(i) instanceof MutableBean bean) {
+				assertEquals("name" + n++, bean.name);
+			} else if (beans.get(i) instanceof ChildBean child) {
+				assertEquals("parent", child.parentName);
+				assertEquals("child", child.childName);
+			}
+		}
+	}
+
+	@Test
+	void applyAll_splitsLargeBatchesAcrossPool() {
+		final List<PrivateFieldBean> beans = new ArrayList<>();
+		for (int i = 0; i < 5000; i++) {
+			beans.add(new PrivateFieldBean("  VALUE" + i + "  "));
+		}
+		final ForkJoinPool pool = new ForkJoinPool(4);
+		try {
+			SanitizationUtils.applyAll(beans, pool);
+		} finally {
+			pool.shutdown();
+		}
+		for (int i = 0; i < beans.size(); i++) {
+			assertEquals("value" + i, beans.get(i).value());
+		}
+	}
+
+	@Test
+	void applyAll_reportsTypeMismatchForOffendingBean() {
+		final TypeMismatchBean bean = new TypeMismatchBean();
+		bean.count = 42;
+		final IllegalStateException ex = assertThrows(IllegalStateException.class,
+				() -> SanitizationUtils.applyAll(List.of(new TypeMismatchBean(), bean)));
+		assertTrue(ex.getMessage().contains("Type mismatch"));
+	}
+
+	@Test
+	void applyAll_ignoresNullAndEmptyCollections() {
+		// Should not throw
+		SanitizationUtils.applyAll(null);
+		SanitizationUtils.applyAll(List.of());
+		SanitizationUtils.applyAll(Arrays.asList(null, null));
+	}
+
+	// --- Sanitizer factory ---
+
+	@Test
+	void setSanitizerFactory_suppliesInstancesTheLibraryCannotCreate() {
+		final PrivateCtorBean bean = new PrivateCtorBean();
+		bean.value = "x";
+		SanitizationUtils.setSanitizerFactory((type, params) -> type == PrivateCtorSanitizer.class
+				? new PrivateCtorSanitizer("injected")
+				: null);
+		try {
+			SanitizationUtils.apply(bean);
+			assertEquals("x", bean.value);
+			// null from the factory falls back to the default instantiation
+			final MutableBean other = new MutableBean();
+			other.name = "  NAME  ";
+			SanitizationUtils.apply(other);
+			assertEquals("name", other.name);
+		} finally {
+			SanitizationUtils.setSanitizerFactory(null);
+		}
+		assertThrows(SanitizerInstantiationException.class, () -> SanitizationUtils.apply(bean));
+	}
+
+	@Test
+	void setSanitizerFactory_rejectsInstanceOfWrongType() {
+		SanitizationUtils.setSanitizerFactory((type, params) -> new NullingSanitizer());
+		try {
+			final MutableBean bean = new MutableBean();
+			bean.name = "x";
+			assertThrows(IllegalStateException.class, () -> SanitizationUtils.apply(bean));
+		} finally {
+			SanitizationUtils.setSanitizerFactory(null);
+		}
+	}
+
+	// --- Directions ---
+
+	@Test
+	void apply_skipsOutboundSanitizers() {
+		final DirectionalBean bean = new DirectionalBean();
+		bean.ssn = " 123-45-6789 ";
+		SanitizationUtils.apply(bean);
+		assertEquals("123-45-6789", bean.ssn);
+	}
+
+	@Test
+	void sanitizerFor_selectsChainByDirection() {
+		final FieldSanitizer<Object> outbound = SanitizationUtils.sanitizerFor(DirectionalBean.class, "ssn",
+				Direction.OUTBOUND);
+		assertNotNull(outbound);
+		assertEquals("***-**-6789", outbound.sanitize("123-45-6789"));
+		final FieldSanitizer<Object> inbound = SanitizationUtils.sanitizerFor(DirectionalBean.class, "ssn");
+		assertNotNull(inbound);
+		assertEquals("123-45-6789", inbound.sanitize(" 123-45-6789 "));
+		assertThrows(IllegalArgumentException.class,
+				() -> SanitizationUtils.sanitizerFor(DirectionalBean.class, "ssn", Direction.BOTH));
+	}
+
+	// --- Warm-up ---
+
+	@Test
+	void warmUp_cachesPlansAndReportsFailuresPerClass() {
+		final WarmUpReport report = SanitizationUtils.warmUp(
+				List.of(MutableBean.class, PrivateCtorBean.class, DirectionalBean.class, MutableBean.class),
+				ForkJoinPool.commonPool());
+
+		assertEquals(List.of(MutableBean.class, PrivateCtorBean.class, DirectionalBean.class),
+				List.copyOf(report.timings().keySet()));
+		assertEquals(List.of(PrivateCtorBean.class), List.copyOf(report.failures().keySet()));
+		assertTrue(report.failures().get(PrivateCtorBean.class) instanceof SanitizerInstantiationException);
+		assertEquals(3, report.slowest(5).size());
+		assertSame(SanitizationUtils.planFor(MutableBean.class), SanitizationUtils.planFor(MutableBean.class));
+		assertNotNull(SanitizationUtils.sanitizerFor(DirectionalBean.class, "ssn", Direction.OUTBOUND));
+	}
+
+	// --- Changed fields only ---
+
+	@Test
+	void applyChanged_sanitizesOnlyFieldsChangedSinceTheLastState() {
+		CountingTrimSanitizer.CALLS.set(0);
+		final CountingBean bean = new CountingBean();
+		bean.first = " a ";
+		bean.second = " b ";
+
+		SanitizedState state = SanitizationUtils.applyChanged(bean, null);
+		assertEquals(2, CountingTrimSanitizer.CALLS.get());
+
+		bean.second = " c ";
+		state = SanitizationUtils.applyChanged(bean, state);
+		assertEquals(3, CountingTrimSanitizer.CALLS.get());
+		assertEquals("a", bean.first);
+		assertEquals("c", bean.second);
+
+		SanitizationUtils.applyChanged(bean, state);
+		assertEquals(3, CountingTrimSanitizer.CALLS.get());
+	}
+
+	@Test
+	void snapshot_treatsCurrentValuesAsSanitized() {
+		CountingTrimSanitizer.CALLS.set(0);
+		final CountingBean bean = new CountingBean();
+		bean.first = " loaded ";
+		final SanitizedState state = SanitizationUtils.snapshot(bean);
+		assertNotNull(state);
+
+		SanitizationUtils.applyChanged(bean, state);
+		assertEquals(0, CountingTrimSanitizer.CALLS.get());
+		assertEquals(" loaded ", bean.first);
+		assertNull(SanitizationUtils.snapshot(new PlainRecord("x")));
+	}
+
+	@Test
+	void hasInboundSanitizers_readsAnnotationsOfTheClassHierarchy() {
+		assertTrue(SanitizationUtils.hasInboundSanitizers(MutableBean.class));
+		assertTrue(SanitizationUtils.hasInboundSanitizers(GrandchildBean.class));
+		assertTrue(SanitizationUtils.hasInboundSanitizers(PrivateCtorBean.class));
+		assertFalse(SanitizationUtils.hasInboundSanitizers(String.class));
+		assertFalse(SanitizationUtils.hasInboundSanitizers(PlainRecord.class));
+		assertFalse(SanitizationUtils.hasInboundSanitizers(OutboundOnlyBean.class));
+	}
+
+	// --- Plan cache ---
+
+	@Test
+	void planCacheStats_countsHitsAndMisses() {
+		final PlanCacheStats before = SanitizationUtils.planCacheStats();
+		SanitizationUtils.apply(new RepeatableBean());
+		SanitizationUtils.apply(new RepeatableBean());
+		final PlanCacheStats after = SanitizationUtils.planCacheStats();
+		assertTrue(after.hitCount() > before.hitCount());
+		assertTrue(after.size() > 0);
+		assertThrows(IllegalArgumentException.class, () -> SanitizationUtils.setPlanCacheMaximumSize(-1));
+	}
+
+	// --- Recorder ---
+
+	@Test
+	void setRecorder_reportsBeanTimingsAndStepOutcomes() {
+		final List<String> events = new ArrayList<>();
+		SanitizationUtils.setRecorder(new SanitizationRecorder() {
+			@Override
+			public BeanTimer beanTimer(final Class<?> beanType) {
+				return (beans, nanos) -> events.add(beanType.getSimpleName() + ":" + beans);
+			}
+
+			@Override
+			public StepTimer stepTimer(final Class<?> declaringType, final String fieldName,
+					final String sanitizerName) {
+				return (outcome, nanos) -> events.add(fieldName + "/" + sanitizerName + "=" + outcome);
+			}
+		});
+		try {
+			final MutableBean changed = new MutableBean();
+			changed.name = " HELLO ";
+			SanitizationUtils.apply(changed);
+			SanitizationUtils.apply(new MutableBean());
+			final MutableBean clean = new MutableBean();
+			clean.name = "hello";
+			SanitizationUtils.applyAll(List.of(clean));
+
+			assertEquals("hello", changed.name);
+			assertEquals(List.of("name/TrimSanitizer+LowerCaseSanitizer=CHANGED", "MutableBean:1",
+					"name/TrimSanitizer+LowerCaseSanitizer=NULL", "MutableBean:1",
+					"name/TrimSanitizer+LowerCaseSanitizer=UNCHANGED", "MutableBean:1"), events);
+		} finally {
+			SanitizationUtils.setRecorder(null);
+		}
+
+		events.clear();
+		SanitizationUtils.apply(new MutableBean());
+		assertTrue(events.isEmpty());
+	}
+
 	// --- Test fixtures ---
 
+	static class DirectionalBean {
+		@Sanitize(using = TrimSanitizer.class, direction = Direction.BOTH)
+		@Sanitize(using = SSNMaskSanitizer.class, direction = Direction.OUTBOUND)
+		String ssn;
+	}
+
+	static class OutboundOnlyBean {
+		@Sanitize(using = SSNMaskSanitizer.class, direction = Direction.OUTBOUND)
+		String ssn;
+	}
+
 	static class MutableBean {
 		@Sanitize(using = {TrimSanitizer.class, LowerCaseSanitizer.class})
 		String name;
 	}
 
+	static class PrivateFieldBean {
+		@Sanitize(using = {TrimSanitizer.class, LowerCaseSanitizer.class})
+		private String value;
+
+		PrivateFieldBean(final String value) {
+			this.value = value;
+		}
+
+		String value() {
+			return value;
+		}
+	}
+
+	static class NullingBean {
+		@Sanitize(using = NullingSanitizer.class)
+		String value;
+	}
+
+	public static class NullingSanitizer implements FieldSanitizer<String> {
+		public NullingSanitizer() {
+		}
+
+		@Override
+		public @Nullable String sanitize(final @Nullable String input) {
+			return null;
+		}
+	}
+
 	static class RepeatableBean {
 		@Sanitize(using = TrimSanitizer.class)
 		@Sanitize(using = LowerCaseSanitizer.class)
 		String name;
 	}
 
+	static class SlugBean {
+		@Sanitize(using = {NullIfBlankSanitizer.class, TrimSanitizer.class, SlugifySanitizer.class})
+		String slug;
+	}
+
 	static class ParentBean {
 		@Sanitize(using = {TrimSanitizer.class, LowerCaseSanitizer.class})
 		String parentName;
@@ -184,6 +556,59 @@ class SanitizationUtilsTest {
 		}
 	}
 
+	static class CountingBean {
+		@Sanitize(using = CountingTrimSanitizer.class)
+		String first;
+
+		@Sanitize(using = CountingTrimSanitizer.class)
+		String second;
+	}
+
+	public static class CountingTrimSanitizer implements FieldSanitizer<String> {
+		static final AtomicInteger CALLS = new AtomicInteger();
+
+		public CountingTrimSanitizer() {
+		}
+
+		@Override
+		public @Nullable String sanitize(final @Nullable String input) {
+			CALLS.incrementAndGet();
+			return input == null ? null : input.trim();
+		}
+	}
+
+	static class WatchedBean {
+		static final List<WatchedBean> ALL = new ArrayList<>();
+
+		@Sanitize(using = OverwritingSanitizer.class)
+		String value;
+
+		WatchedBean(final String value) {
+			this.value = value;
+			ALL.add(this);
+		}
+	}
+
+	/**
+	 * Returns its input unchanged, but first overwrites the field of every
+	 * {@link WatchedBean}, so the test can tell whether the plan wrote the
+	 * unchanged value back.
+	 */
+	public static class OverwritingSanitizer implements FieldSanitizer<String> {
+		static final String ELSEWHERE = "written elsewhere";
+
+		public OverwritingSanitizer() {
+		}
+
+		@Override
+		public @Nullable String sanitize(final @Nullable String input) {
+			for (final WatchedBean bean : WatchedBean.ALL) {
+				bean.value = ELSEWHERE;
+			}
+			return input;
+		}
+	}
+
 	static class BlankParamsBean {
 		@Sanitize(using = TruncateSanitizer.class, params = "")
 		String text;
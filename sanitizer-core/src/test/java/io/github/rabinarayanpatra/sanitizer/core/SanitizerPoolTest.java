@@ -0,0 +1,124 @@
+package io.github.rabinarayanpatra.sanitizer.core;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import org.jspecify.annotations.Nullable;
+
+import io.github.rabinarayanpatra.sanitizer.annotation.Sanitize;
+import io.github.rabinarayanpatra.sanitizer.annotation.Shareable;
+import io.github.rabinarayanpatra.sanitizer.builtin.TrimSanitizer;
+import io.github.rabinarayanpatra.sanitizer.builtin.TruncateSanitizer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SanitizerPoolTest {
+
+	@Test
+	void get_sharesStatelessSanitizersAndIgnoresTheirParams() {
+		final FieldSanitizer<Object> first = SanitizerPool.get(TrimSanitizer.class, "", SanitizerPoolTest::trim);
+		assertSame(first, SanitizerPool.get(TrimSanitizer.class, "ignored=1", SanitizerPoolTest::trim));
+		assertTrue(SanitizerPool.isShareable(TrimSanitizer.class));
+	}
+
+	@Test
+	void get_sharesShareableConfigurableSanitizersPerNormalizedParams() {
+		final FieldSanitizer<Object> first = SanitizerPool.get(TruncateSanitizer.class, "maxLength=4, suffix=!",
+				() -> truncate("maxLength=4, suffix=!"));
+		assertSame(first, SanitizerPool.get(TruncateSanitizer.class, "suffix=!,maxLength=4",
+				() -> truncate("suffix=!,maxLength=4")));
+		assertNotSame(first,
+				SanitizerPool.get(TruncateSanitizer.class, "maxLength=5", () -> truncate("maxLength=5")));
+		assertEquals("abc!", first.sanitize("abcdef"));
+	}
+
+	@Test
+	void get_createsNewInstanceForStatefulSanitizers() {
+		final AtomicInteger created = new AtomicInteger();
+		SanitizerPool.get(StatefulSanitizer.class, "", () -> stateful(created));
+		SanitizerPool.get(StatefulSanitizer.class, "", () -> stateful(created));
+		assertEquals(2, created.get());
+		assertFalse(SanitizerPool.isShareable(StatefulSanitizer.class));
+		assertTrue(SanitizerPool.isShareable(ThreadSafeSanitizer.class));
+	}
+
+	@Test
+	void apply_usesOneInstanceForEqualDeclarationsAcrossClasses() {
+		final FieldSanitizer<Object> first = SanitizationUtils.sanitizerFor(First.class, "value");
+		final FieldSanitizer<Object> second = SanitizationUtils.sanitizerFor(Second.class, "value");
+		assertNotNull(first);
+		assertNotNull(second);
+		// one counter behind both fields
+		assertEquals("1", first.sanitize("x"));
+		assertEquals("2", second.sanitize("x"));
+	}
+
+	private static FieldSanitizer<Object> trim() {
+		return cast(new TrimSanitizer());
+	}
+
+	private static FieldSanitizer<Object> truncate(final String params) {
+		final TruncateSanitizer sanitizer = new TruncateSanitizer();
+		sanitizer.configure(ConfigurableFieldSanitizer.parseParams(params));
+		return cast(sanitizer);
+	}
+
+	private static FieldSanitizer<Object> stateful(final AtomicInteger created) {
+		created.incrementAndGet();
+		return cast(new StatefulSanitizer());
+	}
+
+	@SuppressWarnings("unchecked")
+	private static FieldSanitizer<Object> cast(final FieldSanitizer<?> sanitizer) {
+		return (FieldSanitizer<Object>) sanitizer;
+	}
+
+	// --- Test fixtures ---
+
+	public static class StatefulSanitizer implements FieldSanitizer<String> {
+		private int calls;
+
+		@Override
+		public @Nullable String sanitize(final @Nullable String input) {
+			calls++;
+			return input + calls;
+		}
+	}
+
+	@Shareable
+	public static class ThreadSafeSanitizer implements FieldSanitizer<String> {
+		private final AtomicInteger calls = new AtomicInteger();
+
+		@Override
+		public @Nullable String sanitize(final @Nullable String input) {
+			calls.incrementAndGet();
+			return input;
+		}
+	}
+
+	@Shareable
+	public static class CountingSanitizer implements FieldSanitizer<Object> {
+		private final AtomicInteger calls = new AtomicInteger();
+
+		@Override
+		public @Nullable Object sanitize(final @Nullable Object input) {
+			return String.valueOf(calls.incrementAndGet());
+		}
+	}
+
+	static class First {
+		@Sanitize(using = CountingSanitizer.class)
+		String value;
+	}
+
+	static class Second {
+		@Sanitize(using = CountingSanitizer.class)
+		String value;
+	}
+}
@@ -0,0 +1,250 @@
+package io.github.rabinarayanpatra.sanitizer.core;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.CharBuffer;
+import java.sql.Clob;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Supplier;
+
+import javax.sql.rowset.serial.SerialClob;
+
+import org.junit.jupiter.api.Test;
+
+import org.jspecify.annotations.Nullable;
+
+import io.github.rabinarayanpatra.sanitizer.annotation.Sanitize;
+import io.github.rabinarayanpatra.sanitizer.builtin.CollapseWhitespaceSanitizer;
+import io.github.rabinarayanpatra.sanitizer.builtin.HtmlEscapeSanitizer;
+import io.github.rabinarayanpatra.sanitizer.builtin.LowerCaseSanitizer;
+import io.github.rabinarayanpatra.sanitizer.builtin.NullIfBlankSanitizer;
+import io.github.rabinarayanpatra.sanitizer.builtin.RemoveNonPrintableSanitizer;
+import io.github.rabinarayanpatra.sanitizer.builtin.SafeFilenameSanitizer;
+import io.github.rabinarayanpatra.sanitizer.builtin.TrimSanitizer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StreamingSanitizerTest {
+
+	private static final String ALPHABET = " \t\n\u000B\f\r\u0000\u0001\u007F aZzA09-_.&<>\"'/:*?|\\éİß";
+
+	private static final List<Supplier<FieldSanitizer<?>>> STREAMABLE = List.of(TrimSanitizer::new,
+			CollapseWhitespaceSanitizer::new, RemoveNonPrintableSanitizer::new, HtmlEscapeSanitizer::new,
+			SafeFilenameSanitizer::new, NullIfBlankSanitizer::new);
+
+	@Test
+	void sanitize_matchesStringChainForAnyWindow() throws IOException {
+		final Random random = new Random(20261017L);
+		for (int n = 0; n < 1000; n++) {
+			final int length = 1 + random.nextInt(4);
+			final List<FieldSanitizer<?>> chain = new ArrayList<>(length);
+			for (int i = 0; i < length; i++) {
+				chain.add(STREAMABLE.get(random.nextInt(STREAMABLE.size())).get());
+			}
+			final StreamingSanitizer streaming = StreamingSanitizer.of(chain).withWindow(1 + random.nextInt(8));
+
+			for (int m = 0; m < 10; m++) {
+				final String input = randomString(random);
+				final @Nullable String expected = applySequentially(chain, input);
+				final String message = streaming + " on " + input;
+
+				final StringWriter out = new StringWriter();
+				assertEquals(expected != null, streaming.sanitize(new StringReader(input), out), message);
+				if (expected == null) {
+					// blank output beyond the window is written before the result is known
+					assertTrue(out.toString().isBlank(), message);
+				} else {
+					assertEquals(expected, out.toString(), message);
+				}
+
+				final StringWriter fromBuffer = new StringWriter();
+				streaming.sanitize(CharBuffer.wrap(input), fromBuffer);
+				assertEquals(out.toString(), fromBuffer.toString(), message);
+
+				assertEquals(out.toString(), readAll(streaming.reader(new StringReader(input))), message);
+			}
+		}
+	}
+
+	@Test
+	void sanitize_writesOutputBeforeInputEnds() throws IOException {
+		final StreamingSanitizer streaming = StreamingSanitizer
+				.of(List.of(new RemoveNonPrintableSanitizer(), new CollapseWhitespaceSanitizer())).withWindow(32);
+		final StringWriter out = new StringWriter();
+		final Reader endless = new Reader() {
+			private int calls;
+
+			@Override
+			public int read(final char[] cbuf, final int off, final int len) {
+				if (calls++ == 100) {
+					// by now earlier windows must already have been written
+					assertTrue(out.getBuffer().length() > 1000);
+					return -1;
+				}
+				final String chunk = "word\u0000   and\tmore ";
+				final int n = Math.min(len, chunk.length());
+				chunk.getChars(0, n, cbuf, off);
+				return n;
+			}
+
+			@Override
+			public void close() {
+			}
+		};
+
+		assertTrue(streaming.sanitize(endless, out));
+		assertTrue(out.toString().startsWith("word and more word and more"));
+		assertFalse(out.toString().endsWith(" "));
+	}
+
+	@Test
+	void sanitize_writesNothingForNullResult() throws IOException {
+		final StreamingSanitizer streaming = StreamingSanitizer
+				.of(List.of(new TrimSanitizer(), new NullIfBlankSanitizer())).withWindow(2);
+		final StringWriter out = new StringWriter();
+		assertTrue(streaming.canReturnNull());
+		assertFalse(streaming.sanitize(new StringReader(" \t \n  \r "), out));
+		assertEquals("", out.toString());
+	}
+
+	@Test
+	void sanitize_holdsAtMostOneWindowOfBlankPrefix() throws IOException {
+		final StreamingSanitizer streaming = StreamingSanitizer.of(List.of(new NullIfBlankSanitizer()))
+				.withWindow(16);
+		final String blank = " \t\n ".repeat(1000);
+		final StringWriter out = new StringWriter();
+		final Reader in = new Reader() {
+			private final Reader source = new StringReader(blank + "x");
+
+			@Override
+			public int read(final char[] cbuf, final int off, final int len) throws IOException {
+				final int n = source.read(cbuf, off, len);
+				if (n == 1 && cbuf[off] == 'x') {
+					// all but the last windows of the blank prefix are already written
+					assertTrue(out.getBuffer().length() > blank.length() - 32);
+				}
+				return n;
+			}
+
+			@Override
+			public void close() {
+			}
+		};
+
+		assertTrue(streaming.sanitize(in, out));
+		assertEquals(blank + "x", out.toString());
+		assertEquals(blank + "x", readAll(streaming.reader(new StringReader(blank + "x"))));
+
+		final StringWriter nulled = new StringWriter();
+		assertFalse(streaming.sanitize(new StringReader(blank), nulled));
+		assertTrue(nulled.toString().isBlank());
+	}
+
+	@Test
+	void of_rejectsSanitizersThatCannotStream() {
+		assertFalse(StreamingSanitizer.isStreamable(new LowerCaseSanitizer()));
+		final IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
+				() -> StreamingSanitizer.of(List.of(new TrimSanitizer(), new LowerCaseSanitizer())));
+		assertTrue(ex.getMessage().contains(LowerCaseSanitizer.class.getName()));
+		assertThrows(IllegalArgumentException.class, () -> StreamingSanitizer.of(List.of()).withWindow(0));
+	}
+
+	@Test
+	void streamingSanitizerFor_returnsChainOfTextFields() throws IOException {
+		final StreamingSanitizer notes = SanitizationUtils.streamingSanitizerFor(Transcript.class, "summary");
+		assertNotNull(notes);
+		final StringWriter out = new StringWriter();
+		notes.sanitize(new StringReader("  a \u0001 b  "), out);
+		assertEquals("a b", out.toString());
+		assertNotNull(SanitizationUtils.streamingSanitizerFor(Transcript.class, "body"));
+		assertNull(SanitizationUtils.streamingSanitizerFor(Transcript.class, "title"));
+		assertNull(SanitizationUtils.streamingSanitizerFor(Transcript.class, "missing"));
+	}
+
+	@Test
+	void apply_sanitizesClobFieldLazily() throws SQLException {
+		final Transcript transcript = new Transcript();
+		final SerialClob original = new SerialClob("  Hello \u0000\t  world <b>  ".toCharArray());
+		transcript.body = original;
+		transcript.comment = new SerialClob(" \t ".toCharArray());
+
+		SanitizationUtils.apply(transcript);
+
+		assertNotSame(original, transcript.body);
+		final long length = transcript.body.length();
+		assertEquals("Hello world &lt;b&gt;", transcript.body.getSubString(1, (int) length));
+		assertEquals("world", transcript.body.getSubString(7, 5));
+		assertNull(transcript.comment);
+	}
+
+	@Test
+	void apply_keepsClobAlreadySanitizedByTheSameChain() throws SQLException {
+		final Transcript transcript = new Transcript();
+		transcript.body = new SerialClob("  a  <b>  ".toCharArray());
+		SanitizationUtils.apply(transcript);
+		final Clob sanitized = transcript.body;
+
+		SanitizationUtils.apply(transcript);
+
+		assertSame(sanitized, transcript.body);
+		assertEquals("a &lt;b&gt;", sanitized.getSubString(1, (int) sanitized.length()));
+	}
+
+	private static @Nullable String applySequentially(final List<FieldSanitizer<?>> chain, final String input) {
+		@Nullable
+		Object value = input;
+		for (final FieldSanitizer<?> step : chain) {
+			@SuppressWarnings("unchecked")
+			final FieldSanitizer<Object> erased = (FieldSanitizer<Object>) step;
+			value = erased.sanitize(value);
+		}
+		return (String) value;
+	}
+
+	private static String readAll(final Reader reader) throws IOException {
+		final StringBuilder sb = new StringBuilder();
+		final char[] buf = new char[3];
+		for (int n = reader.read(buf); n >= 0; n = reader.read(buf)) {
+			sb.append(buf, 0, n);
+		}
+		return sb.toString();
+	}
+
+	private static String randomString(final Random random) {
+		final int length = random.nextInt(40);
+		final StringBuilder sb = new StringBuilder(length);
+		for (int i = 0; i < length; i++) {
+			sb.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+		}
+		return sb.toString();
+	}
+
+	// --- Test fixtures ---
+
+	static class Transcript {
+		@Sanitize(using = LowerCaseSanitizer.class)
+		String title;
+
+		@Sanitize(using = {TrimSanitizer.class, RemoveNonPrintableSanitizer.class, CollapseWhitespaceSanitizer.class})
+		String summary;
+
+		@Sanitize(using = {RemoveNonPrintableSanitizer.class, CollapseWhitespaceSanitizer.class,
+				HtmlEscapeSanitizer.class})
+		Clob body;
+
+		@Sanitize(using = {TrimSanitizer.class, NullIfBlankSanitizer.class})
+		Clob comment;
+	}
+}
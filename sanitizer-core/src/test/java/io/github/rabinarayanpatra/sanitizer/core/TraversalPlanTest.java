@@ -0,0 +1,173 @@
+package io.github.rabinarayanpatra.sanitizer.core;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import io.github.rabinarayanpatra.sanitizer.annotation.Sanitize;
+import io.github.rabinarayanpatra.sanitizer.builtin.LowerCaseSanitizer;
+import io.github.rabinarayanpatra.sanitizer.builtin.TrimSanitizer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TraversalPlanTest {
+
+	@Test
+	void applyDeep_sanitizesNestedBeansCollectionsArraysAndMapValues() {
+		final Order order = new Order();
+		order.reference = "  REF-1  ";
+		order.customer = new Address("  MAIN ST  ");
+		order.lines.add(new Address("  FIRST  "));
+		order.lines.add(new Address("  SECOND  "));
+		order.byName.put("  KEY  ", new Address("  MAPPED  "));
+		order.history = new Address[]{new Address("  OLD  "), null};
+
+		SanitizationUtils.applyDeep(order);
+
+		assertEquals("ref-1", order.reference);
+		assertEquals("main st", order.customer.street);
+		assertEquals("first", order.lines.get(0).street);
+		assertEquals("second", order.lines.get(1).street);
+		assertEquals("mapped", order.byName.get("  KEY  ").street);
+		assertEquals("old", order.history[0].street);
+	}
+
+	@Test
+	void applyDeep_terminatesOnCyclesAndSanitizesSharedObjectsOnce() {
+		final Node first = new Node("  A  ");
+		final Node second = new Node("  B  ");
+		first.next = second;
+		second.next = first;
+		first.self.add(first);
+
+		SanitizationUtils.applyDeep(first);
+
+		assertEquals("a", first.label);
+		assertEquals("b", second.label);
+		// the sanitizer appends one element per run
+		assertEquals(1, first.counted.size());
+	}
+
+	@Test
+	void applyDeep_descendsThroughRecordsIntoMutableBeans() {
+		final Address address = new Address("  INSIDE  ");
+		SanitizationUtils.applyDeep(new Envelope("  untouched  ", address));
+		assertEquals("inside", address.street);
+	}
+
+	@Test
+	void applyDeep_followsRuntimeTypeOfObjectFields() {
+		final Holder holder = new Holder();
+		holder.payload = new Address("  DYNAMIC  ");
+		SanitizationUtils.applyDeep(holder);
+		assertEquals("dynamic", ((Address) holder.payload).street);
+	}
+
+	@Test
+	void applyDeep_ignoresNull() {
+		// Should not throw
+		SanitizationUtils.applyDeep(null);
+	}
+
+	@Test
+	void forClass_prunesFieldsThatCannotReachSanitizableTypes() {
+		final List<String> linked = names(TraversalPlan.forClass(Order.class).linkedFields());
+		assertEquals(List.of("customer", "lines", "byName", "history"), linked);
+	}
+
+	@Test
+	void forClass_treatsClassesWithoutSanitizableReachAsLeaves() {
+		assertTrue(TraversalPlan.forClass(Inert.class).isLeaf());
+		assertTrue(TraversalPlan.forClass(String.class).isLeaf());
+	}
+
+	private static List<String> names(final List<Field> fields) {
+		final List<String> names = new ArrayList<>();
+		for (final Field field : fields) {
+			names.add(field.getName());
+		}
+		return names;
+	}
+
+	// --- Test fixtures ---
+
+	static final class Order {
+		@Sanitize(using = {TrimSanitizer.class, LowerCaseSanitizer.class})
+		String reference;
+
+		Address customer;
+
+		List<Address> lines = new ArrayList<>();
+
+		Map<String, Address> byName = new LinkedHashMap<>();
+
+		Address[] history;
+
+		// pruned: none of these can lead to a @Sanitize field
+		List<String> tags = new ArrayList<>();
+
+		int quantity;
+
+		Inert inert = new Inert();
+
+		Status status = Status.OPEN;
+	}
+
+	static final class Address {
+		@Sanitize(using = {TrimSanitizer.class, LowerCaseSanitizer.class})
+		String street;
+
+		Address(final String street) {
+			this.street = street;
+		}
+	}
+
+	static final class Inert {
+		String note = "not sanitized";
+
+		List<Integer> numbers = List.of(1, 2, 3);
+	}
+
+	enum Status {
+		OPEN
+	}
+
+	static final class Node {
+		@Sanitize(using = {TrimSanitizer.class, LowerCaseSanitizer.class})
+		String label;
+
+		@Sanitize(using = CountingSanitizer.class)
+		List<Integer> counted = new ArrayList<>();
+
+		Node next;
+
+		List<Node> self = new ArrayList<>();
+
+		Node(final String label) {
+			this.label = label;
+		}
+	}
+
+	public static class CountingSanitizer implements FieldSanitizer<List<Integer>> {
+		public CountingSanitizer() {
+		}
+
+		@Override
+		public List<Integer> sanitize(final List<Integer> input) {
+			input.add(1);
+			return input;
+		}
+	}
+
+	record Envelope(String label, Address address) {
+	}
+
+	static class Holder {
+		Object payload;
+	}
+}
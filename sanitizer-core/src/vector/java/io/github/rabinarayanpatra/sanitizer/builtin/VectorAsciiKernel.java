@@ -0,0 +1,56 @@
+package io.github.rabinarayanpatra.sanitizer.builtin;
+
+import io.github.rabinarayanpatra.sanitizer.builtin.AsciiScan.Match;
+import jdk.incubator.vector.ShortVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * {@link AsciiScan.Kernel} that tests a whole vector of characters per
+ * comparison using the incubating Vector API: 8 characters with 128-bit
+ * registers, 16 with AVX2 and 32 with AVX-512.
+ * <p>
+ * Only loaded by {@link AsciiScan} when the {@code jdk.incubator.vector} module
+ * is present; this class cannot be linked without it.
+ */
+final class VectorAsciiKernel implements AsciiScan.Kernel {
+
+	private static final VectorSpecies<Short> SPECIES = ShortVector.SPECIES_PREFERRED;
+
+	@Override
+	public int indexOf(final Match match, final char[] buf, final int from, final int to) {
+		final int bound = from + SPECIES.loopBound(to - from);
+		for (int i = from; i < bound; i += SPECIES.length()) {
+			final VectorMask<Short> hits = matches(match, ShortVector.fromCharArray(SPECIES, buf, i));
+			if (hits.anyTrue()) {
+				return i + hits.firstTrue();
+			}
+		}
+		return AsciiScan.scalarIndexOf(match, buf, bound, to);
+	}
+
+	/**
+	 * Returns the lanes of {@code v} that {@link Match#test(char)} accepts.
+	 * Characters are compared as unsigned 16-bit values.
+	 */
+	private static VectorMask<Short> matches(final Match match, final ShortVector v) {
+		return switch (match) {
+			case NON_ASCII -> v.compare(VectorOperators.UNSIGNED_GE, (short) 0x80);
+			case UPPER_OR_NON_ASCII -> v.compare(VectorOperators.UNSIGNED_GE, (short) 0x80)
+					.or(inRange(v, 'A', 'Z'));
+			case LOWER_OR_NON_ASCII -> v.compare(VectorOperators.UNSIGNED_GE, (short) 0x80)
+					.or(inRange(v, 'a', 'z'));
+			case NON_PRINTABLE -> v.compare(VectorOperators.UNSIGNED_LT, (short) 0x20)
+					.andNot(v.eq((short) '\t')).andNot(v.eq((short) '\n')).andNot(v.eq((short) '\r'))
+					.or(v.eq((short) 0x7F));
+			case HTML_SPECIAL -> v.eq((short) '&').or(v.eq((short) '<')).or(v.eq((short) '>'))
+					.or(v.eq((short) '"')).or(v.eq((short) '\''));
+		};
+	}
+
+	// lo <= c <= hi as one unsigned comparison of c - lo
+	private static VectorMask<Short> inRange(final ShortVector v, final char lo, final char hi) {
+		return v.sub((short) lo).compare(VectorOperators.UNSIGNED_LE, (short) (hi - lo));
+	}
+}
@@ -0,0 +1,7 @@
+dependencies {
+    api(project(":sanitizer-core"))
+    implementation("org.hibernate.orm:hibernate-core")
+    testImplementation("org.springframework.boot:spring-boot-starter-data-jpa")
+    testImplementation("com.h2database:h2")
+    testImplementation("org.springframework.boot:spring-boot-starter-test")
+}
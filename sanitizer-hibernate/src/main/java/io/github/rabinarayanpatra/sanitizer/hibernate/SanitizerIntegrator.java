@@ -0,0 +1,51 @@
+package io.github.rabinarayanpatra.sanitizer.hibernate;
+
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+
+import io.github.rabinarayanpatra.sanitizer.annotation.Sanitize;
+
+/**
+ * Hibernate {@link Integrator} that sanitizes {@link Sanitize @Sanitize} fields
+ * of every entity in Hibernate's {@code PRE_INSERT} and {@code PRE_UPDATE}
+ * events, without a JPA entity listener on the entity.
+ * <p>
+ * The integrator is discovered through {@link java.util.ServiceLoader}, so
+ * adding {@code sanitizer-hibernate} to the classpath is enough. Unlike
+ * {@code SanitizationEntityListener}, which changes entity fields after
+ * Hibernate has captured their state, the listener works on the state array
+ * Hibernate is about to write and keeps the entity in sync, so sanitization
+ * takes one pass and causes no additional dirty check. Do not combine it with
+ * the JPA listeners on the same entity, or fields are sanitized twice.
+ *
+ * @since 1.2.0
+ */
+public class SanitizerIntegrator implements Integrator {
+
+	/**
+	 * Default constructor, used by {@link java.util.ServiceLoader}.
+	 */
+	public SanitizerIntegrator() {
+	}
+
+	@Override
+	public void integrate(final Metadata metadata, final BootstrapContext bootstrapContext,
+			final SessionFactoryImplementor sessionFactory) {
+		final EventListenerRegistry registry = sessionFactory.getServiceRegistry()
+				.requireService(EventListenerRegistry.class);
+		final SanitizingEventListener listener = new SanitizingEventListener();
+		registry.appendListeners(EventType.PRE_INSERT, listener);
+		registry.appendListeners(EventType.PRE_UPDATE, listener);
+	}
+
+	@Override
+	public void disintegrate(final SessionFactoryImplementor sessionFactory,
+			final SessionFactoryServiceRegistry serviceRegistry) {
+		// listeners are discarded together with the session factory
+	}
+}
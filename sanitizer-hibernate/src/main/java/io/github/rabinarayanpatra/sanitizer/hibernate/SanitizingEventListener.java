@@ -0,0 +1,158 @@
+package io.github.rabinarayanpatra.sanitizer.hibernate;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.hibernate.event.spi.PreInsertEvent;
+import org.hibernate.event.spi.PreInsertEventListener;
+import org.hibernate.event.spi.PreUpdateEvent;
+import org.hibernate.event.spi.PreUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.type.Type;
+import org.jspecify.annotations.Nullable;
+
+import io.github.rabinarayanpatra.sanitizer.annotation.Sanitize;
+import io.github.rabinarayanpatra.sanitizer.core.FieldSanitizer;
+import io.github.rabinarayanpatra.sanitizer.core.SanitizationUtils;
+
+/**
+ * Hibernate event listener that sanitizes the {@code Object[]} state of an
+ * entity right before Hibernate inserts or updates it.
+ * <p>
+ * For each {@link EntityPersister} the indexes of the properties declared with
+ * {@link Sanitize @Sanitize} are resolved once. Each event looks up their
+ * inbound sanitizer chains through
+ * {@link SanitizationUtils#sanitizerFor(Class, String)}, whose plan cache keeps
+ * the lookup cheap and follows a newly installed factory or recorder, and runs
+ * them directly on the state array by index, which is what Hibernate binds to
+ * the SQL statement. Changed values are copied back into the entity so that
+ * both stay in sync. Since the entity's loaded state ends up equal to its
+ * fields, the next flush finds nothing dirty. Embedded values with
+ * {@code @Sanitize} fields are sanitized in place, both in the state array and
+ * in the entity, as Hibernate may hold a copy of them in the state.
+ * <p>
+ * Registered by {@link SanitizerIntegrator}; applications do not use this class
+ * directly.
+ */
+final class SanitizingEventListener implements PreInsertEventListener, PreUpdateEventListener {
+
+	private static final long serialVersionUID = 1L;
+
+	private final Map<String, EntityPlan> plans = new ConcurrentHashMap<>();
+
+	@Override
+	public boolean onPreInsert(final PreInsertEvent event) {
+		planFor(event.getPersister()).apply(event.getEntity(), event.getState(), event.getPersister());
+		return false;
+	}
+
+	@Override
+	public boolean onPreUpdate(final PreUpdateEvent event) {
+		planFor(event.getPersister()).apply(event.getEntity(), event.getState(), event.getPersister());
+		return false;
+	}
+
+	private EntityPlan planFor(final EntityPersister persister) {
+		final EntityPlan plan = plans.get(persister.getEntityName());
+		if (plan != null) {
+			return plan;
+		}
+		// built outside computeIfAbsent so no map bin lock is held while plans are
+		// built; a racing thread may build the same plan, and the first one wins
+		final EntityPlan built = EntityPlan.of(persister);
+		final EntityPlan raced = plans.putIfAbsent(persister.getEntityName(), built);
+		return raced == null ? built : raced;
+	}
+
+	/**
+	 * The sanitized properties of one entity, by index into its state array.
+	 * Only names and indexes are kept; the chains stay in the plan cache.
+	 */
+	private static final class EntityPlan {
+
+		private static final EntityPlan EMPTY = new EntityPlan(Object.class, new int[0], new int[0]);
+
+		private final Class<?> type;
+
+		private final int[] indexes;
+
+		private final int[] components;
+
+		private EntityPlan(final Class<?> type, final int[] indexes, final int[] components) {
+			this.type = type;
+			this.indexes = indexes;
+			this.components = components;
+		}
+
+		static EntityPlan of(final EntityPersister persister) {
+			final Class<?> type = persister.getMappedClass();
+			final String[] names = persister.getPropertyNames();
+			final Type[] types = persister.getPropertyTypes();
+			final List<Integer> indexes = new ArrayList<>();
+			final List<Integer> components = new ArrayList<>();
+			for (int i = 0; i < names.length; i++) {
+				if (SanitizationUtils.sanitizerFor(type, names[i]) != null) {
+					indexes.add(i);
+				} else if (types[i].isComponentType() && hasSanitizedField(types[i].getReturnedClass())) {
+					components.add(i);
+				}
+			}
+			if (indexes.isEmpty() && components.isEmpty()) {
+				return EMPTY;
+			}
+			return new EntityPlan(type, toArray(indexes), toArray(components));
+		}
+
+		void apply(final Object entity, final @Nullable Object[] state, final EntityPersister persister) {
+			final String[] names = persister.getPropertyNames();
+			for (final int i : indexes) {
+				final @Nullable FieldSanitizer<Object> chain = SanitizationUtils.sanitizerFor(type, names[i]);
+				if (chain == null) {
+					continue;
+				}
+				final @Nullable Object raw = state[i];
+				final @Nullable Object value;
+				try {
+					value = chain.sanitize(raw);
+				} catch (final ClassCastException e) {
+					throw new IllegalStateException("Sanitizers of property '" + names[i]
+							+ "' of " + persister.getEntityName() + " do not accept its value", e);
+				}
+				if (value != raw) {
+					state[i] = value;
+					persister.setPropertyValue(entity, i, value);
+				}
+			}
+			for (final int i : components) {
+				SanitizationUtils.apply(state[i]);
+				final @Nullable Object embedded = persister.getValue(entity, i);
+				if (embedded != state[i]) {
+					SanitizationUtils.apply(embedded);
+				}
+			}
+		}
+
+		private static boolean hasSanitizedField(final Class<?> type) {
+			for (Class<?> current = type; current != null && current != Object.class; current = current
+					.getSuperclass()) {
+				for (final Field field : current.getDeclaredFields()) {
+					if (field.getAnnotationsByType(Sanitize.class).length > 0) {
+						return true;
+					}
+				}
+			}
+			return false;
+		}
+
+		private static int[] toArray(final List<Integer> list) {
+			final int[] array = new int[list.size()];
+			for (int i = 0; i < array.length; i++) {
+				array[i] = list.get(i);
+			}
+			return array;
+		}
+	}
+}
@@ -0,0 +1,8 @@
+/**
+ * Hibernate ORM integration that sanitizes entity state in Hibernate's own
+ * insert and update events.
+ */
+@NullMarked
+package io.github.rabinarayanpatra.sanitizer.hibernate;
+
+import org.jspecify.annotations.NullMarked;
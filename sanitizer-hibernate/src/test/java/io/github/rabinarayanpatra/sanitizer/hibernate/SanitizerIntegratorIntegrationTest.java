@@ -0,0 +1,162 @@
+package io.github.rabinarayanpatra.sanitizer.hibernate;
+
+import java.util.Locale;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+import io.github.rabinarayanpatra.sanitizer.annotation.Sanitize;
+import io.github.rabinarayanpatra.sanitizer.builtin.LowerCaseSanitizer;
+import io.github.rabinarayanpatra.sanitizer.builtin.TrimSanitizer;
+import io.github.rabinarayanpatra.sanitizer.core.SanitizationUtils;
+import io.github.rabinarayanpatra.sanitizer.hibernate.SanitizerIntegratorIntegrationTest.TestConfig;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.Embedded;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(classes = TestConfig.class, properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class SanitizerIntegratorIntegrationTest {
+
+	@Autowired
+	CustomerRepository repository;
+
+	@Autowired
+	EntityManagerFactory entityManagerFactory;
+
+	Statistics statistics;
+
+	@BeforeEach
+	void resetStatistics() {
+		statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+	}
+
+	@Test
+	void insert_sanitizesStateAndEntityInOneStatement() {
+		final CustomerEntity customer = new CustomerEntity();
+		customer.setEmail("  Jane@Example.COM  ");
+		customer.setAddress(new Address("  Berlin  "));
+
+		final CustomerEntity saved = repository.saveAndFlush(customer);
+
+		assertThat(saved.getEmail()).isEqualTo("jane@example.com");
+		final CustomerEntity loaded = repository.findById(saved.getId()).orElseThrow();
+		assertThat(loaded.getEmail()).isEqualTo("jane@example.com");
+		assertThat(loaded.getAddress().getCity()).isEqualTo("Berlin");
+		assertThat(statistics.getEntityInsertCount()).isEqualTo(1);
+		assertThat(statistics.getEntityUpdateCount()).isZero();
+	}
+
+	@Test
+	void update_sanitizesChangedStateWithoutExtraFlush() {
+		final CustomerEntity saved = repository.saveAndFlush(newCustomer("jane@example.com"));
+		statistics.clear();
+
+		saved.setEmail("  JOE@example.com ");
+		final CustomerEntity updated = repository.saveAndFlush(saved);
+
+		assertThat(updated.getEmail()).isEqualTo("joe@example.com");
+		assertThat(repository.findById(saved.getId()).orElseThrow().getEmail()).isEqualTo("joe@example.com");
+		assertThat(statistics.getEntityUpdateCount()).isEqualTo(1);
+	}
+
+	@Test
+	void insert_usesSanitizerFactoryInstalledAfterFirstEvent() {
+		repository.saveAndFlush(newCustomer("jane@example.com"));
+
+		SanitizationUtils.setSanitizerFactory((type, params) -> type == LowerCaseSanitizer.class
+				? new LowerCaseSanitizer() {
+					@Override
+					public @Nullable String sanitize(final @Nullable String input) {
+						return input == null ? null : input.toUpperCase(Locale.ROOT);
+					}
+				}
+				: null);
+		try {
+			final CustomerEntity saved = repository.saveAndFlush(newCustomer("  joe@example.com "));
+			assertThat(saved.getEmail()).isEqualTo("JOE@EXAMPLE.COM");
+		} finally {
+			SanitizationUtils.setSanitizerFactory(null);
+		}
+	}
+
+	private static CustomerEntity newCustomer(final String email) {
+		final CustomerEntity customer = new CustomerEntity();
+		customer.setEmail(email);
+		return customer;
+	}
+
+	interface CustomerRepository extends JpaRepository<CustomerEntity, Long> {
+	}
+
+	@SpringBootApplication(scanBasePackageClasses = SanitizerIntegratorIntegrationTest.class)
+	@EnableJpaRepositories(basePackageClasses = SanitizerIntegratorIntegrationTest.class, considerNestedRepositories = true)
+	@EntityScan(basePackageClasses = SanitizerIntegratorIntegrationTest.class)
+	static class TestConfig {
+	}
+
+	@Embeddable
+	static class Address {
+		@Sanitize(using = TrimSanitizer.class)
+		private String city;
+
+		Address() {
+		}
+
+		Address(final String city) {
+			this.city = city;
+		}
+
+		public String getCity() {
+			return city;
+		}
+	}
+
+	// no @EntityListeners: the integrator is picked up from the classpath
+	@Entity(name = "customer")
+	static class CustomerEntity {
+		@Id
+		@GeneratedValue
+		Long id;
+
+		@Sanitize(using = {TrimSanitizer.class, LowerCaseSanitizer.class})
+		private String email;
+
+		@Embedded
+		private Address address;
+
+		public Long getId() {
+			return id;
+		}
+
+		public String getEmail() {
+			return email;
+		}
+
+		public void setEmail(final String email) {
+			this.email = email;
+		}
+
+		public Address getAddress() {
+			return address;
+		}
+
+		public void setAddress(final Address address) {
+			this.address = address;
+		}
+	}
+}
@@ -0,0 +1,86 @@
+package io.github.rabinarayanpatra.sanitizer.jpa;
+
+import org.jspecify.annotations.Nullable;
+
+import io.github.rabinarayanpatra.sanitizer.annotation.Sanitize;
+import io.github.rabinarayanpatra.sanitizer.core.SanitizationUtils;
+import io.github.rabinarayanpatra.sanitizer.core.SanitizedState;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+
+/**
+ * JPA entity listener that, like {@link SanitizationEntityListener}, sanitizes
+ * {@link Sanitize @Sanitize} fields before an entity is inserted or updated,
+ * but on update only re-sanitizes the fields whose value changed.
+ * <p>
+ * The listener remembers the values of each entity's sanitized fields when the
+ * entity is loaded and after each sanitization, see
+ * {@link SanitizationUtils#applyChanged(Object, SanitizedState)}. Before an
+ * update, fields still holding an equal value are skipped, so large text
+ * columns that were not modified are not sanitized again on every flush. A
+ * field is only written when its sanitizers change the value, which keeps the
+ * provider's dirty checking from seeing unchanged fields as modified.
+ * <p>
+ * Values loaded from the database are assumed to be sanitized already. After
+ * adding or changing sanitizers on existing data, use
+ * {@link SanitizationEntityListener} until the stored rows have been
+ * re-sanitized. Remembered values are released when the entity instance is
+ * garbage collected.
+ *
+ * <pre>
+ * {
+ * 	&#64;code
+ * 	&#64;Entity
+ * 	&#64;EntityListeners(DirtyTrackingSanitizationEntityListener.class)
+ * 	public class Transcript {
+ *
+ * 		&#64;Lob
+ * 		&#64;Sanitize(using = CollapseWhitespaceSanitizer.class)
+ * 		private String text;
+ * 	}
+ * }
+ * </pre>
+ *
+ * @since 1.2.0
+ */
+public class DirtyTrackingSanitizationEntityListener {
+
+	private static final WeakIdentityMap<Object, SanitizedState> STATES = new WeakIdentityMap<>();
+
+	/**
+	 * Default constructor.
+	 */
+	public DirtyTrackingSanitizationEntityListener() {
+	}
+
+	/**
+	 * Lifecycle callback invoked by JPA after an entity is loaded. Records its
+	 * current field values as sanitized.
+	 *
+	 * @param entity
+	 *            the loaded entity instance
+	 */
+	@PostLoad
+	public void onLoad(final Object entity) {
+		remember(entity, SanitizationUtils.snapshot(entity));
+	}
+
+	/**
+	 * Lifecycle callback invoked by JPA before an entity is inserted or updated.
+	 * Sanitizes the fields that changed since the entity was loaded or last
+	 * sanitized, or every field of an entity seen for the first time.
+	 *
+	 * @param entity
+	 *            the entity instance about to be persisted or updated
+	 */
+	@PrePersist
+	@PreUpdate
+	public void onSave(final Object entity) {
+		remember(entity, SanitizationUtils.applyChanged(entity, STATES.get(entity)));
+	}
+
+	private static void remember(final Object entity, final @Nullable SanitizedState state) {
+		STATES.put(entity, state);
+	}
+}
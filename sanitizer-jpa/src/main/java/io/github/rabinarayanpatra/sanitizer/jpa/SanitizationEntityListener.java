@@ -13,6 +13,14 @@ import jakarta.persistence.PreUpdate;
  * Internally this listener invokes {@link SanitizationUtils#apply(Object)} to
  * run through all configured
  * {@link io.github.rabinarayanpatra.sanitizer.core.FieldSanitizer}s.
+ * <p>
+ * {@code @Lob} fields declared as {@link java.sql.Clob} are sanitized as a
+ * stream when their chain only uses sanitizers that
+ * {@link io.github.rabinarayanpatra.sanitizer.core.StreamingSanitizer} supports:
+ * the field is replaced with a read-only {@code Clob} whose content is
+ * sanitized a window at a time when the JDBC driver first reads it, so large
+ * values are never loaded into memory as a whole. The original is read only
+ * once, so CLOBs created from a {@code Reader} work as well.
  *
  * <pre>
  * {
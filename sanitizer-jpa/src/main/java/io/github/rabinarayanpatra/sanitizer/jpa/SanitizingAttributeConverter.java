@@ -0,0 +1,106 @@
+package io.github.rabinarayanpatra.sanitizer.jpa;
+
+import org.jspecify.annotations.Nullable;
+
+import io.github.rabinarayanpatra.sanitizer.annotation.Sanitize;
+import io.github.rabinarayanpatra.sanitizer.core.FieldSanitizer;
+import io.github.rabinarayanpatra.sanitizer.core.SanitizationUtils;
+import jakarta.persistence.AttributeConverter;
+
+/**
+ * JPA {@link AttributeConverter} that runs the {@link Sanitize @Sanitize} chain
+ * of one entity field whenever the provider binds a value of that attribute to
+ * a JDBC parameter.
+ * <p>
+ * Entity listeners only fire for managed entities. Bulk JPQL and Criteria
+ * updates and {@code StatelessSession} inserts bypass them, but they still
+ * convert bound values through the attribute's converter. A converter therefore
+ * sanitizes these paths without entity lifecycle overhead. Values read from the
+ * database are returned unchanged.
+ * <p>
+ * A converter cannot tell which attribute it is applied to, so declare one
+ * subclass per field, naming the entity class and field whose chain to use:
+ *
+ * <pre>
+ * {
+ * 	&#64;code
+ * 	&#64;Entity
+ * 	public class Customer {
+ *
+ * 		&#64;Sanitize(using = {TrimSanitizer.class, LowerCaseSanitizer.class})
+ * 		&#64;Convert(converter = EmailConverter.class)
+ * 		private String email;
+ *
+ * 		public static class EmailConverter extends SanitizingAttributeConverter<String> {
+ * 			public EmailConverter() {
+ * 				super(Customer.class, "email");
+ * 			}
+ * 		}
+ * 	}
+ * }
+ * </pre>
+ *
+ * The converter only changes what is written to the database. The field of a
+ * managed entity keeps its unsanitized value until the entity is reloaded,
+ * unless an entity listener sanitizes it as well. Because the same conversion
+ * applies to query parameters compared with the attribute, lookups such as
+ * {@code where c.email = :email} are sanitized too.
+ *
+ * @param <T>
+ *            the attribute type, which is also the column type
+ * @since 1.2.0
+ */
+public abstract class SanitizingAttributeConverter<T> implements AttributeConverter<T, T> {
+
+	private final Class<?> entityType;
+
+	private final String fieldName;
+
+	/**
+	 * Creates a converter that applies the inbound sanitizer chain declared on
+	 * {@code fieldName} of {@code entityType}.
+	 *
+	 * @param entityType
+	 *            the class declaring (or inheriting) the field
+	 * @param fieldName
+	 *            the name of the field
+	 * @throws IllegalArgumentException
+	 *             if the field has no inbound {@code @Sanitize} chain
+	 */
+	protected SanitizingAttributeConverter(final Class<?> entityType, final String fieldName) {
+		if (SanitizationUtils.sanitizerFor(entityType, fieldName) == null) {
+			throw new IllegalArgumentException(
+					"Field '" + fieldName + "' of " + entityType.getName() + " has no inbound @Sanitize chain");
+		}
+		this.entityType = entityType;
+		this.fieldName = fieldName;
+	}
+
+	/**
+	 * Sanitizes {@code attribute} with the field's sanitizer chain.
+	 *
+	 * @param attribute
+	 *            the value about to be bound
+	 * @return the sanitized value
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public @Nullable T convertToDatabaseColumn(final @Nullable T attribute) {
+		// looked up on every call so that a later SanitizerFactory is honoured; the
+		// lookup hits the plan cache
+		final @Nullable FieldSanitizer<Object> chain = SanitizationUtils.sanitizerFor(entityType, fieldName);
+		return chain == null ? attribute : (T) chain.sanitize(attribute);
+	}
+
+	/**
+	 * Returns {@code dbData} unchanged; stored values are not sanitized again.
+	 *
+	 * @param dbData
+	 *            the value read from the database
+	 * @return the same value
+	 */
+	@Override
+	public @Nullable T convertToEntityAttribute(final @Nullable T dbData) {
+		return dbData;
+	}
+}
@@ -0,0 +1,131 @@
+package io.github.rabinarayanpatra.sanitizer.jpa;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Thread-safe map that compares keys by identity and holds them weakly, so an
+ * entry disappears once its key is garbage collected. Entities are keyed by
+ * identity because their {@code equals} usually compares ids, which would mix
+ * up the copies of one row held by different persistence contexts.
+ *
+ * @param <K>
+ *            the key type
+ * @param <V>
+ *            the value type
+ */
+final class WeakIdentityMap<K, V> {
+
+	private final Map<Object, V> entries = new ConcurrentHashMap<>();
+
+	private final ReferenceQueue<K> collected = new ReferenceQueue<>();
+
+	/**
+	 * Returns the value stored for {@code key}.
+	 *
+	 * @param key
+	 *            the key, compared by identity
+	 * @return the value, or {@code null} if there is none
+	 */
+	@Nullable
+	V get(final K key) {
+		expunge();
+		return entries.get(new Lookup(key));
+	}
+
+	/**
+	 * Stores {@code value} for {@code key}, or removes the entry when
+	 * {@code value} is {@code null}.
+	 *
+	 * @param key
+	 *            the key, compared by identity
+	 * @param value
+	 *            the value to store
+	 */
+	void put(final K key, final @Nullable V value) {
+		expunge();
+		if (value == null) {
+			entries.remove(new Lookup(key));
+		} else {
+			entries.put(new WeakKey<>(key, collected), value);
+		}
+	}
+
+	private void expunge() {
+		Reference<? extends K> ref;
+		while ((ref = collected.poll()) != null) {
+			entries.remove(ref);
+		}
+	}
+
+	/** A key that can be compared with both {@link WeakKey} and {@link Lookup}. */
+	private interface IdentityKey {
+		@Nullable
+		Object referent();
+	}
+
+	private static boolean sameReferent(final IdentityKey self, final @Nullable Object other) {
+		if (self == other) {
+			return true;
+		}
+		if (!(other instanceof IdentityKey key)) {
+			return false;
+		}
+		final Object referent = self.referent();
+		return referent != null && referent == key.referent();
+	}
+
+	private static final class WeakKey<K> extends WeakReference<K> implements IdentityKey {
+
+		private final int hash;
+
+		WeakKey(final K key, final ReferenceQueue<K> queue) {
+			super(key, queue);
+			this.hash = System.identityHashCode(key);
+		}
+
+		@Override
+		public @Nullable Object referent() {
+			return get();
+		}
+
+		@Override
+		public boolean equals(final @Nullable Object other) {
+			return sameReferent(this, other);
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+	}
+
+	private static final class Lookup implements IdentityKey {
+
+		private final Object key;
+
+		Lookup(final Object key) {
+			this.key = key;
+		}
+
+		@Override
+		public Object referent() {
+			return key;
+		}
+
+		@Override
+		public boolean equals(final @Nullable Object other) {
+			return sameReferent(this, other);
+		}
+
+		@Override
+		public int hashCode() {
+			return System.identityHashCode(key);
+		}
+	}
+}
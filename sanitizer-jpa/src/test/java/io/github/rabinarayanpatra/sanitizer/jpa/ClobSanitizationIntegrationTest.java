@@ -0,0 +1,100 @@
+package io.github.rabinarayanpatra.sanitizer.jpa;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Clob;
+import java.sql.SQLException;
+
+import org.hibernate.Session;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import io.github.rabinarayanpatra.sanitizer.annotation.Sanitize;
+import io.github.rabinarayanpatra.sanitizer.builtin.CollapseWhitespaceSanitizer;
+import io.github.rabinarayanpatra.sanitizer.builtin.NullIfBlankSanitizer;
+import io.github.rabinarayanpatra.sanitizer.builtin.RemoveNonPrintableSanitizer;
+import io.github.rabinarayanpatra.sanitizer.builtin.TrimSanitizer;
+import io.github.rabinarayanpatra.sanitizer.jpa.ClobSanitizationIntegrationTest.TestConfig;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.Lob;
+import jakarta.persistence.PersistenceContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(classes = TestConfig.class)
+@Transactional
+class ClobSanitizationIntegrationTest {
+
+	@PersistenceContext
+	EntityManager entityManager;
+
+	@Test
+	void persist_sanitizesClobThatCanOnlyBeReadOnce() throws SQLException {
+		final String text = "  Call \u0000notes:\t\tcustomer   asked ".repeat(2000);
+		final TranscriptEntity transcript = new TranscriptEntity();
+		transcript.body = readOnce(text);
+		transcript.comment = readOnce("  needs a follow-up  ");
+
+		entityManager.persist(transcript);
+		entityManager.flush();
+		entityManager.clear();
+
+		final TranscriptEntity loaded = entityManager.find(TranscriptEntity.class, transcript.id);
+		final String expected = new CollapseWhitespaceSanitizer()
+				.sanitize(new RemoveNonPrintableSanitizer().sanitize(text));
+		assertThat(loaded.body.getSubString(1, (int) loaded.body.length())).isEqualTo(expected);
+		assertThat(loaded.comment.getSubString(1, (int) loaded.comment.length())).isEqualTo("needs a follow-up");
+	}
+
+	@Test
+	void persist_storesNullForBlankClobThatCanOnlyBeReadOnce() {
+		final TranscriptEntity transcript = new TranscriptEntity();
+		transcript.body = readOnce("text");
+		transcript.comment = readOnce(" \t ".repeat(5000));
+
+		entityManager.persist(transcript);
+		entityManager.flush();
+		entityManager.clear();
+
+		assertThat(entityManager.find(TranscriptEntity.class, transcript.id).comment).isNull();
+	}
+
+	/**
+	 * Creates a CLOB backed by a stream that cannot be reset, like an upload.
+	 */
+	private Clob readOnce(final String text) {
+		final Reader reader = new InputStreamReader(new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8)),
+				StandardCharsets.UTF_8);
+		return entityManager.unwrap(Session.class).getLobHelper().createClob(reader, text.length());
+	}
+
+	@SpringBootApplication(scanBasePackageClasses = ClobSanitizationIntegrationTest.class)
+	@EntityScan(basePackageClasses = ClobSanitizationIntegrationTest.class)
+	static class TestConfig {
+	}
+
+	@Entity(name = "transcript")
+	@EntityListeners(SanitizationEntityListener.class)
+	static class TranscriptEntity {
+		@Id
+		@GeneratedValue
+		Long id;
+
+		@Lob
+		@Sanitize(using = {RemoveNonPrintableSanitizer.class, CollapseWhitespaceSanitizer.class})
+		Clob body;
+
+		@Lob
+		@Sanitize(using = {TrimSanitizer.class, NullIfBlankSanitizer.class})
+		Clob comment;
+	}
+}
@@ -0,0 +1,105 @@
+package io.github.rabinarayanpatra.sanitizer.jpa;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+import io.github.rabinarayanpatra.sanitizer.annotation.Sanitize;
+import io.github.rabinarayanpatra.sanitizer.core.FieldSanitizer;
+import io.github.rabinarayanpatra.sanitizer.jpa.DirtyTrackingSanitizationEntityListenerIntegrationTest.TestConfig;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.Lob;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(classes = TestConfig.class)
+class DirtyTrackingSanitizationEntityListenerIntegrationTest {
+
+	@Autowired
+	NoteRepository repository;
+
+	@Test
+	void update_sanitizesOnlyFieldsThatChanged() {
+		final NoteEntity note = new NoteEntity();
+		note.setTitle("  Title  ");
+		note.setBody("  a long body  ");
+		final NoteEntity saved = repository.saveAndFlush(note);
+		assertThat(saved.getTitle()).isEqualTo("Title");
+		assertThat(saved.getBody()).isEqualTo("a long body");
+
+		CountingTrimSanitizer.CALLS.set(0);
+		saved.setTitle("  New title  ");
+		final NoteEntity updated = repository.saveAndFlush(saved);
+
+		assertThat(updated.getTitle()).isEqualTo("New title");
+		assertThat(updated.getBody()).isEqualTo("a long body");
+		assertThat(CountingTrimSanitizer.CALLS).hasValue(1);
+	}
+
+	interface NoteRepository extends JpaRepository<NoteEntity, Long> {
+	}
+
+	@SpringBootApplication(scanBasePackageClasses = DirtyTrackingSanitizationEntityListenerIntegrationTest.class)
+	@EnableJpaRepositories(basePackageClasses = DirtyTrackingSanitizationEntityListenerIntegrationTest.class, considerNestedRepositories = true)
+	@EntityScan(basePackageClasses = DirtyTrackingSanitizationEntityListenerIntegrationTest.class)
+	static class TestConfig {
+	}
+
+	public static class CountingTrimSanitizer implements FieldSanitizer<String> {
+		static final AtomicInteger CALLS = new AtomicInteger();
+
+		public CountingTrimSanitizer() {
+		}
+
+		@Override
+		public @Nullable String sanitize(final @Nullable String input) {
+			CALLS.incrementAndGet();
+			return input == null ? null : input.trim();
+		}
+	}
+
+	@Entity(name = "note")
+	@EntityListeners(DirtyTrackingSanitizationEntityListener.class)
+	static class NoteEntity {
+		@Id
+		@GeneratedValue
+		Long id;
+
+		@Sanitize(using = CountingTrimSanitizer.class)
+		private String title;
+
+		@Lob
+		@Sanitize(using = CountingTrimSanitizer.class)
+		private String body;
+
+		public Long getId() {
+			return id;
+		}
+
+		public String getTitle() {
+			return title;
+		}
+
+		public void setTitle(final String title) {
+			this.title = title;
+		}
+
+		public String getBody() {
+			return body;
+		}
+
+		public void setBody(final String body) {
+			this.body = body;
+		}
+	}
+}
@@ -0,0 +1,105 @@
+package io.github.rabinarayanpatra.sanitizer.jpa;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.github.rabinarayanpatra.sanitizer.annotation.Sanitize;
+import io.github.rabinarayanpatra.sanitizer.builtin.LowerCaseSanitizer;
+import io.github.rabinarayanpatra.sanitizer.builtin.TrimSanitizer;
+import io.github.rabinarayanpatra.sanitizer.jpa.SanitizingAttributeConverterIntegrationTest.TestConfig;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(classes = TestConfig.class)
+class SanitizingAttributeConverterIntegrationTest {
+
+	@Autowired
+	SubscriberRepository repository;
+
+	@Autowired
+	EntityManager entityManager;
+
+	@Autowired
+	TransactionTemplate transaction;
+
+	@Test
+	void insert_storesSanitizedValueWithoutEntityListener() {
+		final SubscriberEntity subscriber = new SubscriberEntity();
+		subscriber.setEmail("  Jane@Example.COM ");
+		final Long id = repository.saveAndFlush(subscriber).getId();
+
+		assertThat(repository.findById(id).orElseThrow().getEmail()).isEqualTo("jane@example.com");
+	}
+
+	@Test
+	void bulkUpdate_sanitizesBoundParameters() {
+		final SubscriberEntity subscriber = new SubscriberEntity();
+		subscriber.setEmail("old@example.com");
+		final Long id = repository.saveAndFlush(subscriber).getId();
+
+		transaction.executeWithoutResult(status -> entityManager
+				.createQuery("update subscriber s set s.email = :email where s.id = :id")
+				.setParameter("email", "  NEW@Example.com  ")
+				.setParameter("id", id)
+				.executeUpdate());
+
+		assertThat(repository.findById(id).orElseThrow().getEmail()).isEqualTo("new@example.com");
+	}
+
+	@Test
+	void constructor_rejectsFieldWithoutSanitizers() {
+		assertThatThrownBy(() -> new SanitizingAttributeConverter<String>(SubscriberEntity.class, "id") {
+		}).isInstanceOf(IllegalArgumentException.class).hasMessageContaining("'id'");
+	}
+
+	interface SubscriberRepository extends JpaRepository<SubscriberEntity, Long> {
+	}
+
+	@SpringBootApplication(scanBasePackageClasses = SanitizingAttributeConverterIntegrationTest.class)
+	@EnableJpaRepositories(basePackageClasses = SanitizingAttributeConverterIntegrationTest.class, considerNestedRepositories = true)
+	@EntityScan(basePackageClasses = SanitizingAttributeConverterIntegrationTest.class)
+	static class TestConfig {
+	}
+
+	// no entity listener: only the converter sanitizes
+	@Entity(name = "subscriber")
+	static class SubscriberEntity {
+		@Id
+		@GeneratedValue
+		Long id;
+
+		@Sanitize(using = {TrimSanitizer.class, LowerCaseSanitizer.class})
+		@Convert(converter = EmailConverter.class)
+		private String email;
+
+		public Long getId() {
+			return id;
+		}
+
+		public String getEmail() {
+			return email;
+		}
+
+		public void setEmail(final String email) {
+			this.email = email;
+		}
+	}
+
+	public static class EmailConverter extends SanitizingAttributeConverter<String> {
+		public EmailConverter() {
+			super(SubscriberEntity.class, "email");
+		}
+	}
+}
@@ -0,0 +1,4 @@
+dependencies {
+    implementation(project(":sanitizer-core"))
+    testImplementation("org.junit.jupiter:junit-jupiter")
+}
@@ -0,0 +1,422 @@
+package io.github.rabinarayanpatra.sanitizer.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+
+import org.jspecify.annotations.Nullable;
+
+import io.github.rabinarayanpatra.sanitizer.annotation.Direction;
+import io.github.rabinarayanpatra.sanitizer.annotation.Sanitize;
+import io.github.rabinarayanpatra.sanitizer.annotation.Sanitizes;
+import io.github.rabinarayanpatra.sanitizer.core.ConfigurableFieldSanitizer;
+import io.github.rabinarayanpatra.sanitizer.core.GeneratedSanitizer;
+
+/**
+ * Annotation processor that generates a {@link GeneratedSanitizer}
+ * implementation named {@code Foo$$Sanitizer} for every concrete class
+ * {@code Foo} declaring {@link Sanitize @Sanitize} fields.
+ * <p>
+ * The generated class reads and writes fields directly (or through the bean's
+ * getter/setter pair when a field is not accessible from the package) and
+ * obtains its sanitizers once, from the installed
+ * {@link io.github.rabinarayanpatra.sanitizer.core.SanitizerFactory} or by
+ * calling their constructors, so
+ * {@link io.github.rabinarayanpatra.sanitizer.core.SanitizationUtils#apply(Object)}
+ * needs no reflection for the class. It also emits a GraalVM
+ * {@code reflect-config.json} entry for the generated constructor.
+ * <p>
+ * Types the processor cannot handle statically (records, abstract classes,
+ * static or final annotated fields, inaccessible fields without accessors, or
+ * sanitizers without an accessible no-arg constructor) are skipped with a
+ * {@link Diagnostic.Kind#NOTE}; those classes keep using the reflective plan at
+ * runtime.
+ *
+ * <pre>
+ * {@code
+ * dependencies {
+ *     annotationProcessor("io.github.rabinarayanpatra.sanitizer:sanitizer-processor:<version>")
+ * }
+ * }
+ * </pre>
+ *
+ * @since 1.2.0
+ */
+@SupportedAnnotationTypes({"io.github.rabinarayanpatra.sanitizer.annotation.Sanitize",
+		"io.github.rabinarayanpatra.sanitizer.annotation.Sanitizes"})
+public final class SanitizeProcessor extends AbstractProcessor {
+
+	private static final String SANITIZE = Sanitize.class.getCanonicalName();
+
+	private static final String SANITIZES = Sanitizes.class.getCanonicalName();
+
+	/**
+	 * Default constructor, invoked by the compiler via
+	 * {@link java.util.ServiceLoader}.
+	 */
+	public SanitizeProcessor() {
+	}
+
+	@Override
+	public SourceVersion getSupportedSourceVersion() {
+		return SourceVersion.latestSupported();
+	}
+
+	@Override
+	public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnv) {
+		final Set<TypeElement> types = new LinkedHashSet<>();
+		for (final TypeElement annotation : annotations) {
+			for (final Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+				if (element.getKind() == ElementKind.FIELD
+						&& element.getEnclosingElement() instanceof final TypeElement type) {
+					types.add(type);
+				}
+			}
+		}
+		for (final TypeElement type : types) {
+			final @Nullable SanitizerModel model = buildModel(type);
+			if (model != null) {
+				write(type, model);
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Collects the annotated fields of {@code type} and its superclasses, or
+	 * returns {@code null} when the type has to fall back to reflection.
+	 */
+	private @Nullable SanitizerModel buildModel(final TypeElement type) {
+		if (type.getKind() != ElementKind.CLASS || type.getModifiers().contains(Modifier.ABSTRACT)) {
+			return null;
+		}
+		final String pkg = packageOf(type);
+		if (!isTypeAccessible(type, pkg)) {
+			return skip(type, "the class is not accessible from its package");
+		}
+
+		final List<SanitizerModel.Slot> slots = new ArrayList<>();
+		final List<SanitizerModel.FieldModel> fields = new ArrayList<>();
+
+		TypeElement current = type;
+		while (current != null && !current.getQualifiedName().contentEquals("java.lang.Object")) {
+			for (final VariableElement field : ElementFilter.fieldsIn(current.getEnclosedElements())) {
+				final List<AnnotationMirror> sanitizes = sanitizeAnnotations(field);
+				// outbound-only sanitizers run during serialization, never in apply()
+				sanitizes.removeIf(ann -> !isInbound(ann));
+				if (sanitizes.isEmpty()) {
+					continue;
+				}
+				final Set<Modifier> modifiers = field.getModifiers();
+				if (modifiers.contains(Modifier.STATIC) || modifiers.contains(Modifier.FINAL)) {
+					return skip(type, "field '" + field.getSimpleName() + "' is static or final");
+				}
+
+				final List<Integer> chain = new ArrayList<>();
+				for (final AnnotationMirror ann : sanitizes) {
+					final String params = stringValue(ann, "params");
+					for (final TypeMirror sanitizerType : typeValues(ann, "using")) {
+						final TypeElement sanitizer = (TypeElement) processingEnv.getTypeUtils()
+								.asElement(sanitizerType);
+						if (!isInstantiable(sanitizer, pkg)) {
+							return skip(type, "sanitizer " + sanitizer.getQualifiedName()
+									+ " has no accessible no-arg constructor");
+						}
+						chain.add(slots.size());
+						slots.add(new SanitizerModel.Slot(sanitizer.getQualifiedName().toString(),
+								isConfigurable(sanitizerType) && !params.isBlank() ? params : null));
+					}
+				}
+				if (chain.isEmpty()) {
+					continue;
+				}
+
+				final TypeMirror fieldType = processingEnv.getTypeUtils().erasure(field.asType());
+				final String name = field.getSimpleName().toString();
+				final String typeName = sourceName(fieldType);
+				if (typeName.equals("java.sql.Clob")) {
+					// SanitizationUtils replaces the whole chain with one that streams the CLOB
+					return skip(type, "field '" + name + "' is a Clob, which is sanitized as a stream");
+				}
+				final String castType = fieldType.getKind().isPrimitive()
+						? processingEnv.getTypeUtils().boxedClass((javax.lang.model.type.PrimitiveType) fieldType)
+								.getQualifiedName().toString()
+						: typeName;
+
+				if (isMemberAccessible(field, pkg)) {
+					fields.add(new SanitizerModel.FieldModel(name, typeName, castType, "bean." + name,
+							"bean." + name + " = (" + castType + ") value", chain));
+					continue;
+				}
+				final @Nullable ExecutableElement getter = findGetter(type, field, pkg);
+				final @Nullable ExecutableElement setter = findSetter(type, field, pkg);
+				if (getter == null || setter == null) {
+					return skip(type, "field '" + name + "' is not accessible and has no accessible getter/setter");
+				}
+				fields.add(new SanitizerModel.FieldModel(name, typeName, castType,
+						"bean." + getter.getSimpleName() + "()",
+						"bean." + setter.getSimpleName() + "((" + castType + ") value)", chain));
+			}
+			current = superclassOf(current);
+		}
+
+		if (fields.isEmpty()) {
+			return null;
+		}
+		return new SanitizerModel(pkg, generatedSimpleName(type), rawTypeName(type), slots, fields);
+	}
+
+	private void write(final TypeElement type, final SanitizerModel model) {
+		final String qualified = model.packageName().isEmpty()
+				? model.simpleName()
+				: model.packageName() + "." + model.simpleName();
+		try {
+			final JavaFileObject source = processingEnv.getFiler().createSourceFile(qualified, type);
+			try (Writer writer = source.openWriter()) {
+				writer.write(SanitizerSourceWriter.render(model, getClass().getName()));
+			}
+			final FileObject config = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "",
+					"META-INF/native-image/io.github.rabinarayanpatra.sanitizer/generated/" + qualified
+							+ "/reflect-config.json",
+					type);
+			try (Writer writer = config.openWriter()) {
+				writer.write("[{\"name\":\"" + qualified
+						+ "\",\"methods\":[{\"name\":\"<init>\",\"parameterTypes\":[]}]}]\n");
+			}
+		} catch (final IOException e) {
+			processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+					"Cannot write generated sanitizer " + qualified + ": " + e.getMessage(), type);
+		}
+	}
+
+	private @Nullable SanitizerModel skip(final TypeElement type, final String reason) {
+		processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE,
+				"No generated sanitizer for " + type.getQualifiedName() + " (" + reason
+						+ "); SanitizationUtils will use reflection for this class.",
+				type);
+		return null;
+	}
+
+	// ————————————————————————————————————————
+	// Annotation reading
+	// ————————————————————————————————————————
+
+	private static List<AnnotationMirror> sanitizeAnnotations(final VariableElement field) {
+		final List<AnnotationMirror> result = new ArrayList<>();
+		for (final AnnotationMirror mirror : field.getAnnotationMirrors()) {
+			final String name = ((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().toString();
+			if (SANITIZE.equals(name)) {
+				result.add(mirror);
+			} else if (SANITIZES.equals(name)) {
+				for (final AnnotationValue value : listValue(mirror, "value")) {
+					result.add((AnnotationMirror) value.getValue());
+				}
+			}
+		}
+		return result;
+	}
+
+	private @Nullable AnnotationValue attribute(final AnnotationMirror mirror, final String name) {
+		for (final Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : processingEnv
+				.getElementUtils().getElementValuesWithDefaults(mirror).entrySet()) {
+			if (entry.getKey().getSimpleName().contentEquals(name)) {
+				return entry.getValue();
+			}
+		}
+		return null;
+	}
+
+	private boolean isInbound(final AnnotationMirror mirror) {
+		final @Nullable AnnotationValue value = attribute(mirror, "direction");
+		return value == null || !(value.getValue() instanceof VariableElement constant)
+				|| Direction.valueOf(constant.getSimpleName().toString()).appliesTo(Direction.INBOUND);
+	}
+
+	private String stringValue(final AnnotationMirror mirror, final String name) {
+		final @Nullable AnnotationValue value = attribute(mirror, name);
+		return value == null ? "" : (String) value.getValue();
+	}
+
+	private List<TypeMirror> typeValues(final AnnotationMirror mirror, final String name) {
+		final @Nullable AnnotationValue value = attribute(mirror, name);
+		final List<TypeMirror> result = new ArrayList<>();
+		if (value != null) {
+			for (final AnnotationValue element : asList(value)) {
+				result.add((TypeMirror) element.getValue());
+			}
+		}
+		return result;
+	}
+
+	private static List<? extends AnnotationValue> listValue(final AnnotationMirror mirror, final String name) {
+		for (final Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : mirror
+				.getElementValues().entrySet()) {
+			if (entry.getKey().getSimpleName().contentEquals(name)) {
+				return asList(entry.getValue());
+			}
+		}
+		return List.of();
+	}
+
+	@SuppressWarnings("unchecked")
+	private static List<? extends AnnotationValue> asList(final AnnotationValue value) {
+		return (List<? extends AnnotationValue>) value.getValue();
+	}
+
+	// ————————————————————————————————————————
+	// Accessibility and type checks
+	// ————————————————————————————————————————
+
+	private boolean isConfigurable(final TypeMirror sanitizerType) {
+		final TypeElement configurable = processingEnv.getElementUtils()
+				.getTypeElement(ConfigurableFieldSanitizer.class.getCanonicalName());
+		return configurable != null && processingEnv.getTypeUtils().isSubtype(
+				processingEnv.getTypeUtils().erasure(sanitizerType),
+				processingEnv.getTypeUtils().erasure(configurable.asType()));
+	}
+
+	private boolean isInstantiable(final TypeElement sanitizer, final String pkg) {
+		if (sanitizer.getModifiers().contains(Modifier.ABSTRACT) || !isTypeAccessible(sanitizer, pkg)
+				|| (sanitizer.getNestingKind() == NestingKind.MEMBER
+						&& !sanitizer.getModifiers().contains(Modifier.STATIC))) {
+			return false;
+		}
+		for (final ExecutableElement ctor : ElementFilter.constructorsIn(sanitizer.getEnclosedElements())) {
+			if (ctor.getParameters().isEmpty() && isMemberAccessible(ctor, pkg)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private boolean isTypeAccessible(final TypeElement type, final String pkg) {
+		Element current = type;
+		while (current instanceof final TypeElement t) {
+			if (!isMemberAccessible(t, pkg)) {
+				return false;
+			}
+			current = t.getEnclosingElement();
+		}
+		return true;
+	}
+
+	private boolean isMemberAccessible(final Element member, final String pkg) {
+		final Set<Modifier> modifiers = member.getModifiers();
+		if (modifiers.contains(Modifier.PRIVATE)) {
+			return false;
+		}
+		final Element owner = member instanceof TypeElement ? member : member.getEnclosingElement();
+		if (modifiers.contains(Modifier.PUBLIC)) {
+			return !(owner instanceof final TypeElement t) || owner.equals(member) || isTypeAccessible(t, pkg);
+		}
+		return packageOf(owner).equals(pkg);
+	}
+
+	private @Nullable ExecutableElement findGetter(final TypeElement type, final VariableElement field,
+			final String pkg) {
+		final String suffix = capitalize(field.getSimpleName().toString());
+		for (final ExecutableElement method : ElementFilter
+				.methodsIn(processingEnv.getElementUtils().getAllMembers(type))) {
+			final String name = method.getSimpleName().toString();
+			if ((name.equals("get" + suffix) || name.equals("is" + suffix)) && method.getParameters().isEmpty()
+					&& !method.getModifiers().contains(Modifier.STATIC)
+					&& processingEnv.getTypeUtils().isSameType(method.getReturnType(), field.asType())
+					&& isMemberAccessible(method, pkg)) {
+				return method;
+			}
+		}
+		return null;
+	}
+
+	private @Nullable ExecutableElement findSetter(final TypeElement type, final VariableElement field,
+			final String pkg) {
+		final String name = "set" + capitalize(field.getSimpleName().toString());
+		for (final ExecutableElement method : ElementFilter
+				.methodsIn(processingEnv.getElementUtils().getAllMembers(type))) {
+			if (method.getSimpleName().contentEquals(name) && method.getParameters().size() == 1
+					&& !method.getModifiers().contains(Modifier.STATIC)
+					&& processingEnv.getTypeUtils().isSameType(method.getParameters().get(0).asType(),
+							field.asType())
+					&& isMemberAccessible(method, pkg)) {
+				return method;
+			}
+		}
+		return null;
+	}
+
+	// ————————————————————————————————————————
+	// Naming helpers
+	// ————————————————————————————————————————
+
+	private String packageOf(final Element element) {
+		final PackageElement pkg = processingEnv.getElementUtils().getPackageOf(element);
+		return pkg.isUnnamed() ? "" : pkg.getQualifiedName().toString();
+	}
+
+	private String generatedSimpleName(final TypeElement type) {
+		final String binary = processingEnv.getElementUtils().getBinaryName(type).toString();
+		final String pkg = packageOf(type);
+		return (pkg.isEmpty() ? binary : binary.substring(pkg.length() + 1)) + GeneratedSanitizer.SUFFIX;
+	}
+
+	private String rawTypeName(final TypeElement type) {
+		return processingEnv.getTypeUtils().erasure(type.asType()).toString();
+	}
+
+	/**
+	 * Returns the name of an erased type as it is written in source.
+	 * {@code TypeMirror.toString()} keeps type-use annotations such as
+	 * {@code @Nullable}, which are not allowed in class literals and must follow
+	 * the package of a qualified name in casts.
+	 */
+	private String sourceName(final TypeMirror erased) {
+		if (erased.getKind().isPrimitive()) {
+			return erased.getKind().name().toLowerCase(Locale.ROOT);
+		}
+		if (erased.getKind() == TypeKind.ARRAY) {
+			return sourceName(((ArrayType) erased).getComponentType()) + "[]";
+		}
+		return ((TypeElement) processingEnv.getTypeUtils().asElement(erased)).getQualifiedName().toString();
+	}
+
+	private static @Nullable TypeElement superclassOf(final TypeElement type) {
+		final TypeMirror superclass = type.getSuperclass();
+		if (superclass.getKind() != TypeKind.DECLARED) {
+			return null;
+		}
+		return (TypeElement) ((DeclaredType) superclass).asElement();
+	}
+
+	private static String capitalize(final String name) {
+		return name.isEmpty() ? name : Character.toUpperCase(name.charAt(0)) + name.substring(1);
+	}
+}
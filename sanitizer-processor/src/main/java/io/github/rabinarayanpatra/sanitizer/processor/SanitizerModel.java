@@ -0,0 +1,54 @@
+package io.github.rabinarayanpatra.sanitizer.processor;
+
+import java.util.List;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Source model of one generated sanitizer class.
+ *
+ * @param packageName
+ *            the package of the bean and the generated class
+ * @param simpleName
+ *            the simple name of the generated class
+ * @param beanType
+ *            the raw source name of the bean type
+ * @param slots
+ *            the sanitizer instances the generated class holds
+ * @param fields
+ *            the fields to sanitize, in runtime plan order
+ */
+record SanitizerModel(String packageName, String simpleName, String beanType, List<Slot> slots,
+		List<FieldModel> fields) {
+
+	/**
+	 * One sanitizer instance held by the generated class.
+	 *
+	 * @param sanitizerType
+	 *            the qualified name of the sanitizer class
+	 * @param params
+	 *            the raw {@code params} string to configure it with, or
+	 *            {@code null} when it is not configured
+	 */
+	record Slot(String sanitizerType, @Nullable String params) {
+	}
+
+	/**
+	 * One sanitized field.
+	 *
+	 * @param name
+	 *            the field name
+	 * @param type
+	 *            the erased source type of the field
+	 * @param castType
+	 *            the reference type the sanitized value is cast to
+	 * @param read
+	 *            the expression that reads the field from {@code bean}
+	 * @param write
+	 *            the statement that writes {@code value} back to {@code bean}
+	 * @param chain
+	 *            indexes into {@link SanitizerModel#slots()}, in order
+	 */
+	record FieldModel(String name, String type, String castType, String read, String write, List<Integer> chain) {
+	}
+}
@@ -0,0 +1,118 @@
+package io.github.rabinarayanpatra.sanitizer.processor;
+
+import java.util.List;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Renders a {@link SanitizerModel} as Java source.
+ * <p>
+ * Each field gets its own method that reads the value once, runs the chain and
+ * writes the result back only when the chain returned a different instance, so
+ * clean values and {@code null} fields are never written, matching the
+ * reflective plan in {@code SanitizationUtils}. Sanitizers are obtained
+ * through {@code GeneratedSanitizer.sanitizer}, so an installed
+ * {@code SanitizerFactory} supplies them just as it does for that plan.
+ */
+final class SanitizerSourceWriter {
+
+	private SanitizerSourceWriter() {
+	}
+
+	/**
+	 * Renders the complete compilation unit for {@code model}.
+	 *
+	 * @param model
+	 *            the generated class model
+	 * @param generator
+	 *            the value for {@code @Generated}
+	 * @return the Java source
+	 */
+	static String render(final SanitizerModel model, final String generator) {
+		final StringBuilder out = new StringBuilder(1024);
+		if (!model.packageName().isEmpty()) {
+			out.append("package ").append(model.packageName()).append(";\n\n");
+		}
+		out.append("import io.github.rabinarayanpatra.sanitizer.core.FieldSanitizer;\n");
+		out.append("import io.github.rabinarayanpatra.sanitizer.core.GeneratedSanitizer;\n\n");
+		out.append("@javax.annotation.processing.Generated(\"").append(generator).append("\")\n");
+		out.append("@SuppressWarnings({\"unchecked\", \"rawtypes\"})\n");
+		out.append("public final class ").append(model.simpleName()).append(" implements GeneratedSanitizer<")
+				.append(model.beanType()).append("> {\n\n");
+
+		final List<SanitizerModel.Slot> slots = model.slots();
+		for (int i = 0; i < slots.size(); i++) {
+			out.append("\tprivate final FieldSanitizer s").append(i).append(";\n\n");
+		}
+
+		out.append("\tpublic ").append(model.simpleName()).append("() {\n");
+		for (int i = 0; i < slots.size(); i++) {
+			final SanitizerModel.Slot slot = slots.get(i);
+			final @Nullable String params = slot.params();
+			out.append("\t\tthis.s").append(i).append(" = GeneratedSanitizer.sanitizer(").append(slot.sanitizerType())
+					.append(".class, ").append(literal(params == null ? "" : params)).append(", ")
+					.append(slot.sanitizerType()).append("::new);\n");
+		}
+		out.append("\t}\n\n");
+
+		out.append("\t@Override\n");
+		out.append("\tpublic void apply(final ").append(model.beanType()).append(" bean) {\n");
+		for (int f = 0; f < model.fields().size(); f++) {
+			out.append("\t\tfield").append(f).append("(bean);\n");
+		}
+		out.append("\t}\n");
+
+		for (int f = 0; f < model.fields().size(); f++) {
+			renderField(out, model, f);
+		}
+		out.append("}\n");
+		return out.toString();
+	}
+
+	private static void renderField(final StringBuilder out, final SanitizerModel model, final int index) {
+		final SanitizerModel.FieldModel field = model.fields().get(index);
+		final List<Integer> chain = field.chain();
+		out.append("\n\tprivate void field").append(index).append("(final ").append(model.beanType())
+				.append(" bean) {\n");
+		out.append("\t\tfinal Object raw = ").append(field.read()).append(";\n");
+		out.append("\t\tObject value = raw;\n");
+		out.append("\t\tFieldSanitizer step = s").append(chain.get(0)).append(";\n");
+		out.append("\t\ttry {\n");
+		for (int i = 0; i < chain.size(); i++) {
+			if (i > 0) {
+				out.append("\t\t\tstep = s").append(chain.get(i)).append(";\n");
+			}
+			out.append("\t\t\tvalue = step.sanitize(value);\n");
+		}
+		out.append("\t\t\tif (value != raw) {\n");
+		out.append("\t\t\t\t").append(field.write()).append(";\n");
+		out.append("\t\t\t}\n");
+		out.append("\t\t} catch (final ClassCastException e) {\n");
+		out.append("\t\t\tthrow GeneratedSanitizer.typeMismatch(bean, ").append(literal(field.name())).append(", ")
+				.append(field.type()).append(".class, step, e);\n");
+		out.append("\t\t}\n");
+		out.append("\t}\n");
+	}
+
+	private static String literal(final String value) {
+		final StringBuilder sb = new StringBuilder(value.length() + 2).append('"');
+		for (int i = 0; i < value.length(); i++) {
+			final char c = value.charAt(i);
+			switch (c) {
+				case '"' -> sb.append("\\\"");
+				case '\\' -> sb.append("\\\\");
+				case '\n' -> sb.append("\\n");
+				case '\r' -> sb.append("\\r");
+				case '\t' -> sb.append("\\t");
+				default -> {
+					if (c < 0x20 || c > 0x7e) {
+						sb.append(String.format("\\u%04x", (int) c));
+					} else {
+						sb.append(c);
+					}
+				}
+			}
+		}
+		return sb.append('"').toString();
+	}
+}
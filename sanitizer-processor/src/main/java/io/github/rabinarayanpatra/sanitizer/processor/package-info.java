@@ -0,0 +1,9 @@
+/**
+ * Build-time annotation processor that generates reflection-free
+ * {@code GeneratedSanitizer} implementations for {@code @Sanitize}-annotated
+ * types.
+ */
+@NullMarked
+package io.github.rabinarayanpatra.sanitizer.processor;
+
+import org.jspecify.annotations.NullMarked;
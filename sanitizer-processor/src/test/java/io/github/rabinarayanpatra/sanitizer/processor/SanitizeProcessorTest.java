@@ -0,0 +1,350 @@
+package io.github.rabinarayanpatra.sanitizer.processor;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.lang.reflect.Field;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Clob;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import javax.sql.rowset.serial.SerialClob;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+import org.junit.jupiter.api.Test;
+
+import io.github.rabinarayanpatra.sanitizer.builtin.TrimSanitizer;
+import io.github.rabinarayanpatra.sanitizer.core.GeneratedSanitizer;
+import io.github.rabinarayanpatra.sanitizer.core.SanitizationRecorder;
+import io.github.rabinarayanpatra.sanitizer.core.SanitizationUtils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SanitizeProcessorTest {
+
+	private static final Pattern CLASS_NAME = Pattern.compile("public class (\\w+)");
+
+	private static final String BEAN = """
+			package demo;
+
+			import io.github.rabinarayanpatra.sanitizer.annotation.Direction;
+			import io.github.rabinarayanpatra.sanitizer.annotation.Sanitize;
+			import io.github.rabinarayanpatra.sanitizer.builtin.LowerCaseSanitizer;
+			import io.github.rabinarayanpatra.sanitizer.builtin.SSNMaskSanitizer;
+			import io.github.rabinarayanpatra.sanitizer.builtin.TrimSanitizer;
+			import io.github.rabinarayanpatra.sanitizer.builtin.TruncateSanitizer;
+
+			public class Bean extends Base {
+				@Sanitize(using = SSNMaskSanitizer.class, direction = Direction.OUTBOUND)
+				String ssn;
+
+				@Sanitize(using = TrimSanitizer.class)
+				@Sanitize(using = LowerCaseSanitizer.class)
+				String email;
+
+				@Sanitize(using = TruncateSanitizer.class, params = "maxLength=3")
+				private String code;
+
+				public boolean setterCalled;
+
+				public String getCode() {
+					return code;
+				}
+
+				public void setCode(String code) {
+					this.setterCalled = true;
+					this.code = code;
+				}
+			}
+			""";
+
+	private static final String BASE = """
+			package demo;
+
+			import io.github.rabinarayanpatra.sanitizer.annotation.Sanitize;
+			import io.github.rabinarayanpatra.sanitizer.builtin.TrimSanitizer;
+
+			public class Base {
+				@Sanitize(using = TrimSanitizer.class)
+				protected String name;
+			}
+			""";
+
+	private static final String MISMATCH = """
+			package demo;
+
+			import io.github.rabinarayanpatra.sanitizer.annotation.Sanitize;
+			import io.github.rabinarayanpatra.sanitizer.builtin.TrimSanitizer;
+
+			public class Mismatch {
+				@Sanitize(using = TrimSanitizer.class)
+				Integer count;
+			}
+			""";
+
+	private static final String UNSUPPORTED = """
+			package demo;
+
+			import io.github.rabinarayanpatra.sanitizer.annotation.Sanitize;
+			import io.github.rabinarayanpatra.sanitizer.builtin.TrimSanitizer;
+
+			public class Unsupported {
+				@Sanitize(using = TrimSanitizer.class)
+				private String hidden;
+			}
+			""";
+
+	private static final String ANNOTATED = """
+			package demo;
+
+			import org.jspecify.annotations.Nullable;
+
+			import io.github.rabinarayanpatra.sanitizer.annotation.Sanitize;
+			import io.github.rabinarayanpatra.sanitizer.builtin.TrimSanitizer;
+
+			public class Annotated {
+				@Sanitize(using = TrimSanitizer.class)
+				@Nullable String email;
+
+				@Sanitize(using = TrimSanitizer.class)
+				String @Nullable [] tags;
+			}
+			""";
+
+	private static final String NOTES = """
+			package demo;
+
+			import java.sql.Clob;
+
+			import io.github.rabinarayanpatra.sanitizer.annotation.Sanitize;
+			import io.github.rabinarayanpatra.sanitizer.builtin.CollapseWhitespaceSanitizer;
+			import io.github.rabinarayanpatra.sanitizer.builtin.TrimSanitizer;
+
+			public class Notes {
+				@Sanitize(using = {TrimSanitizer.class, CollapseWhitespaceSanitizer.class})
+				public Clob text;
+			}
+			""";
+
+	@Test
+	void generatesSanitizerWithDirectAndAccessorCalls() throws Exception {
+		try (URLClassLoader loader = compile(BEAN, BASE)) {
+			final Class<?> bean = loader.loadClass("demo.Bean");
+			final Class<?> generated = loader.loadClass("demo.Bean$$Sanitizer");
+			assertTrue(GeneratedSanitizer.class.isAssignableFrom(generated));
+
+			final Object instance = bean.getDeclaredConstructor().newInstance();
+			set(instance, "email", "  MiXeD@Example.COM ");
+			set(instance, "code", "ABCDEF");
+			set(instance, "name", "  Jane  ");
+			set(instance, "ssn", "123-45-6789");
+
+			SanitizationUtils.apply(instance);
+
+			assertEquals("mixed@example.com", get(instance, "email"));
+			assertEquals("ABC", get(instance, "code"));
+			assertEquals("Jane", get(instance, "name"));
+			assertEquals("123-45-6789", get(instance, "ssn"));
+			// The private field is written through its setter, which proves the generated
+			// class was used instead of reflective field access.
+			assertTrue((Boolean) get(instance, "setterCalled"));
+		}
+	}
+
+	@Test
+	void generatedSanitizerLeavesNullFieldsUntouched() throws Exception {
+		try (URLClassLoader loader = compile(BEAN, BASE)) {
+			final Object instance = loader.loadClass("demo.Bean").getDeclaredConstructor().newInstance();
+			SanitizationUtils.apply(instance);
+			assertNull(get(instance, "email"));
+			assertFalse((Boolean) get(instance, "setterCalled"));
+		}
+	}
+
+	@Test
+	void generatedSanitizerSkipsWriteWhenValueIsAlreadyClean() throws Exception {
+		try (URLClassLoader loader = compile(BEAN, BASE)) {
+			final Object instance = loader.loadClass("demo.Bean").getDeclaredConstructor().newInstance();
+			set(instance, "code", "ABC");
+			SanitizationUtils.apply(instance);
+			assertEquals("ABC", get(instance, "code"));
+			assertFalse((Boolean) get(instance, "setterCalled"));
+		}
+	}
+
+	@Test
+	void generatedSanitizerUsesInstalledSanitizerFactory() throws Exception {
+		try (URLClassLoader loader = compile(BEAN, BASE)) {
+			final Object instance = loader.loadClass("demo.Bean").getDeclaredConstructor().newInstance();
+			set(instance, "name", "  Jane  ");
+			set(instance, "code", "ABCDEF");
+			SanitizationUtils.setSanitizerFactory((type, params) -> type == TrimSanitizer.class ? new TrimSanitizer() {
+				@Override
+				public String sanitize(final String input) {
+					return "from factory";
+				}
+			} : null);
+			try {
+				SanitizationUtils.apply(instance);
+			} finally {
+				SanitizationUtils.setSanitizerFactory(null);
+			}
+			assertEquals("from factory", get(instance, "name"));
+			assertEquals("ABC", get(instance, "code"));
+			// written through the setter, so the generated class did the work
+			assertTrue((Boolean) get(instance, "setterCalled"));
+		}
+	}
+
+	@Test
+	void recorderSeesEveryStepOfClassesWithGeneratedSanitizer() throws Exception {
+		try (URLClassLoader loader = compile(BEAN, BASE)) {
+			final Object instance = loader.loadClass("demo.Bean").getDeclaredConstructor().newInstance();
+			set(instance, "name", "  Jane  ");
+			set(instance, "code", "ABC");
+			final List<String> events = new ArrayList<>();
+			SanitizationUtils.setRecorder(new SanitizationRecorder() {
+				@Override
+				public BeanTimer beanTimer(final Class<?> beanType) {
+					return (beans, nanos) -> events.add(beanType.getSimpleName() + ":" + beans);
+				}
+
+				@Override
+				public StepTimer stepTimer(final Class<?> declaringType, final String fieldName,
+						final String sanitizerName) {
+					return (outcome, nanos) -> events.add(fieldName + "/" + sanitizerName + "=" + outcome);
+				}
+			});
+			try {
+				SanitizationUtils.apply(instance);
+			} finally {
+				SanitizationUtils.setRecorder(null);
+			}
+			assertEquals("Jane", get(instance, "name"));
+			assertTrue(events.containsAll(List.of("email/TrimSanitizer+LowerCaseSanitizer=NULL",
+					"code/TruncateSanitizer=UNCHANGED", "name/TrimSanitizer=CHANGED", "Bean:1")), events::toString);
+		}
+	}
+
+	@Test
+	void generatedSanitizerReportsTypeMismatch() throws Exception {
+		try (URLClassLoader loader = compile(MISMATCH)) {
+			loader.loadClass("demo.Mismatch$$Sanitizer");
+			final Object instance = loader.loadClass("demo.Mismatch").getDeclaredConstructor().newInstance();
+			set(instance, "count", 42);
+			final IllegalStateException ex = assertThrows(IllegalStateException.class,
+					() -> SanitizationUtils.apply(instance));
+			assertTrue(ex.getMessage().contains("Type mismatch"));
+			assertTrue(ex.getMessage().contains("count"));
+		}
+	}
+
+	@Test
+	void skipsTypesThatNeedReflection() throws Exception {
+		try (URLClassLoader loader = compile(UNSUPPORTED)) {
+			assertThrows(ClassNotFoundException.class, () -> loader.loadClass("demo.Unsupported$$Sanitizer"));
+			final Object instance = loader.loadClass("demo.Unsupported").getDeclaredConstructor().newInstance();
+			set(instance, "hidden", "  x  ");
+			SanitizationUtils.apply(instance);
+			assertEquals("x", get(instance, "hidden"));
+		}
+	}
+
+	@Test
+	void generatesSanitizerForFieldsWithTypeUseAnnotations() throws Exception {
+		try (URLClassLoader loader = compile(ANNOTATED)) {
+			assertNotNull(loader.loadClass("demo.Annotated$$Sanitizer"));
+			final Object instance = loader.loadClass("demo.Annotated").getDeclaredConstructor().newInstance();
+			set(instance, "email", "  jane@example.com ");
+			SanitizationUtils.apply(instance);
+			assertEquals("jane@example.com", get(instance, "email"));
+		}
+	}
+
+	@Test
+	void skipsTypesWithClobFields() throws Exception {
+		try (URLClassLoader loader = compile(NOTES)) {
+			assertThrows(ClassNotFoundException.class, () -> loader.loadClass("demo.Notes$$Sanitizer"));
+			final Object instance = loader.loadClass("demo.Notes").getDeclaredConstructor().newInstance();
+			set(instance, "text", new SerialClob("  a   b  ".toCharArray()));
+			SanitizationUtils.apply(instance);
+			final Clob text = (Clob) get(instance, "text");
+			assertEquals("a b", text.getSubString(1, (int) text.length()));
+		}
+	}
+
+	@Test
+	void emitsNativeImageReflectionConfig() throws Exception {
+		try (URLClassLoader loader = compile(BEAN, BASE)) {
+			final URL config = loader.getResource(
+					"META-INF/native-image/io.github.rabinarayanpatra.sanitizer/generated/demo.Bean$$Sanitizer/reflect-config.json");
+			assertNotNull(config);
+		}
+	}
+
+	private static URLClassLoader compile(final String... sources) throws IOException {
+		final Path dir = Files.createTempDirectory("sanitizer-processor");
+		final Path src = Files.createDirectories(dir.resolve("src/demo"));
+		final Path out = Files.createDirectories(dir.resolve("out"));
+		for (final String source : sources) {
+			final Matcher declaration = CLASS_NAME.matcher(source);
+			if (!declaration.find()) {
+				throw new IllegalArgumentException("No public class in " + source);
+			}
+			final String name = declaration.group(1);
+			Files.writeString(src.resolve(name + ".java"), source);
+		}
+
+		final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+		final StringWriter diagnostics = new StringWriter();
+		try (StandardJavaFileManager files = compiler.getStandardFileManager(null, null, null)) {
+			final List<Path> paths;
+			try (var stream = Files.list(src)) {
+				paths = stream.toList();
+			}
+			final Iterable<? extends JavaFileObject> units = files.getJavaFileObjectsFromPaths(paths);
+			final JavaCompiler.CompilationTask task = compiler.getTask(diagnostics, files, null,
+					List.of("-classpath", System.getProperty("java.class.path"), "-d", out.toString(), "-proc:full"),
+					null, units);
+			task.setProcessors(List.of(new SanitizeProcessor()));
+			assertTrue(task.call(), diagnostics::toString);
+		}
+		return new URLClassLoader(new URL[]{out.toUri().toURL()}, SanitizeProcessorTest.class.getClassLoader());
+	}
+
+	private static void set(final Object target, final String name, final Object value) throws Exception {
+		final Field field = findField(target.getClass(), name);
+		field.setAccessible(true);
+		field.set(target, value);
+	}
+
+	private static Object get(final Object target, final String name) throws Exception {
+		final Field field = findField(target.getClass(), name);
+		field.setAccessible(true);
+		return field.get(target);
+	}
+
+	private static Field findField(final Class<?> type, final String name) throws NoSuchFieldException {
+		for (Class<?> c = type; c != null; c = c.getSuperclass()) {
+			try {
+				return c.getDeclaredField(name);
+			} catch (final NoSuchFieldException e) {
+				// continue with superclass
+			}
+		}
+		throw new NoSuchFieldException(name);
+	}
+}
@@ -2,6 +2,9 @@ dependencies {
     api(project(":sanitizer-core"))
     implementation("org.springframework.boot:spring-boot-autoconfigure")
     implementation("org.springframework.boot:spring-boot-starter-json")
+    compileOnly("jakarta.persistence:jakarta.persistence-api")
+    compileOnly("io.micrometer:micrometer-core")
     annotationProcessor("org.springframework.boot:spring-boot-configuration-processor")
     testImplementation("org.springframework.boot:spring-boot-starter-test")
+    testImplementation("io.micrometer:micrometer-core")
 }
@@ -1,28 +1,52 @@
 package io.github.rabinarayanpatra.sanitizer.spring.config;
 
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.BeanFactory;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.AutoConfigurationPackages;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
 
 import com.fasterxml.jackson.databind.Module;
 
 import io.github.rabinarayanpatra.sanitizer.builtin.*;
 import io.github.rabinarayanpatra.sanitizer.core.FieldSanitizer;
+import io.github.rabinarayanpatra.sanitizer.core.SanitizerFactory;
 import io.github.rabinarayanpatra.sanitizer.spring.jackson.SanitizerModule;
+import io.github.rabinarayanpatra.sanitizer.spring.metrics.MicrometerSanitizationRecorder;
+import io.github.rabinarayanpatra.sanitizer.spring.registry.SanitizerFactoryInstaller;
 import io.github.rabinarayanpatra.sanitizer.spring.registry.SanitizerRegistry;
+import io.github.rabinarayanpatra.sanitizer.spring.registry.SpringSanitizerFactory;
+import io.github.rabinarayanpatra.sanitizer.spring.warmup.SanitizerWarmUp;
+import io.micrometer.core.instrument.MeterRegistry;
 
 /**
  * Spring Boot autoconfiguration for the Sanitizer library.
  * <p>
  * This configuration class exposes all built-in {@link FieldSanitizer}
  * implementations as Spring beans, registers a {@link SanitizerRegistry} that
- * holds them, and provides a Jackson {@link Module} for {@code @Sanitize}
- * support during JSON deserialization.
+ * holds them, routes {@code SanitizationUtils} through that registry via a
+ * {@link SpringSanitizerFactory} unless the application defines its own
+ * {@link SanitizerFactory}, and provides a Jackson {@link Module} for
+ * {@code @Sanitize} support during JSON deserialization. With
+ * {@code sanitizer.warm-up.enabled=true} it also builds the sanitization plans
+ * of the application's annotated classes at startup, and with
+ * {@code sanitizer.metrics.enabled=true} it publishes sanitization metrics to
+ * the application's Micrometer {@link MeterRegistry}.
  *
  * @since 1.0.0
  */
-@AutoConfiguration
+@AutoConfiguration(afterName = {
+		"org.springframework.boot.actuate.autoconfigure.metrics.CompositeMeterRegistryAutoConfiguration",
+		"org.springframework.boot.actuate.autoconfigure.metrics.export.simple.SimpleMetricsExportAutoConfiguration"})
 public class SanitizerAutoConfiguration {
 
 	/**
@@ -241,18 +265,109 @@ public class SanitizerAutoConfiguration {
 		return new SanitizerRegistry(sanitizers);
 	}
 
+	/**
+	 * Resolves sanitizers from this application context, so that sanitizer beans
+	 * and their injected dependencies are used for {@code @Sanitize} fields. Only
+	 * configured when the application defines no {@link SanitizerFactory} of its
+	 * own.
+	 *
+	 * @param registry
+	 *            the sanitizer registry
+	 * @param context
+	 *            the application context
+	 * @return the default {@link SpringSanitizerFactory}
+	 */
+	@Bean
+	@ConditionalOnMissingBean(SanitizerFactory.class)
+	public SpringSanitizerFactory sanitizerFactory(final SanitizerRegistry registry,
+			final ApplicationContext context) {
+		return new SpringSanitizerFactory(registry, context.getAutowireCapableBeanFactory());
+	}
+
+	/**
+	 * Makes {@code SanitizationUtils} use the application's
+	 * {@link SanitizerFactory}: the {@link SpringSanitizerFactory} by default, or
+	 * the factory bean the application defines.
+	 *
+	 * @param factory
+	 *            the factory to install
+	 * @return the {@link SanitizerFactoryInstaller}
+	 */
+	@Bean
+	public SanitizerFactoryInstaller sanitizerFactoryInstaller(final SanitizerFactory factory) {
+		return new SanitizerFactoryInstaller(factory);
+	}
+
+	/**
+	 * Builds the sanitization plans of the application's {@code @Sanitize}
+	 * classes in parallel at startup, so the first requests after a deploy do not
+	 * pay for them. Enabled with {@code sanitizer.warm-up.enabled=true}. The
+	 * classes are taken from {@code sanitizer.warm-up.packages} (defaulting to the
+	 * packages of the {@code @SpringBootApplication}) and from the JPA metamodel.
+	 * The warm-up runs once all singletons exist, so the plans use the
+	 * {@link SanitizerFactory} installed by
+	 * {@link #sanitizerFactoryInstaller(SanitizerFactory)}.
+	 *
+	 * @param context
+	 *            the application context
+	 * @param packages
+	 *            the packages to scan, from {@code sanitizer.warm-up.packages}
+	 * @return the {@link SanitizerWarmUp}
+	 */
+	@Bean
+	@ConditionalOnProperty(prefix = "sanitizer.warm-up", name = "enabled", havingValue = "true")
+	public SanitizerWarmUp sanitizerWarmUp(final ApplicationContext context,
+			@Value("${sanitizer.warm-up.packages:}") final List<String> packages) {
+		return new SanitizerWarmUp(context, packages.isEmpty() ? defaultPackages(context) : packages,
+				ForkJoinPool.commonPool());
+	}
+
+	private static List<String> defaultPackages(final BeanFactory beanFactory) {
+		return AutoConfigurationPackages.has(beanFactory) ? AutoConfigurationPackages.get(beanFactory) : List.of();
+	}
+
+	/**
+	 * Micrometer metrics for sanitization, only configured when Micrometer is on
+	 * the classpath.
+	 */
+	@Configuration(proxyBeanMethods = false)
+	@ConditionalOnClass(MeterRegistry.class)
+	@ConditionalOnProperty(prefix = "sanitizer.metrics", name = "enabled", havingValue = "true")
+	static class MetricsConfiguration {
+
+		/**
+		 * Publishes sanitizer timings, value outcomes and plan cache statistics to
+		 * the application's {@link MeterRegistry}. Enabled with
+		 * {@code sanitizer.metrics.enabled=true}; without it, sanitization carries no
+		 * instrumentation.
+		 *
+		 * @param registry
+		 *            the meter registry
+		 * @return the installed {@link MicrometerSanitizationRecorder}
+		 */
+		@Bean
+		@ConditionalOnBean(MeterRegistry.class)
+		MicrometerSanitizationRecorder sanitizationRecorder(final MeterRegistry registry) {
+			return new MicrometerSanitizationRecorder(registry);
+		}
+	}
+
 	// ————————————————————————————————————————
 	// 3) Jackson module for @Sanitize support
 	// ————————————————————————————————————————
 
 	/**
 	 * Registers a Jackson module that applies {@code @Sanitize} annotations during
-	 * deserialization.
+	 * deserialization. Set {@code sanitizer.jackson.mode=STREAMING} to sanitize
+	 * values while they are parsed instead of after each bean is built.
 	 *
+	 * @param mode
+	 *            the {@link SanitizerModule.Mode}, from
+	 *            {@code sanitizer.jackson.mode}
 	 * @return the configured Jackson {@link Module}
 	 */
 	@Bean
-	public Module sanitizerModule() {
-		return new SanitizerModule();
+	public Module sanitizerModule(@Value("${sanitizer.jackson.mode:POST_PROCESS}") final SanitizerModule.Mode mode) {
+		return new SanitizerModule(mode);
 	}
 }
@@ -1,40 +1,133 @@
 package io.github.rabinarayanpatra.sanitizer.spring.jackson;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 
+import org.jspecify.annotations.Nullable;
+
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.BeanProperty;
 import com.fasterxml.jackson.databind.DeserializationConfig;
 import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonPOJOBuilder;
+import com.fasterxml.jackson.databind.cfg.MapperConfig;
+import com.fasterxml.jackson.databind.deser.BeanDeserializerBuilder;
 import com.fasterxml.jackson.databind.deser.BeanDeserializerModifier;
+import com.fasterxml.jackson.databind.deser.BuilderBasedDeserializer;
+import com.fasterxml.jackson.databind.deser.ContextualDeserializer;
+import com.fasterxml.jackson.databind.deser.SettableBeanProperty;
+import com.fasterxml.jackson.databind.deser.ValueInstantiator;
 import com.fasterxml.jackson.databind.deser.std.DelegatingDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StringDeserializer;
+import com.fasterxml.jackson.databind.introspect.AnnotatedMember;
+import com.fasterxml.jackson.databind.introspect.AnnotatedMethod;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import com.fasterxml.jackson.databind.jsontype.TypeDeserializer;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
 import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+import com.fasterxml.jackson.databind.ser.impl.PropertySerializerMap;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
 
+import io.github.rabinarayanpatra.sanitizer.annotation.Direction;
+import io.github.rabinarayanpatra.sanitizer.core.FieldSanitizer;
 import io.github.rabinarayanpatra.sanitizer.core.SanitizationUtils;
+import io.github.rabinarayanpatra.sanitizer.core.TextSanitizer;
 
 /**
  * Jackson module that integrates with Spring Boot to apply
  * {@link io.github.rabinarayanpatra.sanitizer.annotation.Sanitize} annotations
  * during JSON deserialization.
  * <p>
- * This module wraps default bean deserializers and invokes
- * {@link SanitizationUtils#apply(Object)} immediately after a bean is fully
- * deserialized, ensuring field sanitization happens automatically for incoming
- * JSON.
+ * In the default {@link Mode#POST_PROCESS} mode this module wraps default bean
+ * deserializers and invokes {@link SanitizationUtils#apply(Object)} immediately
+ * after a bean is fully deserialized, ensuring field sanitization happens
+ * automatically for incoming JSON.
+ * <p>
+ * In {@link Mode#STREAMING} mode the sanitizer chain of each annotated field is
+ * attached to the corresponding Jackson property instead, so each value is
+ * sanitized as soon as the parser produces it and before it is stored. See
+ * {@link Mode#STREAMING} for the differences.
+ * <p>
+ * In both modes, fields annotated with
+ * {@code @Sanitize(direction = Direction.OUTBOUND)} (or {@code BOTH}) have their
+ * sanitizer chain applied to the value while it is serialized. The bean itself
+ * is not changed, so a stored card number can be masked in a response without
+ * copying the object. A {@code null} value is written as {@code null} without
+ * calling the sanitizers.
  *
  * @since 1.0.0
  */
 public final class SanitizerModule extends SimpleModule {
 
+	/**
+	 * When the module sanitizes deserialized values.
+	 *
+	 * @since 1.2.0
+	 */
+	public enum Mode {
+
+		/**
+		 * Deserialize the whole bean, then run {@link SanitizationUtils#apply(Object)}
+		 * on it. Records are left unchanged. This is the default.
+		 */
+		POST_PROCESS,
+
+		/**
+		 * Run each field's sanitizer chain on the value as it is deserialized, before
+		 * it is passed to the field, setter, constructor or builder. There is no
+		 * second pass over the finished bean, and records, {@code @JsonCreator} types
+		 * and builder-based types are sanitized too.
+		 * <p>
+		 * Only values present in the JSON are sanitized: a field missing from the
+		 * input keeps its initial value, and an explicit JSON {@code null} is stored
+		 * without calling the sanitizers. Properties with {@code @JsonUnwrapped} or
+		 * managed references are not sanitized.
+		 * <p>
+		 * A JSON string bound to a {@code String} field whose chain is a
+		 * {@link TextSanitizer} is sanitized straight from the parser's character
+		 * buffer, so no {@code String} is built for the unsanitized value.
+		 */
+		STREAMING
+	}
+
 	/**
 	 * Creates a new instance of the {@code SanitizerModule}, registering a custom
 	 * deserializer modifier that applies sanitization logic to deserialized beans.
 	 */
 	public SanitizerModule() {
+		this(Mode.POST_PROCESS);
+	}
+
+	/**
+	 * Creates a new instance of the {@code SanitizerModule} that sanitizes in the
+	 * given mode.
+	 *
+	 * @param mode
+	 *            when to sanitize deserialized values
+	 * @since 1.2.0
+	 */
+	public SanitizerModule(final Mode mode) {
 		super("SanitizerModule");
 
-		setDeserializerModifier(new MyBeanDeserializerModifier());
+		setDeserializerModifier(
+				mode == Mode.STREAMING ? new StreamingDeserializerModifier() : new MyBeanDeserializerModifier());
+		setSerializerModifier(new OutboundSerializerModifier());
 	}
 
 	/**
@@ -87,16 +180,324 @@ public final class SanitizerModule extends SimpleModule {
 		}
 	}
 
+	/**
+	 * Wraps the deserializers of types that have inbound {@code @Sanitize} fields.
+	 * All other types, including records, keep their original deserializer, so
+	 * plain value objects pay nothing per instance. Nested beans get deserializers
+	 * of their own, so only the type itself has to be checked.
+	 */
 	private static class MyBeanDeserializerModifier extends BeanDeserializerModifier {
 		@Override
 		public JsonDeserializer<?> modifyDeserializer(final DeserializationConfig config,
 				final BeanDescription beanDesc, final JsonDeserializer<?> deserializer) {
-			// Records cannot be sanitized in place (final components), so wrapping
-			// them would only add per-instance overhead for a guaranteed no-op.
-			if (beanDesc.getBeanClass().isRecord()) {
-				return deserializer;
+			if (SanitizationUtils.hasInboundSanitizers(beanDesc.getBeanClass())
+					|| (deserializer instanceof BuilderBasedDeserializer && builtTypeMayBeSanitized(beanDesc))) {
+				return new SanitizingDeserializer(deserializer);
+			}
+			return deserializer;
+		}
+
+		/**
+		 * For builder-based types beanDesc describes the builder, so the annotations
+		 * are looked up on the type its build method returns. Wraps conservatively if
+		 * that method cannot be found.
+		 */
+		private static boolean builtTypeMayBeSanitized(final BeanDescription builderDesc) {
+			final JsonPOJOBuilder.@Nullable Value builderConfig = builderDesc.findPOJOBuilderConfig();
+			final String buildMethodName = builderConfig == null
+					? JsonPOJOBuilder.DEFAULT_BUILD_METHOD
+					: builderConfig.buildMethodName;
+			final @Nullable AnnotatedMethod build = builderDesc.findMethod(buildMethodName, null);
+			return build == null || SanitizationUtils.hasInboundSanitizers(build.getRawReturnType());
+		}
+	}
+
+	/**
+	 * Replaces every property backed by a {@code @Sanitize} field with a copy whose
+	 * value deserializer runs the field's sanitizer chain. Creator properties
+	 * (records and {@code @JsonCreator} parameters) are replaced both in the
+	 * builder and in the value instantiator, which hands them to the creator.
+	 */
+	private static class StreamingDeserializerModifier extends BeanDeserializerModifier {
+		@Override
+		public BeanDeserializerBuilder updateBuilder(final DeserializationConfig config,
+				final BeanDescription beanDesc, final BeanDeserializerBuilder builder) {
+			// For builder-based types beanDesc describes the builder; the annotations
+			// live on the type the build method returns.
+			final Class<?> owner = builder.getBuildMethod() != null
+					? builder.getBuildMethod().getRawReturnType()
+					: beanDesc.getBeanClass();
+			final Map<String, String> internalNames = internalNames(beanDesc);
+
+			final List<SettableBeanProperty> replaced = new ArrayList<>();
+			final Map<String, SettableBeanProperty> byName = new HashMap<>();
+			for (final Iterator<SettableBeanProperty> it = builder.getProperties(); it.hasNext();) {
+				final SettableBeanProperty prop = it.next();
+				final String fieldName = internalNames.getOrDefault(prop.getName(), prop.getName());
+				final @Nullable FieldSanitizer<Object> sanitizer = SanitizationUtils.sanitizerFor(owner, fieldName);
+				if (sanitizer == null || isUnwrapped(config, prop.getMember())
+						|| prop.getManagedReferenceName() != null) {
+					continue;
+				}
+				final SettableBeanProperty sanitizing = prop.withValueDeserializer(new SanitizingValueDeserializer(
+						prop.getType(), sanitizer, SanitizationUtils.textSanitizerFor(owner, fieldName),
+						prop.hasValueDeserializer() ? prop.getValueDeserializer() : null));
+				replaced.add(sanitizing);
+				byName.put(prop.getName(), sanitizing);
+			}
+			if (byName.isEmpty()) {
+				return builder;
+			}
+			for (final SettableBeanProperty prop : replaced) {
+				builder.addOrReplaceProperty(prop, true);
+			}
+			final ValueInstantiator instantiator = builder.getValueInstantiator();
+			if (instantiator != null && instantiator.canCreateFromObjectWith()) {
+				builder.setValueInstantiator(new SanitizingValueInstantiator(instantiator, byName));
+			}
+			return builder;
+		}
+
+	}
+
+	private static boolean isUnwrapped(final MapperConfig<?> config, final @Nullable AnnotatedMember member) {
+		return member != null && config.getAnnotationIntrospector() != null
+				&& config.getAnnotationIntrospector().findUnwrappingNameTransformer(member) != null;
+	}
+
+	private static Map<String, String> internalNames(final BeanDescription beanDesc) {
+		final Map<String, String> internalNames = new HashMap<>();
+		for (final BeanPropertyDefinition definition : beanDesc.findProperties()) {
+			internalNames.put(definition.getName(), definition.getInternalName());
+		}
+		return internalNames;
+	}
+
+	/**
+	 * Value instantiator that hands out the sanitizing copies of creator
+	 * properties, so that values are sanitized before they reach the creator.
+	 */
+	private static class SanitizingValueInstantiator extends ValueInstantiator.Delegating {
+
+		private static final long serialVersionUID = 1L;
+
+		private final Map<String, SettableBeanProperty> replacements;
+
+		SanitizingValueInstantiator(final ValueInstantiator delegate,
+				final Map<String, SettableBeanProperty> replacements) {
+			super(delegate);
+			this.replacements = replacements;
+		}
+
+		@Override
+		public ValueInstantiator createContextual(final DeserializationContext ctxt, final BeanDescription beanDesc)
+				throws JsonMappingException {
+			final ValueInstantiator contextual = delegate().createContextual(ctxt, beanDesc);
+			return contextual == delegate() ? this : new SanitizingValueInstantiator(contextual, replacements);
+		}
+
+		@Override
+		public SettableBeanProperty[] getFromObjectArguments(final DeserializationConfig config) {
+			final SettableBeanProperty[] args = delegate().getFromObjectArguments(config);
+			if (args == null) {
+				return null;
+			}
+			final SettableBeanProperty[] copy = args.clone();
+			for (int i = 0; i < copy.length; i++) {
+				final SettableBeanProperty replacement = copy[i] == null ? null : replacements.get(copy[i].getName());
+				if (replacement != null) {
+					copy[i] = replacement;
+				}
+			}
+			return copy;
+		}
+	}
+
+	/**
+	 * Value deserializer that runs a field's sanitizer chain on the value produced
+	 * by the property's regular deserializer. A JSON string handled by Jackson's
+	 * own {@code String} deserializer is instead read from the parser's character
+	 * buffer by the field's {@link TextSanitizer}, when it has one.
+	 */
+	private static class SanitizingValueDeserializer extends StdDeserializer<Object>
+			implements
+				ContextualDeserializer {
+
+		private static final long serialVersionUID = 1L;
+
+		private final FieldSanitizer<Object> sanitizer;
+
+		private final @Nullable TextSanitizer textSanitizer;
+
+		private final @Nullable JsonDeserializer<Object> delegate;
+
+		SanitizingValueDeserializer(final JavaType type, final FieldSanitizer<Object> sanitizer,
+				final @Nullable TextSanitizer textSanitizer, final @Nullable JsonDeserializer<Object> delegate) {
+			super(type);
+			this.sanitizer = sanitizer;
+			this.textSanitizer = textSanitizer;
+			this.delegate = delegate;
+		}
+
+		@Override
+		public JsonDeserializer<?> createContextual(final DeserializationContext ctxt,
+				final @Nullable BeanProperty property) throws JsonMappingException {
+			final JavaType type = getValueType();
+			final JsonDeserializer<?> contextual = delegate == null
+					? ctxt.findContextualValueDeserializer(type, property)
+					: ctxt.handleSecondaryContextualization(delegate, property, type);
+			if (contextual == delegate) {
+				return this;
+			}
+			@SuppressWarnings("unchecked")
+			final JsonDeserializer<Object> resolved = (JsonDeserializer<Object>) contextual;
+			return new SanitizingValueDeserializer(type, sanitizer, textSanitizer, resolved);
+		}
+
+		@Override
+		public @Nullable Object deserialize(final JsonParser p, final DeserializationContext ctxt)
+				throws IOException {
+			final @Nullable TextSanitizer text = textSanitizer;
+			final @Nullable JsonDeserializer<Object> values = delegate;
+			if (text != null && values != null && values.getClass() == StringDeserializer.class
+					&& p.hasToken(JsonToken.VALUE_STRING)) {
+				// StringDeserializer would return p.getText() for this token
+				final int length = p.getTextLength();
+				final StringBuilder out = new StringBuilder(length);
+				return text.sanitize(p.getTextCharacters(), p.getTextOffset(), length, out) ? out.toString() : null;
+			}
+			return sanitizer.sanitize(delegate(ctxt).deserialize(p, ctxt));
+		}
+
+		@Override
+		public @Nullable Object deserialize(final JsonParser p, final DeserializationContext ctxt,
+				final Object intoValue) throws IOException {
+			return sanitizer.sanitize(delegate(ctxt).deserialize(p, ctxt, intoValue));
+		}
+
+		@Override
+		public @Nullable Object deserializeWithType(final JsonParser p, final DeserializationContext ctxt,
+				final TypeDeserializer typeDeserializer) throws IOException {
+			return sanitizer.sanitize(delegate(ctxt).deserializeWithType(p, ctxt, typeDeserializer));
+		}
+
+		@Override
+		public @Nullable Object getNullValue(final DeserializationContext ctxt) throws JsonMappingException {
+			return delegate == null ? null : delegate.getNullValue(ctxt);
+		}
+
+		@Override
+		public @Nullable Boolean supportsUpdate(final DeserializationConfig config) {
+			return delegate == null ? null : delegate.supportsUpdate(config);
+		}
+
+		private JsonDeserializer<Object> delegate(final DeserializationContext ctxt) throws JsonMappingException {
+			if (delegate == null) {
+				// only reachable if Jackson skipped contextualization
+				return ctxt.findRootValueDeserializer(getValueType());
+			}
+			return delegate;
+		}
+	}
+
+	/**
+	 * Replaces every property writer backed by a field with outbound sanitizers
+	 * with one that sanitizes the value before serializing it.
+	 */
+	private static class OutboundSerializerModifier extends BeanSerializerModifier {
+		@Override
+		public List<BeanPropertyWriter> changeProperties(final SerializationConfig config,
+				final BeanDescription beanDesc, final List<BeanPropertyWriter> beanProperties) {
+			final Map<String, String> internalNames = internalNames(beanDesc);
+			for (int i = 0; i < beanProperties.size(); i++) {
+				final BeanPropertyWriter writer = beanProperties.get(i);
+				final @Nullable FieldSanitizer<Object> sanitizer = SanitizationUtils.sanitizerFor(
+						beanDesc.getBeanClass(), internalNames.getOrDefault(writer.getName(), writer.getName()),
+						Direction.OUTBOUND);
+				if (sanitizer != null && !isUnwrapped(config, writer.getMember())) {
+					beanProperties.set(i, new SanitizingPropertyWriter(writer, sanitizer));
+				}
+			}
+			return beanProperties;
+		}
+	}
+
+	/**
+	 * Property writer whose value serializer runs the outbound sanitizer chain
+	 * first. Everything else, including the handling of {@code null} values and
+	 * inclusion rules, is inherited from the original writer.
+	 */
+	private static class SanitizingPropertyWriter extends BeanPropertyWriter {
+
+		private static final long serialVersionUID = 1L;
+
+		SanitizingPropertyWriter(final BeanPropertyWriter base, final FieldSanitizer<Object> sanitizer) {
+			super(base);
+			_serializer = new SanitizingValueSerializer(sanitizer, base.getSerializer(), this);
+		}
+	}
+
+	/**
+	 * Value serializer that sanitizes the value and serializes the result with the
+	 * property's own serializer, or with the serializer for the result's runtime
+	 * type when the property has none.
+	 */
+	private static class SanitizingValueSerializer extends StdSerializer<Object> {
+
+		private static final long serialVersionUID = 1L;
+
+		private final FieldSanitizer<Object> sanitizer;
+
+		private final @Nullable JsonSerializer<Object> fixed;
+
+		private final BeanProperty property;
+
+		private transient PropertySerializerMap dynamic = PropertySerializerMap.emptyForProperties();
+
+		SanitizingValueSerializer(final FieldSanitizer<Object> sanitizer, final @Nullable JsonSerializer<Object> fixed,
+				final BeanProperty property) {
+			super(Object.class);
+			this.sanitizer = sanitizer;
+			this.fixed = fixed;
+			this.property = property;
+		}
+
+		@Override
+		public void serialize(final Object value, final JsonGenerator gen, final SerializerProvider provider)
+				throws IOException {
+			final @Nullable Object sanitized = sanitizer.sanitize(value);
+			if (sanitized == null) {
+				provider.defaultSerializeNull(gen);
+			} else {
+				serializerFor(sanitized, provider).serialize(sanitized, gen, provider);
+			}
+		}
+
+		@Override
+		public void serializeWithType(final Object value, final JsonGenerator gen, final SerializerProvider provider,
+				final TypeSerializer typeSer) throws IOException {
+			final @Nullable Object sanitized = sanitizer.sanitize(value);
+			if (sanitized == null) {
+				provider.defaultSerializeNull(gen);
+			} else {
+				serializerFor(sanitized, provider).serializeWithType(sanitized, gen, provider, typeSer);
+			}
+		}
+
+		private JsonSerializer<Object> serializerFor(final Object value, final SerializerProvider provider)
+				throws JsonMappingException {
+			if (fixed != null) {
+				return fixed;
+			}
+			final Class<?> type = value.getClass();
+			final JsonSerializer<Object> known = dynamic.serializerFor(type);
+			if (known != null) {
+				return known;
 			}
-			return new SanitizingDeserializer(deserializer);
+			final PropertySerializerMap.SerializerAndMapResult result = dynamic.findAndAddPrimarySerializer(type,
+					provider, property);
+			dynamic = result.map;
+			return result.serializer;
 		}
 	}
 }
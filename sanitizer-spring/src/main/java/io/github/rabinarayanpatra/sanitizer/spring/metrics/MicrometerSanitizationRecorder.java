@@ -0,0 +1,113 @@
+package io.github.rabinarayanpatra.sanitizer.spring.metrics;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+
+import io.github.rabinarayanpatra.sanitizer.core.SanitizationRecorder;
+import io.github.rabinarayanpatra.sanitizer.core.SanitizationUtils;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * {@link SanitizationRecorder} that publishes sanitization metrics to a
+ * Micrometer {@link MeterRegistry}:
+ * <ul>
+ * <li>{@code sanitizer.plan} (timer, tag {@code class}): time spent sanitizing
+ * beans, one sample per {@code apply} or {@code applyAll} call</li>
+ * <li>{@code sanitizer.beans} (counter, tag {@code class}): beans
+ * sanitized</li>
+ * <li>{@code sanitizer.calls} (timer, tags {@code class}, {@code field},
+ * {@code sanitizer}): time spent in each sanitizer step</li>
+ * <li>{@code sanitizer.values} (counter, tags {@code class}, {@code field},
+ * {@code sanitizer}, {@code outcome}): values a step changed, left unchanged or
+ * short-circuited because they were {@code null}</li>
+ * <li>{@code sanitizer.plan.cache.hits}, {@code .misses}, {@code .evictions}
+ * (function counters) and {@code sanitizer.plan.cache.size} (gauge): the
+ * {@link SanitizationUtils#planCacheStats() plan cache statistics}</li>
+ * </ul>
+ * Meters are resolved while a plan is built, so sanitizing a value only
+ * updates meters that already exist. The recorder installs itself when the
+ * bean is initialized and removes itself when the context is closed.
+ *
+ * @since 1.2.0
+ */
+public class MicrometerSanitizationRecorder implements SanitizationRecorder, InitializingBean, DisposableBean {
+
+	private final MeterRegistry registry;
+
+	/**
+	 * Creates a recorder publishing to {@code registry}.
+	 *
+	 * @param registry
+	 *            the registry to publish to
+	 */
+	public MicrometerSanitizationRecorder(final MeterRegistry registry) {
+		this.registry = registry;
+	}
+
+	@Override
+	public BeanTimer beanTimer(final Class<?> beanType) {
+		final Timer timer = Timer.builder("sanitizer.plan").description("Time spent sanitizing beans")
+				.tag("class", beanType.getName()).register(registry);
+		final Counter beans = Counter.builder("sanitizer.beans").description("Beans sanitized")
+				.tag("class", beanType.getName()).register(registry);
+		return (count, nanos) -> {
+			timer.record(nanos, TimeUnit.NANOSECONDS);
+			beans.increment(count);
+		};
+	}
+
+	@Override
+	public StepTimer stepTimer(final Class<?> declaringType, final String fieldName, final String sanitizerName) {
+		final String className = declaringType.getName();
+		final Timer timer = Timer.builder("sanitizer.calls").description("Time spent in sanitizer steps")
+				.tag("class", className).tag("field", fieldName).tag("sanitizer", sanitizerName).register(registry);
+		final Map<Outcome, Counter> counters = new EnumMap<>(Outcome.class);
+		for (final Outcome outcome : Outcome.values()) {
+			counters.put(outcome, Counter.builder("sanitizer.values")
+					.description("Values passed through sanitizer steps, by outcome").tag("class", className)
+					.tag("field", fieldName).tag("sanitizer", sanitizerName)
+					.tag("outcome", outcome.name().toLowerCase(Locale.ROOT)).register(registry));
+		}
+		return (outcome, nanos) -> {
+			timer.record(nanos, TimeUnit.NANOSECONDS);
+			counters.get(outcome).increment();
+		};
+	}
+
+	/**
+	 * Registers the plan cache meters and installs this recorder in
+	 * {@link SanitizationUtils}.
+	 */
+	@Override
+	public void afterPropertiesSet() {
+		FunctionCounter.builder("sanitizer.plan.cache.hits", this, r -> SanitizationUtils.planCacheStats().hitCount())
+				.description("Plan cache hits").register(registry);
+		FunctionCounter
+				.builder("sanitizer.plan.cache.misses", this, r -> SanitizationUtils.planCacheStats().missCount())
+				.description("Plan cache misses").register(registry);
+		FunctionCounter
+				.builder("sanitizer.plan.cache.evictions", this,
+						r -> SanitizationUtils.planCacheStats().evictionCount())
+				.description("Plan cache evictions").register(registry);
+		Gauge.builder("sanitizer.plan.cache.size", this, r -> SanitizationUtils.planCacheStats().size())
+				.description("Classes with a cached plan").register(registry);
+		SanitizationUtils.setRecorder(this);
+	}
+
+	/**
+	 * Removes this recorder from {@link SanitizationUtils}.
+	 */
+	@Override
+	public void destroy() {
+		SanitizationUtils.setRecorder(null);
+	}
+}
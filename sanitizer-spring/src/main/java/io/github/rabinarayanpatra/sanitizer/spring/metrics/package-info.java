@@ -0,0 +1,7 @@
+/**
+ * Micrometer instrumentation of {@code SanitizationUtils}.
+ */
+@NullMarked
+package io.github.rabinarayanpatra.sanitizer.spring.metrics;
+
+import org.jspecify.annotations.NullMarked;
@@ -0,0 +1,47 @@
+package io.github.rabinarayanpatra.sanitizer.spring.registry;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+
+import io.github.rabinarayanpatra.sanitizer.core.SanitizationUtils;
+import io.github.rabinarayanpatra.sanitizer.core.SanitizerFactory;
+
+/**
+ * Installs the application's {@link SanitizerFactory} bean in
+ * {@link SanitizationUtils} when it is initialized, and restores the default
+ * instantiation when the context is closed. The factory is either the
+ * {@link SpringSanitizerFactory} configured by default or one defined by the
+ * application.
+ *
+ * @since 1.2.0
+ */
+public class SanitizerFactoryInstaller implements InitializingBean, DisposableBean {
+
+	private final SanitizerFactory factory;
+
+	/**
+	 * Creates an installer for the given factory.
+	 *
+	 * @param factory
+	 *            the factory to install
+	 */
+	public SanitizerFactoryInstaller(final SanitizerFactory factory) {
+		this.factory = factory;
+	}
+
+	/**
+	 * Installs the factory in {@link SanitizationUtils}.
+	 */
+	@Override
+	public void afterPropertiesSet() {
+		SanitizationUtils.setSanitizerFactory(factory);
+	}
+
+	/**
+	 * Restores the default sanitizer instantiation in {@link SanitizationUtils}.
+	 */
+	@Override
+	public void destroy() {
+		SanitizationUtils.setSanitizerFactory(null);
+	}
+}
@@ -4,6 +4,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
+import org.jspecify.annotations.Nullable;
 import org.springframework.beans.factory.annotation.Autowired;
 
 import io.github.rabinarayanpatra.sanitizer.core.FieldSanitizer;
@@ -62,4 +63,17 @@ public class SanitizerRegistry {
 
 		return (FieldSanitizer<T>) sanitizer;
 	}
+
+	/**
+	 * Retrieves a registered sanitizer instance by its class, or {@code null} if
+	 * there is none.
+	 *
+	 * @param cls
+	 *            the sanitizer implementation class
+	 * @return the matching sanitizer instance, or {@code null}
+	 * @since 1.2.0
+	 */
+	public @Nullable FieldSanitizer<?> find(final Class<?> cls) {
+		return registry.get(cls);
+	}
 }
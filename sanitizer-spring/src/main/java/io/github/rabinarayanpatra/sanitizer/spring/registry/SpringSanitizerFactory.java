@@ -0,0 +1,66 @@
+package io.github.rabinarayanpatra.sanitizer.spring.registry;
+
+import java.util.Map;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.beans.factory.config.AutowireCapableBeanFactory;
+
+import io.github.rabinarayanpatra.sanitizer.core.ConfigurableFieldSanitizer;
+import io.github.rabinarayanpatra.sanitizer.core.FieldSanitizer;
+import io.github.rabinarayanpatra.sanitizer.core.SanitizationUtils;
+import io.github.rabinarayanpatra.sanitizer.core.SanitizerFactory;
+import io.github.rabinarayanpatra.sanitizer.core.SanitizerInstantiationException;
+
+/**
+ * {@link SanitizerFactory} that makes {@link SanitizationUtils} use the
+ * sanitizer beans of the Spring application context instead of creating its
+ * own instances. Sanitizers registered as beans can therefore have their
+ * dependencies injected.
+ * <p>
+ * A sanitizer declared without {@code params} resolves to the bean from the
+ * {@link SanitizerRegistry}. A configurable sanitizer declared with
+ * {@code params} gets a new, autowired instance configured with them, so the
+ * shared bean is never reconfigured; params it rejects raise a
+ * {@link SanitizerInstantiationException}. Sanitizer classes that are not
+ * beans are left to the default instantiation.
+ * <p>
+ * The factory is installed by a {@link SanitizerFactoryInstaller}.
+ *
+ * @since 1.2.0
+ */
+public class SpringSanitizerFactory implements SanitizerFactory {
+
+	private final SanitizerRegistry registry;
+
+	private final AutowireCapableBeanFactory beanFactory;
+
+	/**
+	 * Creates a factory backed by the given registry and bean factory.
+	 *
+	 * @param registry
+	 *            the registry holding the sanitizer beans
+	 * @param beanFactory
+	 *            used to create autowired instances for configured sanitizers
+	 */
+	public SpringSanitizerFactory(final SanitizerRegistry registry, final AutowireCapableBeanFactory beanFactory) {
+		this.registry = registry;
+		this.beanFactory = beanFactory;
+	}
+
+	@Override
+	public @Nullable FieldSanitizer<?> getSanitizer(final Class<? extends FieldSanitizer<?>> type,
+			final Map<String, String> params) {
+		final @Nullable FieldSanitizer<?> bean = registry.find(type);
+		if (bean == null || params.isEmpty() || !(bean instanceof ConfigurableFieldSanitizer<?>)) {
+			return bean;
+		}
+		final FieldSanitizer<?> configured = beanFactory.createBean(type);
+		try {
+			((ConfigurableFieldSanitizer<?>) configured).configure(params);
+		} catch (final IllegalArgumentException e) {
+			throw new SanitizerInstantiationException(
+					"Invalid params " + params + " for sanitizer " + type.getName() + ": " + e.getMessage(), e);
+		}
+		return configured;
+	}
+}
@@ -0,0 +1,200 @@
+package io.github.rabinarayanpatra.sanitizer.spring.warmup;
+
+import java.lang.reflect.Field;
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.util.ClassUtils;
+
+import io.github.rabinarayanpatra.sanitizer.annotation.Sanitize;
+import io.github.rabinarayanpatra.sanitizer.core.SanitizationUtils;
+import io.github.rabinarayanpatra.sanitizer.core.WarmUpReport;
+
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.metamodel.ManagedType;
+
+/**
+ * Builds the {@link SanitizationUtils} plans of the application's
+ * {@link Sanitize}-annotated classes once all singletons are created, before
+ * the application serves its first request. Without it, the first bean of each
+ * class pays for reflection, annotation parsing and sanitizer instantiation.
+ * <p>
+ * Classes are collected from two sources: a classpath scan of the configured
+ * base packages, and the managed types (entities, embeddables and mapped
+ * superclasses) of every JPA {@code EntityManagerFactory} in the context when
+ * JPA is on the classpath. Classes without a {@code @Sanitize} field are
+ * dropped, and the rest are planned in parallel on the given executor.
+ * <p>
+ * The resulting {@link WarmUpReport} is logged, with the slowest classes at
+ * {@code INFO} and every class at {@code DEBUG}, and stays available through
+ * {@link #getReport()}.
+ *
+ * @since 1.2.0
+ */
+public class SanitizerWarmUp implements SmartInitializingSingleton {
+
+	private static final System.Logger LOG = System.getLogger(SanitizerWarmUp.class.getName());
+
+	private static final boolean JPA_PRESENT = ClassUtils.isPresent("jakarta.persistence.EntityManagerFactory",
+			SanitizerWarmUp.class.getClassLoader());
+
+	private static final int SLOWEST = 5;
+
+	private final ApplicationContext context;
+
+	private final List<String> basePackages;
+
+	private final Executor executor;
+
+	private volatile @Nullable WarmUpReport report;
+
+	/**
+	 * Creates a warm-up for the classes found in {@code basePackages} and the JPA
+	 * metamodel of {@code context}.
+	 *
+	 * @param context
+	 *            the application context to scan and look up JPA from
+	 * @param basePackages
+	 *            the packages to scan for {@code @Sanitize}-annotated classes
+	 * @param executor
+	 *            the executor to build the plans on
+	 */
+	public SanitizerWarmUp(final ApplicationContext context, final List<String> basePackages,
+			final Executor executor) {
+		this.context = context;
+		this.basePackages = List.copyOf(basePackages);
+		this.executor = executor;
+	}
+
+	/**
+	 * Collects the annotated classes and builds their plans, blocking until all
+	 * of them are done.
+	 */
+	@Override
+	public void afterSingletonsInstantiated() {
+		final WarmUpReport result = SanitizationUtils.warmUp(findSanitizedClasses(), executor);
+		report = result;
+		log(result);
+	}
+
+	/**
+	 * Returns the report of the warm-up, or {@code null} if it has not run yet.
+	 *
+	 * @return the warm-up report
+	 */
+	public @Nullable WarmUpReport getReport() {
+		return report;
+	}
+
+	/**
+	 * Collects the classes to warm up from the base packages and the JPA
+	 * metamodel, keeping only those that declare or inherit a {@code @Sanitize}
+	 * field.
+	 *
+	 * @return the classes to warm up, in discovery order
+	 */
+	Set<Class<?>> findSanitizedClasses() {
+		final Set<Class<?>> candidates = new LinkedHashSet<>(scan());
+		if (JPA_PRESENT) {
+			candidates.addAll(JpaTypes.of(context));
+		}
+		candidates.removeIf(cls -> !hasSanitizedField(cls));
+		return candidates;
+	}
+
+	private Set<Class<?>> scan() {
+		final Set<Class<?>> classes = new LinkedHashSet<>();
+		if (basePackages.isEmpty()) {
+			return classes;
+		}
+		final ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(
+				false, context.getEnvironment());
+		scanner.setResourceLoader(context);
+		// field annotations are not visible in the class file metadata, so every
+		// concrete class is a candidate and is checked after loading
+		scanner.addIncludeFilter((reader, readerFactory) -> true);
+		for (final String basePackage : basePackages) {
+			for (final BeanDefinition candidate : scanner.findCandidateComponents(basePackage)) {
+				final String name = candidate.getBeanClassName();
+				if (name == null) {
+					continue;
+				}
+				try {
+					classes.add(ClassUtils.forName(name, context.getClassLoader()));
+				} catch (final ClassNotFoundException | LinkageError e) {
+					LOG.log(System.Logger.Level.DEBUG, "Skipping {0} during sanitizer warm-up: {1}", name, e);
+				}
+			}
+		}
+		return classes;
+	}
+
+	private static boolean hasSanitizedField(final Class<?> cls) {
+		try {
+			for (Class<?> current = cls; current != null && current != Object.class; current = current
+					.getSuperclass()) {
+				for (final Field field : current.getDeclaredFields()) {
+					if (field.getAnnotationsByType(Sanitize.class).length > 0) {
+						return true;
+					}
+				}
+			}
+		} catch (final LinkageError e) {
+			// a field type from an optional dependency is missing
+			LOG.log(System.Logger.Level.DEBUG, "Skipping {0} during sanitizer warm-up: {1}", cls.getName(), e);
+		}
+		return false;
+	}
+
+	private static void log(final WarmUpReport report) {
+		LOG.log(System.Logger.Level.INFO, "Sanitizer warm-up planned {0} classes in {1} ms",
+				report.timings().size(), report.elapsed().toMillis());
+		for (final Map.Entry<Class<?>, Duration> entry : report.slowest(SLOWEST)) {
+			LOG.log(System.Logger.Level.INFO, "  {0}: {1} us", entry.getKey().getName(),
+					entry.getValue().toNanos() / 1_000);
+		}
+		if (LOG.isLoggable(System.Logger.Level.DEBUG)) {
+			for (final Map.Entry<Class<?>, Duration> entry : report.timings().entrySet()) {
+				LOG.log(System.Logger.Level.DEBUG, "Sanitizer plan for {0} took {1} us", entry.getKey().getName(),
+						entry.getValue().toNanos() / 1_000);
+			}
+		}
+		for (final Map.Entry<Class<?>, RuntimeException> failure : report.failures().entrySet()) {
+			LOG.log(System.Logger.Level.WARNING, "Sanitizer warm-up failed for " + failure.getKey().getName(),
+					failure.getValue());
+		}
+	}
+
+	/**
+	 * Reads the JPA metamodel. Kept in its own class so that JPA types are only
+	 * loaded when JPA is on the classpath.
+	 */
+	private static final class JpaTypes {
+
+		private JpaTypes() {
+		}
+
+		static Set<Class<?>> of(final ListableBeanFactory beanFactory) {
+			final Set<Class<?>> types = new LinkedHashSet<>();
+			for (final EntityManagerFactory emf : beanFactory.getBeansOfType(EntityManagerFactory.class).values()) {
+				for (final ManagedType<?> type : emf.getMetamodel().getManagedTypes()) {
+					final Class<?> javaType = type.getJavaType();
+					if (javaType != null) {
+						types.add(javaType);
+					}
+				}
+			}
+			return types;
+		}
+	}
+}
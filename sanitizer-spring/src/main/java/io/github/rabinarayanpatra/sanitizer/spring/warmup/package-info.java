@@ -0,0 +1,8 @@
+/**
+ * Startup warm-up of the {@code SanitizationUtils} plan cache for the
+ * application's {@code @Sanitize}-annotated classes.
+ */
+@NullMarked
+package io.github.rabinarayanpatra.sanitizer.spring.warmup;
+
+import org.jspecify.annotations.NullMarked;
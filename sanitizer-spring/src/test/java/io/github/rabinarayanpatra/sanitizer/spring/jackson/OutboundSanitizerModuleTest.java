@@ -0,0 +1,68 @@
+package io.github.rabinarayanpatra.sanitizer.spring.jackson;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.github.rabinarayanpatra.sanitizer.annotation.Direction;
+import io.github.rabinarayanpatra.sanitizer.annotation.Sanitize;
+import io.github.rabinarayanpatra.sanitizer.builtin.CreditCardMaskSanitizer;
+import io.github.rabinarayanpatra.sanitizer.builtin.NullIfBlankSanitizer;
+import io.github.rabinarayanpatra.sanitizer.builtin.SSNMaskSanitizer;
+import io.github.rabinarayanpatra.sanitizer.builtin.TrimSanitizer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class OutboundSanitizerModuleTest {
+
+	private final ObjectMapper mapper = new ObjectMapper().registerModule(new SanitizerModule());
+
+	@Test
+	void serialization_masksOutboundFieldsWithoutChangingTheBean() throws Exception {
+		final Account account = new Account();
+		account.card = "4111-1111-1111-1234";
+		account.setSsn("123-45-6789");
+
+		assertEquals("{\"card\":\"**** **** **** 1234\",\"ssn\":\"***-**-6789\",\"note\":null}",
+				mapper.writeValueAsString(account));
+		assertEquals("4111-1111-1111-1234", account.card);
+		assertEquals("123-45-6789", account.getSsn());
+	}
+
+	@Test
+	void serialization_masksRecordComponentsAndWritesNullResults() throws Exception {
+		assertEquals("{\"ssn\":\"***-**-6789\",\"note\":null}",
+				mapper.writeValueAsString(new Masked("123-45-6789", "   ")));
+	}
+
+	@Test
+	void deserialization_ignoresOutboundSanitizers() throws Exception {
+		final Account account = mapper.readValue("{\"card\":\" 4111111111111234 \"}", Account.class);
+		assertEquals("4111111111111234", account.card);
+	}
+
+	// --- Test fixtures ---
+
+	static class Account {
+		@Sanitize(using = TrimSanitizer.class)
+		@Sanitize(using = CreditCardMaskSanitizer.class, direction = Direction.OUTBOUND)
+		public String card;
+
+		@Sanitize(using = SSNMaskSanitizer.class, direction = Direction.OUTBOUND)
+		private String ssn;
+
+		public String note;
+
+		public String getSsn() {
+			return ssn;
+		}
+
+		public void setSsn(final String ssn) {
+			this.ssn = ssn;
+		}
+	}
+
+	record Masked(@Sanitize(using = SSNMaskSanitizer.class, direction = Direction.OUTBOUND) String ssn,
+			@Sanitize(using = NullIfBlankSanitizer.class, direction = Direction.OUTBOUND) String note) {
+	}
+}
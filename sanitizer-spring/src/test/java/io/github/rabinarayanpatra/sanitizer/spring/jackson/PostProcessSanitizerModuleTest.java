@@ -0,0 +1,86 @@
+package io.github.rabinarayanpatra.sanitizer.spring.jackson;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonPOJOBuilder;
+import com.fasterxml.jackson.databind.deser.DefaultDeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.DelegatingDeserializer;
+
+import io.github.rabinarayanpatra.sanitizer.annotation.Sanitize;
+import io.github.rabinarayanpatra.sanitizer.builtin.TrimSanitizer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PostProcessSanitizerModuleTest {
+
+	private final ObjectMapper mapper = new ObjectMapper().registerModule(new SanitizerModule());
+
+	@Test
+	void deserializer_isOnlyWrappedForTypesWithInboundSanitizers() throws Exception {
+		assertFalse(rootDeserializer(Point.class) instanceof DelegatingDeserializer);
+		assertFalse(rootDeserializer(Route.class) instanceof DelegatingDeserializer);
+		assertTrue(rootDeserializer(Stop.class) instanceof DelegatingDeserializer);
+	}
+
+	@Test
+	void deserialization_sanitizesBeansNestedInPlainTypes() throws Exception {
+		final Route route = mapper.readValue("{\"start\":{\"x\":1},\"stop\":{\"name\":\"  Depot  \"}}", Route.class);
+		assertEquals(1, route.start.x);
+		assertEquals("Depot", route.stop.name);
+	}
+
+	@Test
+	void deserialization_sanitizesBuilderBasedTypes() throws Exception {
+		assertEquals("Depot", mapper.readValue("{\"name\":\"  Depot  \"}", Station.class).name);
+	}
+
+	private JsonDeserializer<Object> rootDeserializer(final Class<?> type) throws Exception {
+		final DefaultDeserializationContext ctxt = ((DefaultDeserializationContext) mapper.getDeserializationContext())
+				.createInstance(mapper.getDeserializationConfig(), null, null);
+		return ctxt.findRootValueDeserializer(mapper.constructType(type));
+	}
+
+	// --- Test fixtures ---
+
+	static class Point {
+		public int x;
+	}
+
+	static class Stop {
+		@Sanitize(using = TrimSanitizer.class)
+		public String name;
+	}
+
+	static class Route {
+		public Point start;
+
+		public Stop stop;
+	}
+
+	@JsonDeserialize(builder = Station.Builder.class)
+	static class Station {
+		@Sanitize(using = TrimSanitizer.class)
+		String name;
+
+		@JsonPOJOBuilder(withPrefix = "")
+		static class Builder {
+			private String name;
+
+			public Builder name(final String name) {
+				this.name = name;
+				return this;
+			}
+
+			public Station build() {
+				final Station station = new Station();
+				station.name = name;
+				return station;
+			}
+		}
+	}
+}
@@ -0,0 +1,167 @@
+package io.github.rabinarayanpatra.sanitizer.spring.jackson;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonPOJOBuilder;
+import com.fasterxml.jackson.databind.deser.std.StdScalarDeserializer;
+
+import io.github.rabinarayanpatra.sanitizer.annotation.Sanitize;
+import io.github.rabinarayanpatra.sanitizer.builtin.LowerCaseSanitizer;
+import io.github.rabinarayanpatra.sanitizer.builtin.NullIfBlankSanitizer;
+import io.github.rabinarayanpatra.sanitizer.builtin.TrimSanitizer;
+import io.github.rabinarayanpatra.sanitizer.builtin.UpperCaseSanitizer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class StreamingSanitizerModuleTest {
+
+	private final ObjectMapper mapper = new ObjectMapper()
+			.registerModule(new SanitizerModule(SanitizerModule.Mode.STREAMING));
+
+	@Test
+	void streaming_sanitizesFieldsAndSetters() throws Exception {
+		final String json = "{\"email\":\"  USER@EXAMPLE.COM  \",\"name\":\"  Jane  \",\"plain\":\"  as is  \"}";
+		final Bean bean = mapper.readValue(json, Bean.class);
+		assertEquals("user@example.com", bean.email);
+		assertEquals("Jane", bean.getName());
+		assertEquals("  as is  ", bean.plain);
+	}
+
+	@Test
+	void streaming_sanitizesRecordsIncludingRenamedAndNestedOnes() throws Exception {
+		final String json = "{\"email\":\"  USER@EXAMPLE.COM  \",\"display\":\"  Jane  \"}";
+		assertEquals(new Contact("user@example.com", "Jane"), mapper.readValue(json, Contact.class));
+
+		final Bean bean = mapper.readValue("{\"contacts\":[{\"email\":\"  A@B.C  \"}]}", Bean.class);
+		assertEquals(List.of(new Contact("a@b.c", null)), bean.contacts);
+	}
+
+	@Test
+	void streaming_sanitizesCreatorAndBuilderTypes() throws Exception {
+		final Code code = mapper.readValue("{\"value\":\"ab-1\",\"note\":\" n \"}", Code.class);
+		assertEquals("AB-1", code.value);
+		assertEquals(" n ", code.note);
+
+		final Built built = mapper.readValue("{\"value\":\"  built  \"}", Built.class);
+		assertEquals("built", built.value);
+	}
+
+	@Test
+	void streaming_passesExplicitNullThrough() throws Exception {
+		final Bean bean = mapper.readValue("{\"email\":null}", Bean.class);
+		assertNull(bean.email);
+	}
+
+	@Test
+	void streaming_sanitizesStringsFromParserBuffer() throws Exception {
+		final Escaped escaped = mapper.readValue(
+				"{\"tag\":\"  \\u0041b\\tC  \",\"blank\":\" \\t \",\"number\":42,\"reversed\":\" ab \"}",
+				Escaped.class);
+		assertEquals("ab\tc", escaped.tag);
+		assertNull(escaped.blank);
+		assertEquals("42", escaped.number);
+		// a custom deserializer runs before the chain
+		assertEquals("BA", escaped.reversed);
+	}
+
+	// --- Test fixtures ---
+
+	static class Bean {
+		@Sanitize(using = {TrimSanitizer.class, LowerCaseSanitizer.class})
+		public String email;
+
+		@Sanitize(using = TrimSanitizer.class)
+		private String name;
+
+		public String plain;
+
+		public List<Contact> contacts;
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(final String name) {
+			this.name = name;
+		}
+	}
+
+	static class Escaped {
+		@Sanitize(using = {TrimSanitizer.class, LowerCaseSanitizer.class})
+		public String tag;
+
+		@Sanitize(using = NullIfBlankSanitizer.class)
+		public String blank;
+
+		@Sanitize(using = TrimSanitizer.class)
+		public String number;
+
+		@Sanitize(using = {TrimSanitizer.class, UpperCaseSanitizer.class})
+		@JsonDeserialize(using = ReversingDeserializer.class)
+		public String reversed;
+	}
+
+	static class ReversingDeserializer extends StdScalarDeserializer<String> {
+		private static final long serialVersionUID = 1L;
+
+		ReversingDeserializer() {
+			super(String.class);
+		}
+
+		@Override
+		public String deserialize(final JsonParser p, final DeserializationContext ctxt) throws IOException {
+			return new StringBuilder(p.getText()).reverse().toString();
+		}
+	}
+
+	record Contact(@Sanitize(using = {TrimSanitizer.class, LowerCaseSanitizer.class}) String email,
+			@JsonProperty("display") @Sanitize(using = TrimSanitizer.class) String name) {
+	}
+
+	static class Code {
+		@Sanitize(using = UpperCaseSanitizer.class)
+		final String value;
+
+		final String note;
+
+		@JsonCreator
+		Code(@JsonProperty("value") final String value, @JsonProperty("note") final String note) {
+			this.value = value;
+			this.note = note;
+		}
+	}
+
+	@JsonDeserialize(builder = Built.Builder.class)
+	static class Built {
+		@Sanitize(using = TrimSanitizer.class)
+		final String value;
+
+		Built(final String value) {
+			this.value = value;
+		}
+
+		@JsonPOJOBuilder(withPrefix = "")
+		static class Builder {
+			private String value;
+
+			public Builder value(final String value) {
+				this.value = value;
+				return this;
+			}
+
+			public Built build() {
+				return new Built(value);
+			}
+		}
+	}
+}
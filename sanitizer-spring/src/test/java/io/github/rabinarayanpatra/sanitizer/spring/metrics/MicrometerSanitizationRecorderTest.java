@@ -0,0 +1,73 @@
+package io.github.rabinarayanpatra.sanitizer.spring.metrics;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.github.rabinarayanpatra.sanitizer.annotation.Sanitize;
+import io.github.rabinarayanpatra.sanitizer.builtin.LowerCaseSanitizer;
+import io.github.rabinarayanpatra.sanitizer.builtin.TrimSanitizer;
+import io.github.rabinarayanpatra.sanitizer.core.SanitizationUtils;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MicrometerSanitizationRecorderTest {
+
+	final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+	final MicrometerSanitizationRecorder recorder = new MicrometerSanitizationRecorder(registry);
+
+	@BeforeEach
+	void install() {
+		recorder.afterPropertiesSet();
+	}
+
+	@AfterEach
+	void uninstall() {
+		recorder.destroy();
+	}
+
+	@Test
+	void apply_recordsBeanAndStepMeters() {
+		final Signup changed = new Signup();
+		changed.email = "  Jane@Example.com ";
+		final Signup clean = new Signup();
+		clean.email = "joe@example.com";
+		SanitizationUtils.apply(changed);
+		SanitizationUtils.applyAll(List.of(clean, new Signup()));
+
+		final String type = Signup.class.getName();
+		assertEquals(3.0, registry.get("sanitizer.beans").tag("class", type).counter().count());
+		assertEquals(2L, registry.get("sanitizer.plan").tag("class", type).timer().count());
+		assertEquals(3L, registry.get("sanitizer.calls").tag("field", "email")
+				.tag("sanitizer", "TrimSanitizer+LowerCaseSanitizer").timer().count());
+		assertEquals(1.0, outcome("changed"));
+		assertEquals(1.0, outcome("unchanged"));
+		assertEquals(1.0, outcome("null"));
+	}
+
+	@Test
+	void afterPropertiesSet_publishesPlanCacheStatistics() {
+		SanitizationUtils.apply(new Signup());
+		SanitizationUtils.apply(new Signup());
+
+		assertTrue(registry.get("sanitizer.plan.cache.hits").functionCounter().count() > 0);
+		assertTrue(registry.get("sanitizer.plan.cache.size").gauge().value() > 0);
+		assertNotNull(registry.get("sanitizer.plan.cache.evictions").functionCounter());
+	}
+
+	private double outcome(final String outcome) {
+		return registry.get("sanitizer.values").tag("class", Signup.class.getName()).tag("outcome", outcome)
+				.counter().count();
+	}
+
+	static class Signup {
+		@Sanitize(using = {TrimSanitizer.class, LowerCaseSanitizer.class})
+		String email;
+	}
+}
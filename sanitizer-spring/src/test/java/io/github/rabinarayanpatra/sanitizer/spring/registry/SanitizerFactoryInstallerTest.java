@@ -0,0 +1,75 @@
+package io.github.rabinarayanpatra.sanitizer.spring.registry;
+
+import java.util.Map;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.test.annotation.DirtiesContext;
+
+import io.github.rabinarayanpatra.sanitizer.annotation.Sanitize;
+import io.github.rabinarayanpatra.sanitizer.builtin.LowerCaseSanitizer;
+import io.github.rabinarayanpatra.sanitizer.core.FieldSanitizer;
+import io.github.rabinarayanpatra.sanitizer.core.SanitizationUtils;
+import io.github.rabinarayanpatra.sanitizer.core.SanitizerFactory;
+import io.github.rabinarayanpatra.sanitizer.spring.registry.SanitizerFactoryInstallerTest.TestConfig;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// closing the context afterwards restores the default factory for the other tests
+@SpringBootTest(classes = TestConfig.class)
+@DirtiesContext
+class SanitizerFactoryInstallerTest {
+
+	@Autowired
+	ApplicationContext context;
+
+	@Test
+	void apply_usesSanitizerFactoryDefinedByTheApplication() {
+		final Comment comment = new Comment();
+		comment.text = "Hello";
+		SanitizationUtils.apply(comment);
+		assertEquals("hello!", comment.text);
+	}
+
+	@Test
+	void customSanitizerFactoryReplacesTheDefaultOne() {
+		assertTrue(context.getBeansOfType(SpringSanitizerFactory.class).isEmpty());
+	}
+
+	static class ExclaimingFactory implements SanitizerFactory {
+		@Override
+		public @Nullable FieldSanitizer<?> getSanitizer(final Class<? extends FieldSanitizer<?>> type,
+				final Map<String, String> params) {
+			if (type != LowerCaseSanitizer.class) {
+				return null;
+			}
+			return new LowerCaseSanitizer() {
+				@Override
+				public @Nullable String sanitize(final @Nullable String input) {
+					final @Nullable String lower = super.sanitize(input);
+					return lower == null ? null : lower + "!";
+				}
+			};
+		}
+	}
+
+	static class Comment {
+		@Sanitize(using = LowerCaseSanitizer.class)
+		String text;
+	}
+
+	// not a @Configuration, so that the component scans of the other tests do not pick up the custom factory
+	@EnableAutoConfiguration
+	static class TestConfig {
+		@Bean
+		SanitizerFactory exclaimingFactory() {
+			return new ExclaimingFactory();
+		}
+	}
+}
@@ -0,0 +1,99 @@
+package io.github.rabinarayanpatra.sanitizer.spring.registry;
+
+import java.util.Set;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.stereotype.Component;
+
+import io.github.rabinarayanpatra.sanitizer.annotation.Sanitize;
+import io.github.rabinarayanpatra.sanitizer.builtin.TruncateSanitizer;
+import io.github.rabinarayanpatra.sanitizer.core.FieldSanitizer;
+import io.github.rabinarayanpatra.sanitizer.core.SanitizationUtils;
+import io.github.rabinarayanpatra.sanitizer.core.SanitizerInstantiationException;
+import io.github.rabinarayanpatra.sanitizer.spring.registry.SpringSanitizerFactoryTest.TestConfig;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest(classes = TestConfig.class)
+class SpringSanitizerFactoryTest {
+
+	@Autowired
+	SanitizerRegistry registry;
+
+	@Test
+	void apply_usesSanitizerBeanWithInjectedDependency() {
+		final Comment comment = new Comment();
+		comment.text = "what the heck";
+		SanitizationUtils.apply(comment);
+		assertEquals("what the ****", comment.text);
+	}
+
+	@Test
+	void apply_configuresOwnInstanceWithoutTouchingTheSharedBean() {
+		final Comment comment = new Comment();
+		comment.title = "abcdefgh";
+		SanitizationUtils.apply(comment);
+		assertEquals("abcd", comment.title);
+		// the registered bean keeps its default limit of 255
+		assertEquals(255, registry.get(TruncateSanitizer.class).sanitize("a".repeat(300)).length());
+	}
+
+	@Test
+	void apply_rejectsInvalidParamsWithSanitizerInstantiationException() {
+		final InvalidTitle invalid = new InvalidTitle();
+		invalid.title = "abcdefgh";
+		assertThrows(SanitizerInstantiationException.class, () -> SanitizationUtils.apply(invalid));
+	}
+
+	@Component
+	static class BannedWords {
+		final Set<String> words = Set.of("heck");
+	}
+
+	@Component
+	static class BannedWordSanitizer implements FieldSanitizer<String> {
+		private final BannedWords banned;
+
+		BannedWordSanitizer(final BannedWords banned) {
+			this.banned = banned;
+		}
+
+		@Override
+		public @Nullable String sanitize(final @Nullable String input) {
+			if (input == null) {
+				return null;
+			}
+			String result = input;
+			for (final String word : banned.words) {
+				result = result.replace(word, "*".repeat(word.length()));
+			}
+			return result;
+		}
+	}
+
+	static class Comment {
+		@Sanitize(using = BannedWordSanitizer.class)
+		String text;
+
+		@Sanitize(using = TruncateSanitizer.class, params = "maxLength=4")
+		String title;
+	}
+
+	static class InvalidTitle {
+		@Sanitize(using = TruncateSanitizer.class, params = "maxLength=abc")
+		String title;
+	}
+
+	@Configuration
+	@EnableAutoConfiguration
+	@ComponentScan(basePackages = "io.github.rabinarayanpatra.sanitizer")
+	static class TestConfig {
+	}
+}
@@ -0,0 +1,52 @@
+package io.github.rabinarayanpatra.sanitizer.spring.warmup;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Configuration;
+
+import io.github.rabinarayanpatra.sanitizer.annotation.Sanitize;
+import io.github.rabinarayanpatra.sanitizer.builtin.TrimSanitizer;
+import io.github.rabinarayanpatra.sanitizer.core.WarmUpReport;
+import io.github.rabinarayanpatra.sanitizer.spring.warmup.SanitizerWarmUpTest.TestConfig;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(classes = TestConfig.class, properties = {"sanitizer.warm-up.enabled=true",
+		"sanitizer.warm-up.packages=io.github.rabinarayanpatra.sanitizer.spring.warmup"})
+class SanitizerWarmUpTest {
+
+	@Autowired
+	SanitizerWarmUp warmUp;
+
+	@Test
+	void startup_plansAnnotatedClassesOfTheConfiguredPackages() {
+		final WarmUpReport report = warmUp.getReport();
+		assertNotNull(report);
+		assertTrue(report.timings().containsKey(SignUp.class));
+		assertTrue(report.timings().containsKey(AdminSignUp.class));
+		assertFalse(report.timings().containsKey(Plain.class));
+		assertTrue(report.failures().isEmpty());
+	}
+
+	static class SignUp {
+		@Sanitize(using = TrimSanitizer.class)
+		String email;
+	}
+
+	static class AdminSignUp extends SignUp {
+		String role;
+	}
+
+	static class Plain {
+		String value;
+	}
+
+	@Configuration
+	@EnableAutoConfiguration
+	static class TestConfig {
+	}
+}